@@ -0,0 +1,58 @@
+package dev.agiro.matriarch.benchmarks;
+
+import dev.agiro.matriarch.benchmarks.Fixtures.FlatPojo;
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.domain.core.MotherTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk generation of flat objects, as lists and as a seeded parallel stream, at several sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuildListBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private MotherTemplate<FlatPojo> template;
+    private MotherTemplate<FlatPojo> seeded;
+
+    @Setup
+    public void setUp() {
+        template = Mother.forClass(FlatPojo.class).freeze();
+        seeded = Mother.forClass(FlatPojo.class).withSeed(42).freeze();
+    }
+
+    @Benchmark
+    public List<FlatPojo> builderList() {
+        return Mother.forClass(FlatPojo.class).buildList(size);
+    }
+
+    @Benchmark
+    public List<FlatPojo> templateList() {
+        return template.buildList(size);
+    }
+
+    @Benchmark
+    public List<FlatPojo> seededParallelStream() {
+        return seeded.buildStream(size).parallel().toList();
+    }
+}
@@ -0,0 +1,134 @@
+package dev.agiro.matriarch.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Classes generated by the benchmarks, one shape per path of the generation pipeline.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /** Flat class with scalar fields, set through a no-args constructor. */
+    public static class FlatPojo {
+        public String name;
+        public int count;
+        public long total;
+        public double ratio;
+        public boolean active;
+        public BigDecimal amount;
+        public LocalDate day;
+        public Instant createdAt;
+        public Status status;
+    }
+
+    public enum Status { NEW, ACTIVE, CLOSED }
+
+    /** Same fields as {@link FlatPojo}, through the canonical constructor. */
+    public record FlatRecord(String name,
+                             int count,
+                             long total,
+                             double ratio,
+                             boolean active,
+                             BigDecimal amount,
+                             LocalDate day,
+                             Instant createdAt,
+                             Status status) {
+    }
+
+    /** Class only instantiable through a static factory method; the no-args one is used. */
+    public static final class Money {
+        private final BigDecimal amount;
+        private final String currency;
+
+        private Money(BigDecimal amount, String currency) {
+            this.amount = amount;
+            this.currency = currency;
+        }
+
+        public static Money zero() {
+            return new Money(BigDecimal.ZERO, "EUR");
+        }
+
+        public static Money of(BigDecimal amount, String currency) {
+            return new Money(amount, currency);
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+    }
+
+    /** Root of a graph five levels deep, with a back reference to exercise cycle detection. */
+    public static class Company {
+        public String name;
+        public Address headquarters;
+        public List<Department> departments;
+    }
+
+    public static class Department {
+        public String name;
+        public Company company;
+        public List<Team> teams;
+    }
+
+    public static class Team {
+        public String name;
+        public Employee lead;
+        public List<Employee> members;
+    }
+
+    public static class Employee {
+        public String firstName;
+        public String lastName;
+        public Address address;
+        public Money salary;
+    }
+
+    public static class Address {
+        public String street;
+        public String city;
+        public String zipCode;
+    }
+
+    /** Generic container generated through a {@code TypeReference}. */
+    public static class Page<T> {
+        public int number;
+        public int size;
+        public List<T> content;
+        public Map<String, T> byId;
+    }
+
+    /** Aggregate dominated by collections, arrays and maps. */
+    public static class Catalog {
+        public String name;
+        public List<FlatPojo> products;
+        public Set<String> tags;
+        public Map<String, Integer> stock;
+        public Map<String, Address> warehouses;
+        public long[] barcodes;
+        public byte[] thumbnail;
+    }
+
+    /** String fields whose names match the built-in known patterns. */
+    public static class Contact {
+        public String id;
+        public String firstName;
+        public String lastName;
+        public String email;
+        public String phone;
+        public String zipCode;
+        public String nickname;
+        public String notes;
+    }
+}
@@ -0,0 +1,138 @@
+package dev.agiro.matriarch.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.agiro.matriarch.benchmarks.Fixtures.Catalog;
+import dev.agiro.matriarch.benchmarks.Fixtures.Company;
+import dev.agiro.matriarch.benchmarks.Fixtures.Contact;
+import dev.agiro.matriarch.benchmarks.Fixtures.FlatPojo;
+import dev.agiro.matriarch.benchmarks.Fixtures.FlatRecord;
+import dev.agiro.matriarch.benchmarks.Fixtures.Money;
+import dev.agiro.matriarch.benchmarks.Fixtures.Page;
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.domain.core.MotherTemplate;
+import dev.agiro.matriarch.domain.model.Overrider;
+import dev.agiro.matriarch.domain.model.TypeReference;
+import dev.agiro.matriarch.util.JsonOverrides;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One object per invocation, for every shape of {@link Fixtures}.
+ * <p>
+ * The {@code builder} benchmarks configure a new {@link Mother.Builder} on every call, as most
+ * tests do; the {@code template} ones reuse a frozen {@link MotherTemplate}, so the difference
+ * between both is the cost of planning a class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+
+    private static final String JSON_OVERRIDES = """
+            {
+              "name": "ACME",
+              "headquarters": {"street": "Main Street 1", "city": "Barcelona", "zipCode": "08001"},
+              "departments": [
+                {"name": "Sales", "teams": [{"name": "North", "lead": {"firstName": "Ada", "lastName": "King"}}]},
+                {"name": "Engineering", "teams": [{"name": "Platform"}]}
+              ]
+            }
+            """;
+
+    private static final TypeReference<Page<FlatPojo>> PAGE_OF_POJOS = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MotherTemplate<FlatPojo> flatPojoTemplate;
+    private MotherTemplate<Company> deepGraphTemplate;
+
+    @Setup
+    public void setUp() {
+        flatPojoTemplate = Mother.forClass(FlatPojo.class).freeze();
+        deepGraphTemplate = deepGraph().freeze();
+    }
+
+    @Benchmark
+    public FlatPojo flatPojoBuilder() {
+        return Mother.forClass(FlatPojo.class).build();
+    }
+
+    @Benchmark
+    public FlatPojo flatPojoTemplate() {
+        return flatPojoTemplate.build();
+    }
+
+    @Benchmark
+    public FlatRecord record() {
+        return Mother.forClass(FlatRecord.class).build();
+    }
+
+    @Benchmark
+    public Money staticFactory() {
+        return Mother.forClass(Money.class).build();
+    }
+
+    @Benchmark
+    public Company deepGraphBuilder() {
+        return deepGraph().build();
+    }
+
+    @Benchmark
+    public Company deepGraphTemplate() {
+        return deepGraphTemplate.build();
+    }
+
+    @Benchmark
+    public Page<FlatPojo> genericTypeReference() {
+        return Mother.forType(PAGE_OF_POJOS).withCollectionSize(5, 10).build();
+    }
+
+    @Benchmark
+    public Catalog collectionHeavy() {
+        return Mother.forClass(Catalog.class)
+                .withCollectionSize(20, 50)
+                .withCollectionSize("thumbnail", 16 * 1024)
+                .build();
+    }
+
+    /**
+     * JSON overrides parsed and flattened as {@code @MotherSource(jsonOverrides = ...)} does, plus
+     * regex overrides, on every call.
+     */
+    @Benchmark
+    public Company overrideHeavy() throws Exception {
+        final Mother.Builder<Company> builder = deepGraph();
+        for (Map.Entry<String, Overrider> override : JsonOverrides.flatten(objectMapper.readTree(JSON_OVERRIDES)).entrySet()) {
+            builder.override(override.getKey(), override.getValue());
+        }
+        return builder
+                .override("departments[0].teams[0].lead.address.zipCode", Overrider.regex("\\d{5}"))
+                .override("departments[1].teams[0].name", Overrider.regex("[A-Z][a-z]{4,9} (squad|crew)"))
+                .override("departments[1].teams[0].lead.salary.currency", Overrider.regex("EUR|USD|GBP"))
+                .build();
+    }
+
+    /** Every String field is matched against the known patterns; most of them hit one. */
+    @Benchmark
+    public Contact knownPatterns() {
+        return Mother.forClass(Contact.class).build();
+    }
+
+    private static Mother.Builder<Company> deepGraph() {
+        return Mother.forClass(Company.class).withCollectionSize(2, 4);
+    }
+}
@@ -0,0 +1,59 @@
+package dev.agiro.matriarch.benchmarks;
+
+import dev.agiro.matriarch.util.RegexGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RegexGenerator} alone: {@code generate} looks the compiled program up in the cache on
+ * every call, {@code compiled} reuses it and appends into a reused buffer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegexBenchmark {
+
+    @Param({
+            "\\d{4}",
+            "[A-Z]{3}-\\d{6}",
+            "[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}",
+            "(ORD|INV|CRN)-[0-9a-f]{8}-(draft|final)"
+    })
+    public String regex;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final StringBuilder buffer = new StringBuilder();
+    private RegexGenerator.Program program;
+
+    @Setup
+    public void setUp() {
+        program = RegexGenerator.compile(regex);
+    }
+
+    @Benchmark
+    public String generate() {
+        return RegexGenerator.generate(regex, random);
+    }
+
+    @Benchmark
+    public StringBuilder compiled() {
+        buffer.setLength(0);
+        program.generate(random, buffer);
+        return buffer;
+    }
+}
@@ -0,0 +1,63 @@
+package dev.agiro.matriarch.benchmarks;
+
+import dev.agiro.matriarch.benchmarks.Fixtures.Contact;
+import dev.agiro.matriarch.benchmarks.Fixtures.FlatPojo;
+import dev.agiro.matriarch.domain.core.Mother;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start: the first build in a new JVM, as in a short-lived forked test JVM. Every fork
+ * measures a single call, so the score is the mean over the forks.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    /** Starts {@link Mother#preinitialize()} and waits for it before the measured build. */
+    @State(Scope.Benchmark)
+    public static class Preinitialized {
+        @Setup(Level.Trial)
+        public void setUp() {
+            Mother.preinitialize().join();
+        }
+    }
+
+    @Benchmark
+    public FlatPojo firstPlainBuild() {
+        return Mother.forClass(FlatPojo.class).build();
+    }
+
+    @Benchmark
+    public Contact firstKnownPatternBuild() {
+        return Mother.forClass(Contact.class).build();
+    }
+
+    @Benchmark
+    public FlatPojo firstConvertedOverrideBuild() {
+        return Mother.forClass(FlatPojo.class)
+                .forField("amount", "12.50")
+                .forField("day", "2025-01-31")
+                .forField("status", "ACTIVE")
+                .build();
+    }
+
+    @Benchmark
+    public FlatPojo firstBuildAfterPreinitialization(Preinitialized preinitialized) {
+        return Mother.forClass(FlatPojo.class).build();
+    }
+}
@@ -0,0 +1,79 @@
+package dev.agiro.matriarch.domain.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs a {@link GenerationPlan} off the caller thread, on virtual threads unless an executor is
+ * given.
+ * <p>
+ * Bulk generation splits the index range into a few partitions per core, and every object is
+ * built from its index with {@link GenerationPlan#executeAt(long)}. The objects are so the same
+ * whatever the executor and the order in which partitions run: with a seed, they are those of
+ * {@link Mother.Builder#buildStream(int)}.
+ */
+final class AsyncGeneration {
+
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = Thread.ofVirtual().name("matriarch-async-", 0).factory();
+
+    /** Starts every task on a new virtual thread. */
+    static final Executor VIRTUAL_THREADS = task -> VIRTUAL_THREAD_FACTORY.newThread(task).start();
+
+    private static final int PARTITIONS_PER_CORE = 4;
+
+    private AsyncGeneration() {
+    }
+
+    static <R> CompletableFuture<R> build(GenerationPlan<R> plan, Executor executor) {
+        return CompletableFuture.supplyAsync(plan::execute, executor);
+    }
+
+    static <R> CompletableFuture<List<R>> buildList(GenerationPlan<R> plan, int count, Executor executor) {
+        validateCount(count);
+        final Object[] results = new Object[count];
+        return forEachIndex(count, executor, index -> results[index] = plan.executeAt(index))
+                .thenApply(done -> {
+                    @SuppressWarnings("unchecked")
+                    final List<R> list = (List<R>) new ArrayList<>(Arrays.asList(results));
+                    return list;
+                });
+    }
+
+    static <R> CompletableFuture<Void> generateInto(GenerationPlan<R> plan,
+                                                    int count,
+                                                    Executor executor,
+                                                    Consumer<? super R> consumer) {
+        validateCount(count);
+        return forEachIndex(count, executor, index -> consumer.accept(plan.executeAt(index)));
+    }
+
+    /**
+     * Run an action for every index of {@code [0, count)}, one task per partition of the range.
+     */
+    private static CompletableFuture<Void> forEachIndex(int count, Executor executor, IntConsumer action) {
+        final int partitions = Math.min(count, Runtime.getRuntime().availableProcessors() * PARTITIONS_PER_CORE);
+        final CompletableFuture<?>[] tasks = new CompletableFuture<?>[partitions];
+        for (int p = 0; p < partitions; p++) {
+            final int from = (int) ((long) count * p / partitions);
+            final int to = (int) ((long) count * (p + 1) / partitions);
+            tasks[p] = CompletableFuture.runAsync(() -> {
+                for (int index = from; index < to; index++) {
+                    action.accept(index);
+                }
+            }, executor);
+        }
+        return CompletableFuture.allOf(tasks);
+    }
+
+    private static void validateCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must be non-negative: " + count);
+        }
+    }
+}
@@ -19,9 +19,49 @@ public class BuilderConfiguration<R> {
     private final Set<String> excludedFields = new HashSet<>();
     private Integer collectionSizeMin = 1;
     private Integer collectionSizeMax = 15;
+    private final Map<String, Integer> collectionSizes = new HashMap<>();
+    private boolean directByteBuffers = false;
+    private int parallelThreshold = 0;
     private Long seed = null;
+    private String randomAlgorithm = null;
+    private int maxDepth = GenerationSession.DEFAULT_MAX_DEPTH;
+    private final Map<Class<?>, Integer> typeMaxDepths = new HashMap<>();
+    private CyclePolicy cyclePolicy = CyclePolicy.NULL;
     private boolean strictMode = false;
     private boolean debugMode = false;
+    private int version = 0;
+
+    /**
+     * Create an independent copy of this configuration, so that strategies can be applied
+     * without mutating the builder the copy comes from.
+     */
+    public BuilderConfiguration<R> copy() {
+        BuilderConfiguration<R> copy = new BuilderConfiguration<>();
+        copy.overrides.putAll(overrides);
+        copy.typeOverrides.putAll(typeOverrides);
+        copy.excludedFields.addAll(excludedFields);
+        copy.collectionSizeMin = collectionSizeMin;
+        copy.collectionSizeMax = collectionSizeMax;
+        copy.collectionSizes.putAll(collectionSizes);
+        copy.directByteBuffers = directByteBuffers;
+        copy.parallelThreshold = parallelThreshold;
+        copy.seed = seed;
+        copy.randomAlgorithm = randomAlgorithm;
+        copy.maxDepth = maxDepth;
+        copy.typeMaxDepths.putAll(typeMaxDepths);
+        copy.cyclePolicy = cyclePolicy;
+        copy.strictMode = strictMode;
+        copy.debugMode = debugMode;
+        return copy;
+    }
+
+    /**
+     * Modification counter, incremented on every change made through this configuration.
+     * Used to detect when a compiled {@link GenerationPlan} is stale.
+     */
+    public int getVersion() {
+        return version;
+    }
 
     public Map<String, Overrider> getOverrides() {
         return overrides;
@@ -45,22 +85,57 @@ public class BuilderConfiguration<R> {
 
     public void setCollectionSizeMin(Integer collectionSizeMin) {
         this.collectionSizeMin = collectionSizeMin;
+        version++;
     }
 
     public void setCollectionSizeMax(Integer collectionSizeMax) {
         this.collectionSizeMax = collectionSizeMax;
+        version++;
+    }
+
+    /**
+     * Sizes of the collections, arrays and buffers at specific override coordinates.
+     */
+    public Map<String, Integer> getCollectionSizes() {
+        return collectionSizes;
+    }
+
+    public void addCollectionSize(String coordinate, int size) {
+        collectionSizes.put(coordinate, size);
+        version++;
+    }
+
+    public boolean isDirectByteBuffers() {
+        return directByteBuffers;
+    }
+
+    public void setDirectByteBuffers(boolean directByteBuffers) {
+        this.directByteBuffers = directByteBuffers;
+        version++;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+        version++;
     }
 
     public void addOverride(String key, Overrider value) {
         overrides.put(key, value);
+        version++;
     }
 
     public void addTypeOverride(Class<?> type, Supplier<?> generator) {
         typeOverrides.put(type, generator);
+        version++;
     }
 
     public void addExcludedFields(String... fields) {
         excludedFields.addAll(Set.of(fields));
+        version++;
     }
 
     public boolean hasOverride(String key) {
@@ -73,6 +148,46 @@ public class BuilderConfiguration<R> {
 
     public void setSeed(Long seed) {
         this.seed = seed;
+        version++;
+    }
+
+    /**
+     * The {@link RandomSources random algorithm}, or {@code null} for the default one.
+     */
+    public String getRandomAlgorithm() {
+        return randomAlgorithm;
+    }
+
+    public void setRandomAlgorithm(String randomAlgorithm) {
+        this.randomAlgorithm = randomAlgorithm;
+        version++;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+        version++;
+    }
+
+    public Map<Class<?>, Integer> getTypeMaxDepths() {
+        return typeMaxDepths;
+    }
+
+    public void addTypeMaxDepth(Class<?> type, int maxDepth) {
+        typeMaxDepths.put(type, maxDepth);
+        version++;
+    }
+
+    public CyclePolicy getCyclePolicy() {
+        return cyclePolicy;
+    }
+
+    public void setCyclePolicy(CyclePolicy cyclePolicy) {
+        this.cyclePolicy = cyclePolicy;
+        version++;
     }
 
     public boolean isStrictMode() {
@@ -81,6 +196,7 @@ public class BuilderConfiguration<R> {
 
     public void setStrictMode(boolean strictMode) {
         this.strictMode = strictMode;
+        version++;
     }
 
     public boolean isDebugMode() {
@@ -89,6 +205,7 @@ public class BuilderConfiguration<R> {
 
     public void setDebugMode(boolean debugMode) {
         this.debugMode = debugMode;
+        version++;
     }
 }
 
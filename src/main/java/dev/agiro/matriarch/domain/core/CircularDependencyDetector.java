@@ -1,21 +1,23 @@
 package dev.agiro.matriarch.domain.core;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
  * Detects circular dependencies during object generation.
- * Uses ThreadLocal to maintain a stack of classes being generated per thread.
+ * Delegates to the class stack of the {@link GenerationSession} bound to the current thread;
+ * generators use the session of their Definition directly.
+ * <p>
+ * Outside a build, the stack is kept in a session of the current thread that is created by the
+ * first {@link #push} or {@link #executeWithDetection} and dropped once the stack is empty again
+ * or {@link #clear() cleared}, so pooled threads keep nothing between uses.
  */
 public class CircularDependencyDetector {
     
     private static final CircularDependencyDetector INSTANCE = new CircularDependencyDetector();
     
-    private final ThreadLocal<Set<Class<?>>> generationStack = ThreadLocal.withInitial(HashSet::new);
-    private final ThreadLocal<Integer> depthCounter = ThreadLocal.withInitial(() -> 0);
-    
-    private static final int MAX_DEPTH = 50; // Maximum nesting depth
-    
+    private final ThreadLocal<GenerationSession> standalone = new ThreadLocal<>();
+
     private CircularDependencyDetector() {
         // Private constructor for singleton
     }
@@ -29,37 +31,42 @@ public class CircularDependencyDetector {
      * This indicates a circular dependency.
      */
     public boolean isCircular(Class<?> clazz) {
-        return generationStack.get().contains(clazz);
+        final GenerationSession session = session();
+        return session != null && session.isCircular(clazz);
     }
     
     /**
      * Check if we've exceeded the maximum nesting depth.
      */
     public boolean isMaxDepthExceeded() {
-        return depthCounter.get() >= MAX_DEPTH;
+        final GenerationSession session = session();
+        return session != null && session.isMaxDepthExceeded();
     }
     
     /**
      * Get the current nesting depth.
      */
     public int getDepth() {
-        return depthCounter.get();
+        final GenerationSession session = session();
+        return session == null ? 0 : session.getDepth();
     }
     
     /**
      * Push a class onto the generation stack and increment depth.
      */
     public void push(Class<?> clazz) {
-        generationStack.get().add(clazz);
-        depthCounter.set(depthCounter.get() + 1);
+        sessionForUpdate().enter(clazz);
     }
     
     /**
      * Pop a class from the generation stack and decrement depth.
      */
     public void pop(Class<?> clazz) {
-        generationStack.get().remove(clazz);
-        depthCounter.set(Math.max(0, depthCounter.get() - 1));
+        final GenerationSession session = session();
+        if (session != null) {
+            session.exit(clazz);
+            releaseIfEmpty(session);
+        }
     }
     
     /**
@@ -67,8 +74,11 @@ public class CircularDependencyDetector {
      * Should be called after completing a top-level generation.
      */
     public void clear() {
-        generationStack.get().clear();
-        depthCounter.set(0);
+        final GenerationSession session = GenerationSession.bound();
+        if (session != null) {
+            session.clearFrames();
+        }
+        standalone.remove();
     }
     
     /**
@@ -76,19 +86,11 @@ public class CircularDependencyDetector {
      * Returns null if circular dependency is detected instead of throwing an exception.
      */
     public <T> T executeWithDetection(Class<?> clazz, GenerationOperation<T> operation) {
-        if (isCircular(clazz)) {
-            return null; // Return null to break the cycle
-        }
-        
-        if (isMaxDepthExceeded()) {
-            return null; // Prevent stack overflow
-        }
-        
-        push(clazz);
+        final GenerationSession session = sessionForUpdate();
         try {
-            return operation.generate();
+            return session.withFrame(clazz, operation::generate);
         } finally {
-            pop(clazz);
+            releaseIfEmpty(session);
         }
     }
     
@@ -96,12 +98,35 @@ public class CircularDependencyDetector {
      * Get a copy of the current generation stack (for debugging).
      */
     public Set<Class<?>> getCurrentStack() {
-        return new HashSet<>(generationStack.get());
+        final GenerationSession session = session();
+        return session == null ? new LinkedHashSet<>() : session.frames();
     }
     
+    /**
+     * The session of the current build, or the standalone session of the thread, or null.
+     */
+    private GenerationSession session() {
+        final GenerationSession session = GenerationSession.bound();
+        return session != null ? session : standalone.get();
+    }
+
+    private GenerationSession sessionForUpdate() {
+        GenerationSession session = session();
+        if (session == null) {
+            session = new GenerationSession(GenerationContext.Config.defaults());
+            standalone.set(session);
+        }
+        return session;
+    }
+
+    private void releaseIfEmpty(GenerationSession session) {
+        if (session.getDepth() == 0 && standalone.get() == session) {
+            standalone.remove();
+        }
+    }
+
     @FunctionalInterface
     public interface GenerationOperation<T> {
         T generate();
     }
 }
-
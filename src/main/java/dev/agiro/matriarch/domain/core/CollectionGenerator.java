@@ -4,8 +4,10 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.LongFunction;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Handles generation of collections of objects.
@@ -16,50 +18,65 @@ import java.util.stream.Stream;
  */
 public class CollectionGenerator<R> {
     private final Supplier<R> objectSupplier;
+    private final Supplier<LongFunction<R>> indexedSupplier;
 
     public CollectionGenerator(Supplier<R> objectSupplier) {
+        this(objectSupplier, () -> index -> objectSupplier.get());
+    }
+
+    /**
+     * @param indexedSupplier provides, once per stream, the function building the object at an index
+     */
+    CollectionGenerator(Supplier<R> objectSupplier, Supplier<LongFunction<R>> indexedSupplier) {
         this.objectSupplier = objectSupplier;
+        this.indexedSupplier = indexedSupplier;
     }
 
     /**
-     * Generate multiple objects and return as a List.
+     * Generate multiple objects and return as a List. Each object is built from its index, like
+     * the objects of {@link #generateStream(int)}.
      *
      * @param count the number of objects to generate
      * @return a list of generated objects
      */
     public List<R> generateList(int count) {
         validateCount(count);
+        final LongFunction<R> objectAt = indexedSupplier.get();
         List<R> result = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
-            result.add(objectSupplier.get());
+            result.add(objectAt.apply(i));
         }
         return result;
     }
 
     /**
-     * Generate multiple objects and return as a Set.
+     * Generate multiple objects and return as a Set. Each object is built from its index, like
+     * the objects of {@link #generateStream(int)}.
      *
      * @param count the number of objects to generate
      * @return a set of generated objects
      */
     public Set<R> generateSet(int count) {
         validateCount(count);
+        final LongFunction<R> objectAt = indexedSupplier.get();
         Set<R> result = new HashSet<>(count);
         for (int i = 0; i < count; i++) {
-            result.add(objectSupplier.get());
+            result.add(objectAt.apply(i));
         }
         return result;
     }
 
     /**
-     * Generate multiple objects and return as a Stream.
+     * Generate multiple objects and return as a Stream. The stream is sized and splits evenly,
+     * and each object is built from its index, so a parallel stream uses every core and still
+     * yields the same objects as a sequential one.
      *
      * @param count the number of objects to generate
      * @return a stream of generated objects
      */
     public Stream<R> generateStream(int count) {
         validateCount(count);
-        return Stream.generate(objectSupplier).limit(count);
+        return StreamSupport.stream(new IndexedSpliterator<>(0, count, indexedSupplier.get()), false);
     }
 
     /**
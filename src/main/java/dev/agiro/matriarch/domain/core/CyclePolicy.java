@@ -0,0 +1,14 @@
+package dev.agiro.matriarch.domain.core;
+
+/**
+ * What to generate when an object refers back to a class that is already being generated
+ * higher up in the same object graph.
+ */
+public enum CyclePolicy {
+    /** Leave the reference null. Collections of the cyclic type contain null elements. */
+    NULL,
+    /** Reuse the nearest ancestor instance of the same class, closing the cycle. */
+    REUSE_ANCESTOR,
+    /** Generate collections and maps of the cyclic type empty; other references are left null. */
+    EMPTY_COLLECTION
+}
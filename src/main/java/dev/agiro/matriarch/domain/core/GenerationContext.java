@@ -1,80 +1,159 @@
 package dev.agiro.matriarch.domain.core;
 
-import java.security.SecureRandom;
+import java.util.Map;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
- * Thread-local context that carries configuration through the generation pipeline.
- * Follows the same ThreadLocal pattern as {@link CircularDependencyDetector}.
+ * Thread-local view of the {@link GenerationSession} of the current generation.
+ * <p>
+ * Generators receive their session through the {@link dev.agiro.matriarch.domain.model.Definition}
+ * they generate; this class remains for code that is not handed one, such as custom suppliers.
+ * Outside a build it exposes a default session.
  */
 public class GenerationContext {
 
     private static final GenerationContext INSTANCE = new GenerationContext();
 
-    private final ThreadLocal<Config> currentConfig = ThreadLocal.withInitial(Config::defaults);
-
     private GenerationContext() {}
 
     public static GenerationContext getInstance() {
         return INSTANCE;
     }
 
+    /**
+     * Bind a new session with the given configuration to the current thread.
+     */
     public void set(Config config) {
-        currentConfig.set(config);
+        GenerationSession.bind(new GenerationSession(config));
     }
 
+    /**
+     * Remove the session bound to the current thread.
+     */
     public void clear() {
-        currentConfig.remove();
+        GenerationSession.restore(null);
     }
 
+    /**
+     * The session bound to the current thread.
+     */
+    public GenerationSession getSession() {
+        return GenerationSession.current();
+    }
+
+    /**
+     * The random generator of the current generation.
+     */
+    public RandomGenerator getRandomGenerator() {
+        return GenerationSession.current().random();
+    }
+
+    /**
+     * The random generator of the current generation, adapted to {@link Random}.
+     * Prefer {@link #getRandomGenerator()}.
+     */
     public Random getRandom() {
-        return currentConfig.get().random;
+        final RandomGenerator random = getRandomGenerator();
+        return random instanceof Random r ? r : Random.from(random);
     }
 
     public int getCollectionSizeMin() {
-        return currentConfig.get().collectionSizeMin;
+        return GenerationSession.current().getCollectionSizeMin();
     }
 
     public int getCollectionSizeMax() {
-        return currentConfig.get().collectionSizeMax;
+        return GenerationSession.current().getCollectionSizeMax();
     }
 
     public boolean isStrictMode() {
-        return currentConfig.get().strictMode;
+        return GenerationSession.current().isStrictMode();
     }
 
     public boolean isDebugMode() {
-        return currentConfig.get().debugMode;
+        return GenerationSession.current().isDebugMode();
     }
 
     /**
      * Generate a random collection size within the configured range.
      */
     public int randomCollectionSize() {
-        int min = getCollectionSizeMin();
-        int max = getCollectionSizeMax();
-        if (min == max) return min;
-        return min + getRandom().nextInt(max - min + 1);
+        return GenerationSession.current().randomCollectionSize();
     }
 
     public static class Config {
-        private final Random random;
+        private final RandomGenerator random;
         private final int collectionSizeMin;
         private final int collectionSizeMax;
         private final boolean strictMode;
         private final boolean debugMode;
-
-        private Config(Random random, int collectionSizeMin, int collectionSizeMax,
-                       boolean strictMode, boolean debugMode) {
-            this.random = random;
-            this.collectionSizeMin = collectionSizeMin;
-            this.collectionSizeMax = collectionSizeMax;
-            this.strictMode = strictMode;
-            this.debugMode = debugMode;
+        private final int maxDepth;
+        private final Map<Class<?>, Integer> typeMaxDepths;
+        private final CyclePolicy cyclePolicy;
+        private final boolean directByteBuffers;
+        private final int parallelThreshold;
+        private final String randomAlgorithm;
+
+        private Config(Builder builder) {
+            this.random = builder.random != null ? builder.random : RandomSources.create(builder.randomAlgorithm, null);
+            this.collectionSizeMin = builder.collectionSizeMin;
+            this.collectionSizeMax = builder.collectionSizeMax;
+            this.strictMode = builder.strictMode;
+            this.debugMode = builder.debugMode;
+            this.maxDepth = builder.maxDepth;
+            this.typeMaxDepths = Map.copyOf(builder.typeMaxDepths);
+            this.cyclePolicy = builder.cyclePolicy;
+            this.directByteBuffers = builder.directByteBuffers;
+            this.parallelThreshold = builder.parallelThreshold;
+            this.randomAlgorithm = builder.randomAlgorithm;
         }
 
         public static Config defaults() {
-            return new Config(new SecureRandom(), 1, 15, false, false);
+            return builder().build();
+        }
+
+        RandomGenerator random() {
+            return random;
+        }
+
+        int collectionSizeMin() {
+            return collectionSizeMin;
+        }
+
+        int collectionSizeMax() {
+            return collectionSizeMax;
+        }
+
+        boolean strictMode() {
+            return strictMode;
+        }
+
+        boolean debugMode() {
+            return debugMode;
+        }
+
+        int maxDepth() {
+            return maxDepth;
+        }
+
+        Map<Class<?>, Integer> typeMaxDepths() {
+            return typeMaxDepths;
+        }
+
+        CyclePolicy cyclePolicy() {
+            return cyclePolicy;
+        }
+
+        boolean directByteBuffers() {
+            return directByteBuffers;
+        }
+
+        int parallelThreshold() {
+            return parallelThreshold;
+        }
+
+        String randomAlgorithm() {
+            return randomAlgorithm;
         }
 
         public static Builder builder() {
@@ -82,17 +161,28 @@ public class GenerationContext {
         }
 
         public static class Builder {
-            private Random random = new SecureRandom();
+            private RandomGenerator random;
             private int collectionSizeMin = 1;
             private int collectionSizeMax = 15;
             private boolean strictMode = false;
             private boolean debugMode = false;
+            private int maxDepth = GenerationSession.DEFAULT_MAX_DEPTH;
+            private Map<Class<?>, Integer> typeMaxDepths = Map.of();
+            private CyclePolicy cyclePolicy = CyclePolicy.NULL;
+            private boolean directByteBuffers = false;
+            private int parallelThreshold = 0;
+            private String randomAlgorithm;
 
             public Builder random(Random random) {
                 this.random = random;
                 return this;
             }
 
+            public Builder random(RandomGenerator random) {
+                this.random = random;
+                return this;
+            }
+
             public Builder collectionSizeMin(int min) {
                 this.collectionSizeMin = min;
                 return this;
@@ -113,8 +203,49 @@ public class GenerationContext {
                 return this;
             }
 
+            public Builder maxDepth(int maxDepth) {
+                this.maxDepth = maxDepth;
+                return this;
+            }
+
+            public Builder typeMaxDepths(Map<Class<?>, Integer> typeMaxDepths) {
+                this.typeMaxDepths = typeMaxDepths;
+                return this;
+            }
+
+            public Builder cyclePolicy(CyclePolicy cyclePolicy) {
+                this.cyclePolicy = cyclePolicy;
+                return this;
+            }
+
+            /**
+             * Generate {@link java.nio.ByteBuffer ByteBuffers} as direct buffers instead of heap ones.
+             */
+            public Builder directByteBuffers(boolean direct) {
+                this.directByteBuffers = direct;
+                return this;
+            }
+
+            /**
+             * Generate the elements of collections and arrays of at least this size in parallel;
+             * {@code 0} keeps every collection sequential.
+             */
+            public Builder parallelThreshold(int threshold) {
+                this.parallelThreshold = threshold;
+                return this;
+            }
+
+            /**
+             * The {@link RandomSources random algorithm} of the session's generator when none is
+             * given, and of the generators of its forks; {@code null} for the default one.
+             */
+            public Builder randomAlgorithm(String algorithm) {
+                this.randomAlgorithm = algorithm;
+                return this;
+            }
+
             public Config build() {
-                return new Config(random, collectionSizeMin, collectionSizeMax, strictMode, debugMode);
+                return new Config(this);
             }
         }
     }
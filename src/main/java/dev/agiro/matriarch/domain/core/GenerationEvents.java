@@ -0,0 +1,118 @@
+package dev.agiro.matriarch.domain.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder events of the generation pipeline, under the {@code Matriarch} category.
+ * <p>
+ * Emitters create the event and check {@link Event#isEnabled()} first: when recording is off,
+ * that check is the only cost, and the event allocation is removed by the JIT. Builds and
+ * instantiations are recorded in full; the finer-grained events have a default threshold, which
+ * a recording can lower, e.g.
+ * {@code -XX:StartFlightRecording:dev.agiro.matriarch.FieldGenerate#threshold=0ms}.
+ */
+public final class GenerationEvents {
+
+    private static final String CATEGORY = "Matriarch";
+
+    /** {@code outcome} of a step that completed. */
+    public static final String SUCCESS = "success";
+    /** {@code outcome} of a step that was skipped: the field or object is left null. */
+    public static final String SKIPPED = "skipped";
+    /** {@code outcome} of a step that threw. */
+    public static final String FAILURE = "failure";
+
+    private GenerationEvents() {
+    }
+
+    @Name("dev.agiro.matriarch.Build")
+    @Label("Build")
+    @Category(CATEGORY)
+    @Description("Generation of one root object by a builder or a template")
+    public static final class Build extends Event {
+        @Label("Class")
+        public Class<?> type;
+        @Label("Type")
+        @Description("Full generic type, for TypeReference targets")
+        public String typeName;
+        @Label("Seeded")
+        public boolean seeded;
+        @Label("Outcome")
+        public String outcome;
+    }
+
+    @Name("dev.agiro.matriarch.Instantiate")
+    @Label("Instantiate")
+    @Category(CATEGORY)
+    @Description("Creation of an object before its fields are generated")
+    @StackTrace(false)
+    public static final class Instantiate extends Event {
+        @Label("Class")
+        public Class<?> type;
+        @Label("Coordinate")
+        public String coordinate;
+        @Label("Instantiation Path")
+        @Description("STATIC_METHOD, NO_ARGS_CONSTRUCTOR or CONSTRUCTOR")
+        public String instanceType;
+        @Label("Outcome")
+        public String outcome;
+    }
+
+    @Name("dev.agiro.matriarch.FieldGenerate")
+    @Label("Field Generate")
+    @Category(CATEGORY)
+    @Description("Generation and assignment of one field, nested objects included")
+    @StackTrace(false)
+    @Threshold("100 us")
+    public static final class FieldGenerate extends Event {
+        @Label("Owner")
+        public Class<?> owner;
+        @Label("Coordinate")
+        public String coordinate;
+        @Label("Generator")
+        public String generator;
+        @Label("Outcome")
+        public String outcome;
+    }
+
+    @Name("dev.agiro.matriarch.RegexGenerate")
+    @Label("Regex Generate")
+    @Category(CATEGORY)
+    @Description("Generation of a string matching a regex, compiling it when not cached")
+    @StackTrace(false)
+    @Threshold("100 us")
+    public static final class RegexGenerate extends Event {
+        @Label("Regex")
+        public String regex;
+        @Label("Compiled")
+        @Description("Whether the regex was parsed, rather than found in the program cache")
+        public boolean compiled;
+        @Label("Length")
+        public int length;
+        @Label("Outcome")
+        public String outcome;
+    }
+
+    @Name("dev.agiro.matriarch.OverrideConversion")
+    @Label("Override Conversion")
+    @Category(CATEGORY)
+    @Description("Conversion of an override value to the type of its field")
+    @StackTrace(false)
+    @Threshold("100 us")
+    public static final class OverrideConversion extends Event {
+        @Label("Source Type")
+        public Class<?> sourceType;
+        @Label("Target Type")
+        public Class<?> targetType;
+        @Label("Coordinate")
+        public String coordinate;
+        @Label("Outcome")
+        public String outcome;
+    }
+}
@@ -0,0 +1,180 @@
+package dev.agiro.matriarch.domain.core;
+
+import dev.agiro.matriarch.domain.model.ClassDefinition;
+import dev.agiro.matriarch.domain.model.OverrideNode;
+import dev.agiro.matriarch.domain.model.Overrider;
+import dev.agiro.matriarch.domain.model.TypeReference;
+import dev.agiro.matriarch.domain.model.TypeReferenceDefinition;
+import dev.agiro.matriarch.generators.ClassPlan;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable result of compiling a {@link Mother.Builder} configuration.
+ * <p>
+ * Compiling applies the {@link OverrideStrategy override strategies} once, freezes the
+ * resulting overrides into an {@link OverrideNode override trie} and resolves the {@link ClassPlan} of every class reachable from the
+ * target type. Executing the plan only creates a {@link GenerationSession} and walks the
+ * pre-resolved plans, so repeated builds do not rediscover the class structure.
+ * <p>
+ * A plan is immutable and may be executed concurrently from several threads. Every execution
+ * gets its own random generator; seeded plans start every execution from the seed.
+ *
+ * @param <R> the type of objects generated by this plan
+ */
+final class GenerationPlan<R> {
+
+    private final ObjectMotherGenerator objectMotherGenerator;
+    private final Class<R> clazz;
+    private final TypeReference<R> typeReference;
+    private final Map<String, Overrider> overrides;
+    private final OverrideNode overrideRoot;
+    private final int collectionSizeMin;
+    private final int collectionSizeMax;
+    private final Long seed;
+    private final String randomAlgorithm;
+    private final boolean strictMode;
+    private final boolean debugMode;
+    private final int maxDepth;
+    private final Map<Class<?>, Integer> typeMaxDepths;
+    private final CyclePolicy cyclePolicy;
+    private final boolean directByteBuffers;
+    private final int parallelThreshold;
+
+    private GenerationPlan(ObjectMotherGenerator objectMotherGenerator,
+                           Class<R> clazz,
+                           TypeReference<R> typeReference,
+                           BuilderConfiguration<R> config) {
+        this.objectMotherGenerator = objectMotherGenerator;
+        this.clazz = clazz;
+        this.typeReference = typeReference;
+        this.overrides = Collections.unmodifiableMap(new HashMap<>(config.getOverrides()));
+        this.overrideRoot = OverrideNode.compile(overrides, config.getCollectionSizes());
+        this.collectionSizeMin = config.getCollectionSizeMin();
+        this.collectionSizeMax = config.getCollectionSizeMax();
+        this.seed = config.getSeed();
+        this.randomAlgorithm = config.getRandomAlgorithm() == null ? RandomSources.defaultAlgorithm() : config.getRandomAlgorithm();
+        this.strictMode = config.isStrictMode();
+        this.debugMode = config.isDebugMode();
+        this.maxDepth = config.getMaxDepth();
+        this.typeMaxDepths = Map.copyOf(config.getTypeMaxDepths());
+        this.cyclePolicy = config.getCyclePolicy();
+        this.directByteBuffers = config.isDirectByteBuffers();
+        this.parallelThreshold = config.getParallelThreshold();
+    }
+
+    /**
+     * Compile a builder configuration. The configuration itself is left untouched: the
+     * strategies are applied to a copy.
+     */
+    static <R> GenerationPlan<R> compile(ObjectMotherGenerator objectMotherGenerator,
+                                         Class<R> clazz,
+                                         TypeReference<R> typeReference,
+                                         BuilderConfiguration<R> config,
+                                         List<OverrideStrategy> strategies) {
+        final BuilderConfiguration<R> compiled = config.copy();
+        strategies.forEach(strategy -> strategy.applyOverrides(compiled, clazz));
+        ClassPlan.compileGraph(clazz);
+        return new GenerationPlan<>(objectMotherGenerator, clazz, typeReference, compiled);
+    }
+
+    /**
+     * Generate one object in a new session.
+     */
+    R execute() {
+        return execute(newSession());
+    }
+
+    /**
+     * Generate the object at an index of a sequence, in a session of its own. Seeded plans seed
+     * it from the seed and the index only, so it is the same whatever else was generated.
+     */
+    R executeAt(long index) {
+        return execute(newSession(index));
+    }
+
+    static long validateIndex(long index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index must be non-negative: " + index);
+        }
+        return index;
+    }
+
+    /**
+     * Generate one object in the given session. The session is bound to the current thread
+     * while generating, for code that still reads the {@link GenerationContext}.
+     */
+    R execute(GenerationSession session) {
+        final boolean measured = MatriarchMetrics.isEnabled();
+        final GenerationEvents.Build event = new GenerationEvents.Build();
+        if (!measured && !event.isEnabled()) {
+            return generate(session);
+        }
+        final long allocated = measured ? MatriarchMetrics.allocatedBytes() : -1;
+        final long start = System.nanoTime();
+        event.begin();
+        String outcome = GenerationEvents.FAILURE;
+        try {
+            final R result = generate(session);
+            outcome = result == null ? GenerationEvents.SKIPPED : GenerationEvents.SUCCESS;
+            return result;
+        } finally {
+            event.end();
+            if (measured) {
+                final long elapsed = System.nanoTime() - start;
+                MatriarchMetrics.built(elapsed, allocated < 0 ? -1 : MatriarchMetrics.allocatedBytes() - allocated);
+            }
+            if (event.shouldCommit()) {
+                event.type = clazz;
+                event.typeName = typeReference != null ? typeReference.getType().getTypeName() : clazz.getName();
+                event.seeded = seed != null;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private R generate(GenerationSession session) {
+        return session.call(() -> {
+            if (typeReference != null) {
+                return objectMotherGenerator.createObject(
+                        new TypeReferenceDefinition<>(typeReference, overrides, "", overrideRoot, session));
+            }
+            return objectMotherGenerator.createObject(new ClassDefinition<>(clazz, overrides, "", overrideRoot, session));
+        });
+    }
+
+    /**
+     * A new session with this plan's configuration; seeded plans start it from the seed.
+     */
+    GenerationSession newSession() {
+        return seededSession(seed);
+    }
+
+    /**
+     * A new session for the object at an index of a sequence; seeded plans start it from a seed
+     * {@link RandomSources#derive(long, long) derived} from the seed and the index.
+     */
+    GenerationSession newSession(long index) {
+        return seededSession(seed == null ? null : RandomSources.derive(seed, index));
+    }
+
+    private GenerationSession seededSession(Long seed) {
+        return new GenerationSession(GenerationContext.Config.builder()
+                                             .random(RandomSources.create(randomAlgorithm, seed))
+                                             .collectionSizeMin(collectionSizeMin)
+                                             .collectionSizeMax(collectionSizeMax)
+                                             .strictMode(strictMode)
+                                             .debugMode(debugMode)
+                                             .maxDepth(maxDepth)
+                                             .typeMaxDepths(typeMaxDepths)
+                                             .cyclePolicy(cyclePolicy)
+                                             .directByteBuffers(directByteBuffers)
+                                             .parallelThreshold(parallelThreshold)
+                                             .randomAlgorithm(randomAlgorithm)
+                                             .build());
+    }
+}
@@ -0,0 +1,328 @@
+package dev.agiro.matriarch.domain.core;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * State of one generation: the random generator, the configuration and the stack of classes
+ * (and instances) being generated, used for depth limits and {@link CyclePolicy cycle policies}.
+ * <p>
+ * A session is created per build and carried explicitly through every
+ * {@link dev.agiro.matriarch.domain.model.Definition Definition}, so generators do not need any
+ * thread-local lookup and the generation can continue on another thread. A session is not
+ * thread-safe: work handed to another thread concurrently should use a {@link #fork()}.
+ * <p>
+ * While a build runs, its session is also bound to the current thread so that
+ * {@link GenerationContext} and {@link CircularDependencyDetector} keep working for code that
+ * still uses them. The binding is restored when the build ends.
+ */
+public final class GenerationSession {
+
+    /** Default maximum nesting depth of generated objects. */
+    public static final int DEFAULT_MAX_DEPTH = 50;
+
+    private static final ThreadLocal<GenerationSession> CURRENT = new ThreadLocal<>();
+
+    private final GenerationContext.Config config;
+    private final RandomGenerator random;
+    private Class<?>[] frames;
+    private Object[] instances;
+    private int depth;
+
+    public GenerationSession(RandomGenerator random,
+                             int collectionSizeMin,
+                             int collectionSizeMax,
+                             boolean strictMode,
+                             boolean debugMode) {
+        this(GenerationContext.Config.builder()
+                     .random(random)
+                     .collectionSizeMin(collectionSizeMin)
+                     .collectionSizeMax(collectionSizeMax)
+                     .strictMode(strictMode)
+                     .debugMode(debugMode)
+                     .build());
+    }
+
+    /**
+     * Create a session from a context configuration, drawing values from its random generator.
+     */
+    public GenerationSession(GenerationContext.Config config) {
+        this(config, config.random(), new Class<?>[8], new Object[8], 0);
+    }
+
+    private GenerationSession(GenerationContext.Config config,
+                              RandomGenerator random,
+                              Class<?>[] frames,
+                              Object[] instances,
+                              int depth) {
+        this.config = config;
+        this.random = random;
+        this.frames = frames;
+        this.instances = instances;
+        this.depth = depth;
+    }
+
+    /**
+     * The session bound to the current thread. Outside a build, a new default session that is
+     * not bound to the thread, so that nothing is left behind on pooled threads.
+     */
+    public static GenerationSession current() {
+        final GenerationSession session = CURRENT.get();
+        return session != null ? session : new GenerationSession(GenerationContext.Config.defaults());
+    }
+
+    /**
+     * The session bound to the current thread, or null outside a build.
+     */
+    static GenerationSession bound() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind a session to the current thread.
+     *
+     * @return the previously bound session, to be passed to {@link #restore(GenerationSession)}
+     */
+    static GenerationSession bind(GenerationSession session) {
+        final GenerationSession previous = CURRENT.get();
+        CURRENT.set(session);
+        return previous;
+    }
+
+    /**
+     * Restore the binding returned by {@link #bind(GenerationSession)}. Restoring {@code null}
+     * removes the binding, so pooled threads keep nothing once a build ends.
+     */
+    static void restore(GenerationSession previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Run an action with this session bound to the current thread, restoring the previous
+     * binding afterwards. Use it when generation continues on another thread.
+     */
+    public <T> T call(Supplier<T> action) {
+        final GenerationSession previous = bind(this);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * A session for work running concurrently with this one: same configuration and class
+     * stack, and a random generator of the configured algorithm derived from this session's one.
+     */
+    public GenerationSession fork() {
+        final RandomGenerator forked = random instanceof RandomGenerator.SplittableGenerator splittable
+                ? splittable.split()
+                : RandomSources.create(config.randomAlgorithm(), random.nextLong());
+        return new GenerationSession(config,
+                                     forked,
+                                     Arrays.copyOf(frames, frames.length),
+                                     Arrays.copyOf(instances, instances.length),
+                                     depth);
+    }
+
+    /**
+     * A session for one element generated concurrently with its siblings: same configuration
+     * and class stack, and a random generator of the configured algorithm started from the given
+     * seed, so that the element does not depend on the order in which siblings are generated.
+     */
+    public GenerationSession fork(long seed) {
+        return new GenerationSession(config,
+                                     RandomSources.create(config.randomAlgorithm(), seed),
+                                     Arrays.copyOf(frames, frames.length),
+                                     Arrays.copyOf(instances, instances.length),
+                                     depth);
+    }
+
+    public RandomGenerator random() {
+        return random;
+    }
+
+    public int getCollectionSizeMin() {
+        return config.collectionSizeMin();
+    }
+
+    public int getCollectionSizeMax() {
+        return config.collectionSizeMax();
+    }
+
+    public boolean isStrictMode() {
+        return config.strictMode();
+    }
+
+    public boolean isDebugMode() {
+        return config.debugMode();
+    }
+
+    public int getMaxDepth() {
+        return config.maxDepth();
+    }
+
+    public CyclePolicy getCyclePolicy() {
+        return config.cyclePolicy();
+    }
+
+    /**
+     * Whether {@link java.nio.ByteBuffer ByteBuffers} are generated as direct buffers.
+     */
+    public boolean isDirectByteBuffers() {
+        return config.directByteBuffers();
+    }
+
+    /**
+     * Whether the elements of a collection of the given size are generated in parallel.
+     */
+    public boolean isParallel(int size) {
+        final int threshold = config.parallelThreshold();
+        return threshold > 0 && size >= threshold;
+    }
+
+    /**
+     * Generate a random collection size within the configured range.
+     */
+    public int randomCollectionSize() {
+        final int min = config.collectionSizeMin();
+        final int max = config.collectionSizeMax();
+        if (min == max) return min;
+        return min + random.nextInt(max - min + 1);
+    }
+
+    /**
+     * Check if an instance of the given class is already being generated, which indicates a
+     * circular dependency.
+     */
+    public boolean isCircular(Class<?> clazz) {
+        for (int i = 0; i < depth; i++) {
+            if (frames[i] == clazz) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if the maximum nesting depth is reached.
+     */
+    public boolean isMaxDepthExceeded() {
+        return depth >= config.maxDepth();
+    }
+
+    /**
+     * Check if the depth limit configured for the given class is reached.
+     */
+    public boolean isTypeDepthExceeded(Class<?> clazz) {
+        final Map<Class<?>, Integer> typeMaxDepths = config.typeMaxDepths();
+        if (typeMaxDepths.isEmpty()) {
+            return false;
+        }
+        final Integer limit = typeMaxDepths.get(clazz);
+        return limit != null && depth >= limit;
+    }
+
+    /**
+     * The nearest instance of the given class being generated, or null if there is none or it
+     * is not created yet.
+     */
+    public Object ancestor(Class<?> clazz) {
+        for (int i = depth - 1; i >= 0; i--) {
+            if (frames[i] == clazz) {
+                return instances[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Record the instance created for the class on top of the generation stack, so that
+     * descendants can {@link CyclePolicy#REUSE_ANCESTOR reuse} it.
+     */
+    public void attach(Object instance) {
+        if (depth > 0) {
+            instances[depth - 1] = instance;
+        }
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Push a class onto the generation stack.
+     */
+    public void enter(Class<?> clazz) {
+        if (depth == frames.length) {
+            frames = Arrays.copyOf(frames, depth * 2);
+            instances = Arrays.copyOf(instances, depth * 2);
+        }
+        frames[depth++] = clazz;
+    }
+
+    /**
+     * Pop the class on top of the generation stack.
+     */
+    public void exit() {
+        if (depth > 0) {
+            frames[--depth] = null;
+            instances[depth] = null;
+        }
+    }
+
+    /**
+     * Remove the innermost frame of the given class from the generation stack, whether or not it
+     * is on top. Does nothing if the class is not being generated.
+     */
+    void exit(Class<?> clazz) {
+        for (int i = depth - 1; i >= 0; i--) {
+            if (frames[i] == clazz) {
+                System.arraycopy(frames, i + 1, frames, i, depth - i - 1);
+                System.arraycopy(instances, i + 1, instances, i, depth - i - 1);
+                exit();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Generate within a frame of the given class. Returns null, without generating, when the
+     * class is already being generated or the maximum depth is reached.
+     */
+    public <T> T withFrame(Class<?> clazz, Supplier<T> operation) {
+        if (isCircular(clazz) || isMaxDepthExceeded()) {
+            return null;
+        }
+        enter(clazz);
+        try {
+            return operation.get();
+        } finally {
+            exit();
+        }
+    }
+
+    /**
+     * The classes currently being generated, outermost first.
+     */
+    public Set<Class<?>> frames() {
+        return new LinkedHashSet<>(Arrays.asList(frames).subList(0, depth));
+    }
+
+    /**
+     * Empty the generation stack.
+     */
+    public void clearFrames() {
+        Arrays.fill(frames, 0, depth, null);
+        Arrays.fill(instances, 0, depth, null);
+        depth = 0;
+    }
+}
@@ -0,0 +1,67 @@
+package dev.agiro.matriarch.domain.core;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Spliterator over the objects at the indexes {@code [from, to)} of a sequence, each built by a
+ * function of its index.
+ * <p>
+ * It is {@link #SIZED} and {@link #SUBSIZED} and splits its index range in halves, so parallel
+ * streams share the work evenly. As every object depends only on its index, a parallel stream
+ * produces the same objects as a sequential one.
+ *
+ * @param <R> the type of the objects
+ */
+final class IndexedSpliterator<R> implements Spliterator<R> {
+
+    private final LongFunction<R> elementAt;
+    private long from;
+    private final long to;
+
+    IndexedSpliterator(long from, long to, LongFunction<R> elementAt) {
+        this.from = from;
+        this.to = to;
+        this.elementAt = elementAt;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        if (from >= to) {
+            return false;
+        }
+        action.accept(elementAt.apply(from++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super R> action) {
+        final long end = to;
+        for (long index = from; index < end; index++) {
+            action.accept(elementAt.apply(index));
+        }
+        from = end;
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        final long middle = (from + to) >>> 1;
+        if (middle <= from) {
+            return null;
+        }
+        final Spliterator<R> prefix = new IndexedSpliterator<>(from, middle, elementAt);
+        from = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - from;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+}
@@ -0,0 +1,425 @@
+package dev.agiro.matriarch.domain.core;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Opt-in counters and timers of the generation pipeline, to find the classes and fields that make
+ * fixture generation slow.
+ * <p>
+ * Metrics are off by default, where recording costs a single {@code volatile} read; they are
+ * turned on with {@link #enable()} or the {@code -Dmatriarch.metrics=true} system property.
+ * Once enabled, they are readable as a {@link Snapshot} and through the
+ * {@value #OBJECT_NAME} MXBean of the platform MBean server.
+ * <p>
+ * Times are inclusive: the time of an object field contains the time of its own fields. The
+ * bytes allocated by a build are those allocated by the thread running it, so the elements of
+ * {@link Mother.Builder#withParallelCollections() parallel collections} are not counted. They are
+ * read from the {@code ThreadMXBean}, which is only loaded, with its thread allocated memory
+ * measurement turned on, once metrics are enabled.
+ */
+public final class MatriarchMetrics {
+
+    /** Name of the metrics MXBean. */
+    public static final String OBJECT_NAME = "dev.agiro.matriarch:type=Metrics";
+
+    private static final Logger log = Logger.getLogger(MatriarchMetrics.class.getName());
+
+    private static final LongAdder builds = new LongAdder();
+    private static final LongAdder buildNanos = new LongAdder();
+    private static final LongAdder allocatedBytes = new LongAdder();
+    private static final LongAdder[] counters = new LongAdder[Counter.values().length];
+    private static final Map<Class<?>, LongAdder> objectsBuilt = new ConcurrentHashMap<>();
+    private static final Map<String, Timer> generators = new ConcurrentHashMap<>();
+    private static final Map<String, Timer> fields = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+
+    static {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        if (Boolean.getBoolean("matriarch.metrics")) {
+            enable();
+        }
+    }
+
+    /**
+     * Events counted by the pipeline.
+     */
+    public enum Counter {
+        /** A field could not be written directly and was written through its setter. */
+        SETTER_FALLBACK,
+        /** A no-args static factory failed and the class was instantiated with its constructor. */
+        STATIC_FACTORY_FALLBACK,
+        /** A field was left unset because neither the field nor its setter could be written. */
+        FIELD_WRITE_FAILURE,
+        /** An object could not be instantiated. */
+        INSTANTIATION_FAILURE,
+        /** Reflective members of a class were found in the {@link ReflectionCache}. */
+        REFLECTION_CACHE_HIT,
+        /** Reflective members of a class were looked up and added to the {@link ReflectionCache}. */
+        REFLECTION_CACHE_MISS,
+        /** A generation plan was compiled for a class. */
+        CLASS_PLAN_COMPILATION,
+        /** A value was generated from a known pattern matching the field coordinate. */
+        KNOWN_PATTERN_HIT,
+        /** A compiled regex program was found in the cache. */
+        REGEX_CACHE_HIT,
+        /** A regex was parsed into a new program. */
+        REGEX_COMPILATION
+    }
+
+    private MatriarchMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Start recording, and register the MXBean on first use.
+     */
+    public static void enable() {
+        Management.registerMBean();
+        enabled = true;
+    }
+
+    /**
+     * Stop recording. Values recorded so far are kept until {@link #reset()}.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Discard every recorded value.
+     */
+    public static void reset() {
+        builds.reset();
+        buildNanos.reset();
+        allocatedBytes.reset();
+        for (LongAdder counter : counters) {
+            counter.reset();
+        }
+        objectsBuilt.clear();
+        generators.clear();
+        fields.clear();
+    }
+
+    /**
+     * A copy of the values recorded so far.
+     */
+    public static Snapshot snapshot() {
+        final Map<Counter, Long> counts = new EnumMap<>(Counter.class);
+        for (Counter counter : Counter.values()) {
+            counts.put(counter, counters[counter.ordinal()].sum());
+        }
+        final Map<String, Long> objects = new TreeMap<>();
+        objectsBuilt.forEach((type, count) -> objects.put(type.getName(), count.sum()));
+        return new Snapshot(builds.sum(),
+                            buildNanos.sum(),
+                            allocatedBytes.sum(),
+                            Collections.unmodifiableMap(objects),
+                            timings(generators),
+                            timings(fields),
+                            Collections.unmodifiableMap(counts));
+    }
+
+    private static Map<String, Timing> timings(Map<String, Timer> timers) {
+        final Map<String, Timing> timings = new TreeMap<>();
+        timers.forEach((name, timer) -> timings.put(name, new Timing(timer.count.sum(), timer.nanos.sum())));
+        return Collections.unmodifiableMap(timings);
+    }
+
+    // Recording, called by the generation pipeline. Callers measuring time check isEnabled() first.
+
+    public static void increment(Counter counter) {
+        if (enabled) {
+            counters[counter.ordinal()].increment();
+        }
+    }
+
+    public static void objectBuilt(Class<?> type) {
+        if (enabled) {
+            objectsBuilt.computeIfAbsent(type, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Record the time of one call to a generator.
+     *
+     * @param generator the generator kind: a {@code ClazzGenerators} name, or the class of a custom generator
+     */
+    public static void generatorTime(String generator, long nanos) {
+        if (enabled) {
+            timer(generators, generator).record(nanos);
+        }
+    }
+
+    /**
+     * Record the time to generate and set a field or constructor parameter.
+     *
+     * @param coordinate the override coordinate, recorded without its indexes and keys
+     */
+    public static void fieldTime(String coordinate, long nanos) {
+        if (enabled) {
+            timer(fields, path(coordinate)).record(nanos);
+        }
+    }
+
+    /**
+     * The bytes allocated so far by the current thread, or -1 when the JVM cannot tell.
+     */
+    static long allocatedBytes() {
+        final com.sun.management.ThreadMXBean allocations = Management.allocations;
+        return allocations == null ? -1 : allocations.getCurrentThreadAllocatedBytes();
+    }
+
+    static void built(long nanos, long bytes) {
+        if (enabled) {
+            builds.increment();
+            buildNanos.add(nanos);
+            if (bytes > 0) {
+                allocatedBytes.add(bytes);
+            }
+        }
+    }
+
+    private static Timer timer(Map<String, Timer> timers, String name) {
+        final Timer timer = timers.get(name);
+        return timer != null ? timer : timers.computeIfAbsent(name, key -> new Timer());
+    }
+
+    /**
+     * The coordinate without the contents of its brackets: {@code items[3].name} is recorded as
+     * {@code items[].name}, so every element of a collection shares the same entry.
+     */
+    static String path(String coordinate) {
+        if (coordinate.indexOf('[') < 0) {
+            return coordinate;
+        }
+        final StringBuilder path = new StringBuilder(coordinate.length());
+        int depth = 0;
+        for (int i = 0; i < coordinate.length(); i++) {
+            final char c = coordinate.charAt(i);
+            if (c == '[') {
+                if (depth++ == 0) {
+                    path.append("[]");
+                }
+            } else if (c == ']' && depth > 0) {
+                depth--;
+            } else if (depth == 0) {
+                path.append(c);
+            }
+        }
+        return path.toString();
+    }
+
+    /**
+     * The platform management beans, initialized by the first {@link #enable()} or measured build
+     * so that the management classes are not loaded while metrics are off.
+     */
+    private static final class Management {
+        private static final com.sun.management.ThreadMXBean allocations = allocationCounter();
+        private static boolean registered;
+
+        private static com.sun.management.ThreadMXBean allocationCounter() {
+            try {
+                final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+                if (threads instanceof com.sun.management.ThreadMXBean counter
+                    && counter.isThreadAllocatedMemorySupported()) {
+                    counter.setThreadAllocatedMemoryEnabled(true);
+                    return counter;
+                }
+            } catch (LinkageError | RuntimeException e) {
+                log.fine(() -> "Allocated bytes are not available: " + e.getMessage());
+            }
+            return null;
+        }
+
+        static synchronized void registerMBean() {
+            if (registered) {
+                return;
+            }
+            registered = true;
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(
+                        new StandardMBean(new Bean(), MatriarchMetricsMXBean.class, true), new ObjectName(OBJECT_NAME));
+            } catch (InstanceAlreadyExistsException e) {
+                log.fine(() -> OBJECT_NAME + " is already registered");
+            } catch (JMException | RuntimeException e) {
+                log.warning(() -> "Could not register " + OBJECT_NAME + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static final class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        void record(long elapsed) {
+            count.increment();
+            nanos.add(elapsed);
+        }
+    }
+
+    /**
+     * Number of measured calls and their total time.
+     */
+    public record Timing(long count, long totalNanos) {
+
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+    }
+
+    /**
+     * Values recorded up to the moment the snapshot was taken.
+     *
+     * @param builds         objects built by {@link Mother.Builder} and {@link MotherTemplate} calls
+     * @param buildNanos     total time of those builds
+     * @param allocatedBytes bytes allocated by the threads running those builds
+     * @param objectsBuilt   objects instantiated per class name, nested ones included
+     * @param generators     time per generator kind
+     * @param fields         time per field coordinate, without indexes and keys
+     * @param counters       pipeline events
+     */
+    public record Snapshot(long builds,
+                           long buildNanos,
+                           long allocatedBytes,
+                           Map<String, Long> objectsBuilt,
+                           Map<String, Timing> generators,
+                           Map<String, Timing> fields,
+                           Map<Counter, Long> counters) {
+
+        public long count(Counter counter) {
+            return counters.getOrDefault(counter, 0L);
+        }
+
+        public long allocatedBytesPerBuild() {
+            return builds == 0 ? 0 : allocatedBytes / builds;
+        }
+
+        public double meanBuildNanos() {
+            return builds == 0 ? 0 : (double) buildNanos / builds;
+        }
+
+        /**
+         * Share of {@link ReflectionCache} lookups answered from the cache, or NaN before any lookup.
+         */
+        public double reflectionCacheHitRatio() {
+            return ratio(Counter.REFLECTION_CACHE_HIT, Counter.REFLECTION_CACHE_MISS);
+        }
+
+        /**
+         * Share of regex compilations answered from the program cache, or NaN before any regex.
+         */
+        public double regexCacheHitRatio() {
+            return ratio(Counter.REGEX_CACHE_HIT, Counter.REGEX_COMPILATION);
+        }
+
+        /**
+         * The field coordinates that took the most time in total, slowest first.
+         */
+        public List<Map.Entry<String, Timing>> slowestFields(int limit) {
+            return fields.entrySet().stream()
+                    .sorted(Map.Entry.<String, Timing>comparingByValue(Comparator.comparingLong(Timing::totalNanos)).reversed())
+                    .limit(limit)
+                    .toList();
+        }
+
+        private double ratio(Counter hits, Counter misses) {
+            final long total = count(hits) + count(misses);
+            return total == 0 ? Double.NaN : (double) count(hits) / total;
+        }
+    }
+
+    private static final class Bean implements MatriarchMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return MatriarchMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enable) {
+            if (enable) {
+                enable();
+            } else {
+                disable();
+            }
+        }
+
+        @Override
+        public long getBuilds() {
+            return builds.sum();
+        }
+
+        @Override
+        public double getMeanBuildMicros() {
+            return snapshot().meanBuildNanos() / 1_000;
+        }
+
+        @Override
+        public long getAllocatedBytesPerBuild() {
+            return snapshot().allocatedBytesPerBuild();
+        }
+
+        @Override
+        public Map<String, Long> getObjectsBuilt() {
+            return snapshot().objectsBuilt();
+        }
+
+        @Override
+        public Map<String, Long> getGeneratorNanos() {
+            return totals(snapshot().generators());
+        }
+
+        @Override
+        public Map<String, Long> getFieldNanos() {
+            return totals(snapshot().fields());
+        }
+
+        @Override
+        public Map<String, Long> getCounters() {
+            final Map<String, Long> counts = new TreeMap<>();
+            snapshot().counters().forEach((counter, count) -> counts.put(counter.name(), count));
+            return counts;
+        }
+
+        @Override
+        public double getReflectionCacheHitRatio() {
+            return snapshot().reflectionCacheHitRatio();
+        }
+
+        @Override
+        public double getRegexCacheHitRatio() {
+            return snapshot().regexCacheHitRatio();
+        }
+
+        @Override
+        public void reset() {
+            MatriarchMetrics.reset();
+        }
+
+        private static Map<String, Long> totals(Map<String, Timing> timings) {
+            final Map<String, Long> totals = new TreeMap<>();
+            timings.forEach((name, timing) -> totals.put(name, timing.totalNanos()));
+            return totals;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package dev.agiro.matriarch.domain.core;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link MatriarchMetrics}, registered as {@value MatriarchMetrics#OBJECT_NAME}.
+ * Times are in nanoseconds unless the attribute name says otherwise.
+ */
+public interface MatriarchMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getBuilds();
+
+    double getMeanBuildMicros();
+
+    long getAllocatedBytesPerBuild();
+
+    Map<String, Long> getObjectsBuilt();
+
+    Map<String, Long> getGeneratorNanos();
+
+    Map<String, Long> getFieldNanos();
+
+    Map<String, Long> getCounters();
+
+    double getReflectionCacheHitRatio();
+
+    double getRegexCacheHitRatio();
+
+    void reset();
+}
@@ -0,0 +1,246 @@
+package dev.agiro.matriarch.domain.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Optional;
+
+/**
+ * Resolves fields, setters, constructors and static factories into {@link MethodHandle}-backed
+ * accessors.
+ * <p>
+ * Accessors are resolved once (making the member accessible a single time) and then invoked
+ * through {@code invokeExact} on a handle adapted to a generic {@code Object} signature, instead of
+ * going through {@link Field#set} or {@link Constructor#newInstance} with their per-call access
+ * checks. Resolution never throws: an empty result means the member cannot be accessed.
+ */
+public final class MemberAccessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private MemberAccessors() {
+    }
+
+    /**
+     * Writes a value into a member of a target object.
+     */
+    @FunctionalInterface
+    public interface FieldWriter {
+        void write(Object target, Object value) throws Exception;
+    }
+
+    /**
+     * Creates an object from an array of arguments.
+     */
+    @FunctionalInterface
+    public interface Invoker {
+        Object invoke(Object[] arguments) throws Exception;
+    }
+
+    /**
+     * Writes primitive values into a primitive field without boxing them. Only the method matching
+     * the field's {@link #type()} may be called.
+     */
+    public static final class PrimitiveFieldWriter {
+        private final Class<?> type;
+        private final MethodHandle handle;
+
+        private PrimitiveFieldWriter(Class<?> type, MethodHandle handle) {
+            this.type = type;
+            this.handle = handle;
+        }
+
+        public Class<?> type() {
+            return type;
+        }
+
+        public void writeInt(Object target, int value) throws Exception {
+            try {
+                handle.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        public void writeLong(Object target, long value) throws Exception {
+            try {
+                handle.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        public void writeDouble(Object target, double value) throws Exception {
+            try {
+                handle.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        public void writeFloat(Object target, float value) throws Exception {
+            try {
+                handle.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        public void writeBoolean(Object target, boolean value) throws Exception {
+            try {
+                handle.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        public void writeChar(Object target, char value) throws Exception {
+            try {
+                handle.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        public void writeByte(Object target, byte value) throws Exception {
+            try {
+                handle.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        public void writeShort(Object target, short value) throws Exception {
+            try {
+                handle.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+
+    /**
+     * Resolve a writer that assigns the field directly. Final and static fields are not writable.
+     */
+    public static Optional<FieldWriter> fieldWriter(Field field) {
+        if (Modifier.isFinal(field.getModifiers()) || Modifier.isStatic(field.getModifiers())) {
+            return Optional.empty();
+        }
+        try {
+            field.setAccessible(true);
+            return Optional.of(writer(LOOKUP.unreflectSetter(field)));
+        } catch (RuntimeException | IllegalAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Resolve a writer that assigns a primitive field directly, without boxing. Final, static and
+     * non-primitive fields are not writable this way.
+     */
+    public static Optional<PrimitiveFieldWriter> primitiveFieldWriter(Field field) {
+        final Class<?> type = field.getType();
+        if (!type.isPrimitive() || Modifier.isFinal(field.getModifiers()) || Modifier.isStatic(field.getModifiers())) {
+            return Optional.empty();
+        }
+        try {
+            field.setAccessible(true);
+            final MethodHandle handle = LOOKUP.unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, type));
+            return Optional.of(new PrimitiveFieldWriter(type, handle));
+        } catch (RuntimeException | IllegalAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Resolve a writer that calls a one-argument setter method. Its return value, if any, is discarded.
+     */
+    public static Optional<FieldWriter> setterWriter(Method setter) {
+        if (setter.getParameterCount() != 1 || Modifier.isStatic(setter.getModifiers())) {
+            return Optional.empty();
+        }
+        try {
+            trySetAccessible(setter);
+            return Optional.of(writer(LOOKUP.unreflect(setter)));
+        } catch (RuntimeException | IllegalAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Resolve an invoker for a constructor, taking one argument per constructor parameter.
+     */
+    public static Optional<Invoker> constructorInvoker(Constructor<?> constructor) {
+        try {
+            trySetAccessible(constructor);
+            return Optional.of(invoker(LOOKUP.unreflectConstructor(constructor), constructor.getParameterCount()));
+        } catch (RuntimeException | IllegalAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Resolve an invoker for a static method, taking one argument per method parameter.
+     */
+    public static Optional<Invoker> staticMethodInvoker(Method method) {
+        if (!Modifier.isStatic(method.getModifiers())) {
+            return Optional.empty();
+        }
+        try {
+            trySetAccessible(method);
+            return Optional.of(invoker(LOOKUP.unreflect(method), method.getParameterCount()));
+        } catch (RuntimeException | IllegalAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static FieldWriter writer(MethodHandle handle) {
+        final MethodHandle adapted = handle.asFixedArity().asType(WRITER_TYPE);
+        return (target, value) -> {
+            try {
+                adapted.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        };
+    }
+
+    private static Invoker invoker(MethodHandle handle, int parameterCount) {
+        final MethodHandle adapted = handle.asFixedArity()
+                .asSpreader(Object[].class, parameterCount)
+                .asType(INVOKER_TYPE);
+        return arguments -> {
+            try {
+                return (Object) adapted.invokeExact(arguments);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        };
+    }
+
+    private static void trySetAccessible(java.lang.reflect.AccessibleObject member) {
+        try {
+            member.setAccessible(true);
+        } catch (RuntimeException e) {
+            // Unreflecting still works for members that are accessible without overriding checks.
+        }
+    }
+
+    private static Exception rethrow(Throwable t) {
+        if (t instanceof Error error) {
+            throw error;
+        }
+        if (t instanceof Exception exception) {
+            return exception;
+        }
+        return new UndeclaredThrowableException(t);
+    }
+}
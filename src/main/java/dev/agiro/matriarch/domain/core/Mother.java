@@ -6,10 +6,15 @@ import dev.agiro.matriarch.domain.model.TypeReference;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.function.Supplier;
 
 public class Mother<M> {
+    /**
+     * System property that makes {@code MotherExtension} call {@link #preinitialize()} when JUnit
+     * loads it: {@code -Dmatriarch.preinitialize=true}.
+     */
+    public static final String PREINITIALIZE_PROPERTY = "matriarch.preinitialize";
+
     private final ObjectMotherGenerator objectMotherGenerator = new ObjectMotherGenerator();
     private final Class<M> clazz;
 
@@ -36,31 +41,55 @@ public class Mother<M> {
         return new Builder<>(typeRef);
     }
 
+    /**
+     * Start loading the known patterns and the Jackson mapper on a background daemon thread, so
+     * that the first build does not pay for them. Calling it again returns the same future.
+     * Usage: static { Mother.preinitialize(); } in a test base class, before the test framework
+     * has finished starting up
+     */
+    public static java.util.concurrent.CompletableFuture<Void> preinitialize() {
+        return Preinitialization.start();
+    }
+
     public static class Builder<R> {
+        /** Collection size from which {@link #withParallelCollections()} generates elements in parallel. */
+        public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+
         private final Mother<R> mother;
         private final BuilderConfiguration<R> config;
         private final List<OverrideStrategy> strategies;
-        private final CollectionGenerator<R> collectionGenerator;
+        private CollectionGenerator<R> collectionGenerator;
         private final TypeReference<R> typeReference;
+        private GenerationPlan<R> plan;
+        private int planVersion;
 
         public Builder(Class<R> clazz) {
-            this.mother = new Mother<>(clazz);
-            this.config = new BuilderConfiguration<>();
-            this.strategies = new ArrayList<>();
-            this.collectionGenerator = new CollectionGenerator<>(this::build);
-            this.typeReference = null;
-            initializeStrategies();
+            this(clazz, null, new BuilderConfiguration<>());
         }
 
         public Builder(TypeReference<R> typeRef) {
-            this.mother = new Mother<>(typeRef.getRawType());
-            this.config = new BuilderConfiguration<>();
+            this(typeRef.getRawType(), typeRef, new BuilderConfiguration<>());
+        }
+
+        Builder(Class<R> clazz, TypeReference<R> typeRef, BuilderConfiguration<R> config) {
+            this.mother = new Mother<>(clazz);
+            this.config = config;
             this.strategies = new ArrayList<>();
-            this.collectionGenerator = new CollectionGenerator<>(this::build);
             this.typeReference = typeRef;
             initializeStrategies();
         }
 
+        /**
+         * The generator of the bulk builds, created on first use so that the constructor does not
+         * hand out a partially constructed builder.
+         */
+        private CollectionGenerator<R> collectionGenerator() {
+            if (collectionGenerator == null) {
+                collectionGenerator = new CollectionGenerator<>(this::build, () -> compile()::executeAt);
+            }
+            return collectionGenerator;
+        }
+
         /**
          * Initialize the override strategies that will be applied during build.
          */
@@ -207,6 +236,54 @@ public class Mother<M> {
             return this;
         }
 
+        /**
+         * Set the size of the collection, array or {@link java.nio.ByteBuffer} at a specific field
+         * path, taking precedence over the size range.
+         * Usage: .withCollectionSize("payload", 4 * 1024 * 1024)
+         */
+        public Builder<R> withCollectionSize(String path, int size) {
+            if (size < 0) {
+                throw new IllegalArgumentException("Invalid collection size for " + path + ": " + size);
+            }
+            config.addCollectionSize(path, size);
+            return this;
+        }
+
+        /**
+         * Generate {@link java.nio.ByteBuffer} fields as direct buffers instead of heap buffers.
+         * Usage: .withDirectByteBuffers()
+         */
+        public Builder<R> withDirectByteBuffers() {
+            config.setDirectByteBuffers(true);
+            return this;
+        }
+
+        /**
+         * Generate the elements of List, Set, Map and array fields in parallel, on the fork/join
+         * common pool, when they have at least {@value #DEFAULT_PARALLEL_THRESHOLD} elements.
+         * Usage: .withParallelCollections()
+         */
+        public Builder<R> withParallelCollections() {
+            return withParallelCollections(DEFAULT_PARALLEL_THRESHOLD);
+        }
+
+        /**
+         * Generate the elements of List, Set, Map and array fields in parallel when they have at
+         * least {@code threshold} elements. Each element is generated in a fork of the generation
+         * seeded by its index, so seeded builds stay reproducible; suppliers given to
+         * {@code forField} or {@code forType} may then be called concurrently.
+         * Usage: .withCollectionSize(50_000).withParallelCollections(1_000)
+         *
+         * @throws IllegalArgumentException if the threshold is lower than 1
+         */
+        public Builder<R> withParallelCollections(int threshold) {
+            if (threshold < 1) {
+                throw new IllegalArgumentException("Parallel threshold must be positive: " + threshold);
+            }
+            config.setParallelThreshold(threshold);
+            return this;
+        }
+
         /**
          * Set a seed for deterministic, reproducible object generation.
          * When a seed is set, all random values will be generated in a predictable sequence.
@@ -217,6 +294,63 @@ public class Mother<M> {
             return this;
         }
 
+        /**
+         * Limit how deep nested objects are generated: objects nested this many levels below the
+         * built object, or deeper, are left null. Defaults to 50.
+         * Usage: .maxDepth(3)
+         */
+        public Builder<R> maxDepth(int maxDepth) {
+            if (maxDepth < 1) {
+                throw new IllegalArgumentException("Invalid max depth: " + maxDepth);
+            }
+            config.setMaxDepth(maxDepth);
+            return this;
+        }
+
+        /**
+         * Limit how deep objects of a specific type are generated: instances nested this many
+         * levels below the built object, or deeper, are left null.
+         * Usage: .maxDepth(Address.class, 2)
+         */
+        public Builder<R> maxDepth(Class<?> type, int maxDepth) {
+            if (maxDepth < 0) {
+                throw new IllegalArgumentException("Invalid max depth for " + type.getName() + ": " + maxDepth);
+            }
+            config.addTypeMaxDepth(type, maxDepth);
+            return this;
+        }
+
+        /**
+         * Choose what to generate for references back to a class that is already being
+         * generated. Defaults to {@link CyclePolicy#NULL}.
+         * Usage: .withCyclePolicy(CyclePolicy.REUSE_ANCESTOR)
+         */
+        public Builder<R> withCyclePolicy(CyclePolicy cyclePolicy) {
+            config.setCyclePolicy(java.util.Objects.requireNonNull(cyclePolicy, "cyclePolicy"));
+            return this;
+        }
+
+        /**
+         * Select the random algorithm by {@link java.util.random.RandomGeneratorFactory} name.
+         * Defaults to {@value RandomSources#DEFAULT_ALGORITHM}, or to the
+         * {@value RandomSources#ALGORITHM_PROPERTY} system property when set.
+         * Usage: .withRandomAlgorithm("Xoshiro256PlusPlus")
+         */
+        public Builder<R> withRandomAlgorithm(String algorithm) {
+            RandomSources.validate(algorithm);
+            config.setRandomAlgorithm(algorithm);
+            return this;
+        }
+
+        /**
+         * Use {@link java.security.SecureRandom} as random source. Slower; only needed when the
+         * generated values must be unpredictable.
+         * Usage: .withSecureRandom()
+         */
+        public Builder<R> withSecureRandom() {
+            return withRandomAlgorithm(RandomSources.SECURE_RANDOM);
+        }
+
         /**
          * Enable strict mode: generation errors will throw exceptions instead of
          * silently returning null fields.
@@ -240,29 +374,53 @@ public class Mother<M> {
          * Build the object with the configured overrides.
          */
         public R build() {
-            // Apply all override strategies
-            strategies.forEach(strategy -> strategy.applyOverrides(config, mother.clazz));
-
-            // Set up generation context for this build
-            GenerationContext ctx = GenerationContext.getInstance();
-            GenerationContext.Config.Builder ctxBuilder = GenerationContext.Config.builder()
-                    .collectionSizeMin(config.getCollectionSizeMin())
-                    .collectionSizeMax(config.getCollectionSizeMax())
-                    .strictMode(config.isStrictMode())
-                    .debugMode(config.isDebugMode());
-            if (config.getSeed() != null) {
-                ctxBuilder.random(new Random(config.getSeed()));
-            }
-            ctx.set(ctxBuilder.build());
-
-            try {
-                if (typeReference != null) {
-                    return mother.objectMotherGenerator.createObject(typeReference, config.getOverrides());
-                }
-                return mother.create(config.getOverrides());
-            } finally {
-                ctx.clear();
+            return compile().execute();
+        }
+
+        /**
+         * Build the object at a position of this builder's sequence: with a seed, the same
+         * (seed, index) pair always gives the same object, whatever was built before, and it is
+         * the object at that position of {@link #buildStream(int)}. Shards of a dataset can so
+         * be built independently, and any record rebuilt alone.
+         * Without a seed, each call gives a new random object.
+         * Usage: .withSeed(42).buildAt(7_341_992)
+         *
+         * @throws IllegalArgumentException if the index is negative
+         */
+        public R buildAt(long index) {
+            return compile().executeAt(GenerationPlan.validateIndex(index));
+        }
+
+        /**
+         * Get the compiled plan for the current configuration, compiling it again only
+         * when the configuration changed since the last build.
+         */
+        private GenerationPlan<R> compile() {
+            if (plan == null || planVersion != config.getVersion()) {
+                planVersion = config.getVersion();
+                plan = GenerationPlan.compile(mother.objectMotherGenerator, mother.clazz, typeReference, config, strategies);
             }
+            return plan;
+        }
+
+        /**
+         * Freeze the current configuration into an immutable, thread-safe {@link MotherTemplate}.
+         * Strategies are applied once; later changes to this builder do not affect the template.
+         * Usage: static final MotherTemplate&lt;Order&gt; ORDERS = Mother.forClass(Order.class).freeze();
+         */
+        public MotherTemplate<R> freeze() {
+            final BuilderConfiguration<R> snapshot = config.copy();
+            return new MotherTemplate<>(mother.clazz,
+                                        typeReference,
+                                        snapshot,
+                                        GenerationPlan.compile(mother.objectMotherGenerator, mother.clazz, typeReference, snapshot, strategies));
+        }
+
+        /**
+         * Alias for freeze().
+         */
+        public MotherTemplate<R> template() {
+            return freeze();
         }
 
         /**
@@ -273,27 +431,31 @@ public class Mother<M> {
         }
 
         /**
-         * Generate multiple objects and return as a List.
+         * Generate multiple objects and return as a List. The list holds the objects of
+         * {@link #buildStream(int)}: with a seed, each object is seeded from the seed and its position.
          * Usage: .buildList(10)
          */
         public java.util.List<R> buildList(int count) {
-            return collectionGenerator.generateList(count);
+            return collectionGenerator().generateList(count);
         }
 
         /**
-         * Generate multiple objects and return as a Set.
+         * Generate multiple objects and return as a Set. The set holds the objects of
+         * {@link #buildStream(int)}: with a seed, each object is seeded from the seed and its position.
          * Usage: .buildSet(10)
          */
         public java.util.Set<R> buildSet(int count) {
-            return collectionGenerator.generateSet(count);
+            return collectionGenerator().generateSet(count);
         }
 
         /**
-         * Generate multiple objects and return as a Stream.
+         * Generate multiple objects and return as a Stream. The stream can run in parallel; with a
+         * seed, each object is seeded from the seed and its position, so sequential and parallel
+         * streams yield the same objects.
          * Usage: .buildStream(10)
          */
         public java.util.stream.Stream<R> buildStream(int count) {
-            return collectionGenerator.generateStream(count);
+            return collectionGenerator().generateStream(count);
         }
 
         /**
@@ -301,7 +463,51 @@ public class Mother<M> {
          * Usage: .buildStream().limit(10)
          */
         public java.util.stream.Stream<R> buildStream() {
-            return collectionGenerator.generateInfiniteStream();
+            return collectionGenerator().generateInfiniteStream();
+        }
+
+        /**
+         * Build one object on a virtual thread.
+         * Usage: .buildAsync().thenAccept(repository::save)
+         */
+        public java.util.concurrent.CompletableFuture<R> buildAsync() {
+            return buildAsync(AsyncGeneration.VIRTUAL_THREADS);
+        }
+
+        /**
+         * Build one object on the given executor.
+         */
+        public java.util.concurrent.CompletableFuture<R> buildAsync(java.util.concurrent.Executor executor) {
+            return AsyncGeneration.build(compile(), executor);
+        }
+
+        /**
+         * Generate multiple objects on virtual threads, partitioning the work across cores.
+         * The list holds the objects of {@link #buildStream(int)}: with a seed, they are the same
+         * whatever the scheduling.
+         * Usage: .buildListAsync(10_000)
+         */
+        public java.util.concurrent.CompletableFuture<java.util.List<R>> buildListAsync(int count) {
+            return buildListAsync(count, AsyncGeneration.VIRTUAL_THREADS);
+        }
+
+        /**
+         * Generate multiple objects on the given executor, partitioning the work across cores.
+         */
+        public java.util.concurrent.CompletableFuture<java.util.List<R>> buildListAsync(int count,
+                                                                                       java.util.concurrent.Executor executor) {
+            return AsyncGeneration.buildList(compile(), count, executor);
+        }
+
+        /**
+         * Generate multiple objects on the given executor and hand each one to a consumer, without
+         * collecting them. The consumer is called concurrently from the executor's threads.
+         * Usage: .generateInto(executor, 1_000_000, queue::add)
+         */
+        public java.util.concurrent.CompletableFuture<Void> generateInto(java.util.concurrent.Executor executor,
+                                                                        int count,
+                                                                        java.util.function.Consumer<? super R> consumer) {
+            return AsyncGeneration.generateInto(compile(), count, executor, consumer);
         }
 
         /**
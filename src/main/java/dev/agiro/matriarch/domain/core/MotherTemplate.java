@@ -0,0 +1,151 @@
+package dev.agiro.matriarch.domain.core;
+
+import dev.agiro.matriarch.domain.model.TypeReference;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, thread-safe snapshot of a {@link Mother.Builder}.
+ * <p>
+ * The override strategies are applied once when the template is created, and later changes to
+ * the builder it came from do not affect it. A template can be shared between threads, e.g. as a
+ * {@code static final} field used by parallel tests, and {@link #fork()} derives a new builder
+ * from it to configure variants.
+ * Usage:
+ * <pre>{@code
+ * static final MotherTemplate<Order> ORDERS = Mother.forClass(Order.class)
+ *         .forField("status", "OPEN")
+ *         .freeze();
+ *
+ * Order order = ORDERS.build();
+ * Order closed = ORDERS.fork().forField("status", "CLOSED").build();
+ * }</pre>
+ *
+ * @param <R> the type of objects generated by this template
+ */
+public final class MotherTemplate<R> {
+
+    private final Class<R> clazz;
+    private final TypeReference<R> typeReference;
+    private final BuilderConfiguration<R> config;
+    private final GenerationPlan<R> plan;
+    private final CollectionGenerator<R> collectionGenerator;
+
+    MotherTemplate(Class<R> clazz,
+                   TypeReference<R> typeReference,
+                   BuilderConfiguration<R> config,
+                   GenerationPlan<R> plan) {
+        this.clazz = clazz;
+        this.typeReference = typeReference;
+        this.config = config;
+        this.plan = plan;
+        this.collectionGenerator = new CollectionGenerator<>(this::build, () -> plan::executeAt);
+    }
+
+    /**
+     * Build one object.
+     */
+    public R build() {
+        return plan.execute();
+    }
+
+    /**
+     * Build the object at a position of this template's sequence: with a seed, the same
+     * (seed, index) pair always gives the same object, whatever was built before, and it is the
+     * object at that position of {@link #buildStream(int)}.
+     *
+     * @throws IllegalArgumentException if the index is negative
+     */
+    public R buildAt(long index) {
+        return plan.executeAt(GenerationPlan.validateIndex(index));
+    }
+
+    /**
+     * Generate multiple objects and return as a List, holding the objects of
+     * {@link #buildStream(int)}.
+     */
+    public List<R> buildList(int count) {
+        return collectionGenerator.generateList(count);
+    }
+
+    /**
+     * Generate multiple objects and return as a Set, holding the objects of
+     * {@link #buildStream(int)}.
+     */
+    public Set<R> buildSet(int count) {
+        return collectionGenerator.generateSet(count);
+    }
+
+    /**
+     * Generate multiple objects and return as a Stream. The stream can run in parallel; with a
+     * seed, each object is seeded from the seed and its position, so sequential and parallel
+     * streams yield the same objects.
+     */
+    public Stream<R> buildStream(int count) {
+        return collectionGenerator.generateStream(count);
+    }
+
+    /**
+     * Generate an infinite Stream of objects.
+     */
+    public Stream<R> buildStream() {
+        return collectionGenerator.generateInfiniteStream();
+    }
+
+    /**
+     * Build one object on a virtual thread.
+     */
+    public CompletableFuture<R> buildAsync() {
+        return AsyncGeneration.build(plan, AsyncGeneration.VIRTUAL_THREADS);
+    }
+
+    /**
+     * Build one object on the given executor.
+     */
+    public CompletableFuture<R> buildAsync(Executor executor) {
+        return AsyncGeneration.build(plan, executor);
+    }
+
+    /**
+     * Generate multiple objects on virtual threads, partitioning the work across cores. The list
+     * holds the objects of {@link #buildStream(int)}.
+     */
+    public CompletableFuture<List<R>> buildListAsync(int count) {
+        return AsyncGeneration.buildList(plan, count, AsyncGeneration.VIRTUAL_THREADS);
+    }
+
+    /**
+     * Generate multiple objects on the given executor, partitioning the work across cores.
+     */
+    public CompletableFuture<List<R>> buildListAsync(int count, Executor executor) {
+        return AsyncGeneration.buildList(plan, count, executor);
+    }
+
+    /**
+     * Generate multiple objects on the given executor and hand each one to a consumer, without
+     * collecting them. The consumer is called concurrently from the executor's threads.
+     */
+    public CompletableFuture<Void> generateInto(Executor executor, int count, Consumer<? super R> consumer) {
+        return AsyncGeneration.generateInto(plan, count, executor, consumer);
+    }
+
+    /**
+     * Create a new builder starting from this template's configuration. Changes made to the
+     * returned builder do not affect the template.
+     */
+    public Mother.Builder<R> fork() {
+        return new Mother.Builder<>(clazz, typeReference, config.copy());
+    }
+
+    /**
+     * The class of the objects generated by this template.
+     */
+    public Class<R> getTargetClass() {
+        return clazz;
+    }
+}
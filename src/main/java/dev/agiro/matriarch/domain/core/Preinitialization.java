@@ -0,0 +1,38 @@
+package dev.agiro.matriarch.domain.core;
+
+import dev.agiro.matriarch.generators.AbstractGenerator;
+import dev.agiro.matriarch.generators.TypeConverters;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+/**
+ * Loads, on a background daemon thread, what generation otherwise loads on first use: the known
+ * patterns (pattern files and system properties) and the Jackson mapper of the fallback
+ * conversions. Started at most once per JVM.
+ */
+final class Preinitialization {
+
+    private static final Logger log = Logger.getLogger(Preinitialization.class.getName());
+
+    private static CompletableFuture<Void> started;
+
+    private Preinitialization() {
+    }
+
+    static synchronized CompletableFuture<Void> start() {
+        if (started == null) {
+            started = CompletableFuture.runAsync(Preinitialization::run,
+                                                 task -> Thread.ofPlatform().name("matriarch-preinitialization").daemon().start(task));
+        }
+        return started;
+    }
+
+    private static void run() {
+        final long start = System.nanoTime();
+        final int patterns = AbstractGenerator.preloadPatterns();
+        TypeConverters.preloadJackson();
+        log.fine(() -> "Preinitialized %d known patterns and Jackson in %d ms".formatted(
+                patterns, (System.nanoTime() - start) / 1_000_000));
+    }
+}
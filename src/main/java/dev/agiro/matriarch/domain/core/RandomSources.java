@@ -0,0 +1,111 @@
+package dev.agiro.matriarch.domain.core;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Creates the {@link RandomGenerator} used for a generation.
+ * <p>
+ * Any algorithm known to {@link RandomGeneratorFactory} can be selected by name (for example
+ * {@code "L64X128MixRandom"}, {@code "Xoshiro256PlusPlus"} or the legacy {@code "Random"}).
+ * The default is {@value #DEFAULT_ALGORITHM}, which can be changed with the
+ * {@value #ALGORITHM_PROPERTY} system property. {@value #SECURE_RANDOM} is an explicit opt-in:
+ * test data does not need a cryptographic generator.
+ * Usage:
+ * <pre>{@code
+ * -Dmatriarch.random.algorithm=Xoshiro256PlusPlus
+ * }</pre>
+ */
+public final class RandomSources {
+
+    public static final String ALGORITHM_PROPERTY = "matriarch.random.algorithm";
+    public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+    public static final String SECURE_RANDOM = "SecureRandom";
+
+    private static final Map<String, RandomGeneratorFactory<RandomGenerator>> FACTORIES = new ConcurrentHashMap<>();
+    private static final SecureRandom SHARED_SECURE_RANDOM = new SecureRandom();
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private RandomSources() {
+    }
+
+    /**
+     * The algorithm used when none is configured: the {@value #ALGORITHM_PROPERTY} system
+     * property, or {@value #DEFAULT_ALGORITHM}.
+     */
+    public static String defaultAlgorithm() {
+        final String configured = System.getProperty(ALGORITHM_PROPERTY);
+        return configured == null || configured.isBlank() ? DEFAULT_ALGORITHM : configured.trim();
+    }
+
+    /**
+     * Create an unseeded generator with the default algorithm.
+     */
+    public static RandomGenerator create() {
+        return create(null, null);
+    }
+
+    /**
+     * Create a generator.
+     *
+     * @param algorithm the algorithm name, or {@code null} for the {@link #defaultAlgorithm() default}
+     * @param seed      the seed, or {@code null} for an unpredictable sequence
+     * @throws IllegalArgumentException if the algorithm is unknown
+     */
+    public static RandomGenerator create(String algorithm, Long seed) {
+        final String name = algorithm == null ? defaultAlgorithm() : algorithm;
+        if (SECURE_RANDOM.equals(name)) {
+            return seed == null ? SHARED_SECURE_RANDOM : seededSecureRandom(seed);
+        }
+        final RandomGeneratorFactory<RandomGenerator> factory = factory(name);
+        return seed == null ? factory.create() : factory.create(seed);
+    }
+
+    /**
+     * Check that an algorithm name can be used.
+     *
+     * @throws IllegalArgumentException if the algorithm is unknown
+     */
+    public static void validate(String algorithm) {
+        if (algorithm != null && !SECURE_RANDOM.equals(algorithm)) {
+            factory(algorithm);
+        }
+    }
+
+    /**
+     * Derive the seed of one element of a seeded sequence from the sequence seed and the
+     * element's index. Each derived seed depends only on that pair, so elements can be generated
+     * in any order, on any thread, and still get the same seed.
+     */
+    public static long derive(long seed, long index) {
+        return mix(mix(seed) + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * The SplitMix64 finalizer: a bijective mix of the bits of a value.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static RandomGeneratorFactory<RandomGenerator> factory(String name) {
+        return FACTORIES.computeIfAbsent(name, RandomGeneratorFactory::of);
+    }
+
+    private static SecureRandom seededSecureRandom(long seed) {
+        try {
+            // SHA1PRNG is deterministic when seeded before its first use.
+            final SecureRandom random = SecureRandom.getInstance("SHA1PRNG");
+            random.setSeed(seed);
+            return random;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("No seedable SecureRandom algorithm available", e);
+        }
+    }
+}
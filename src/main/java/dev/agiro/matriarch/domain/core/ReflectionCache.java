@@ -1,122 +1,324 @@
 package dev.agiro.matriarch.domain.core;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Cache for reflection operations to improve performance.
- * Thread-safe implementation using ConcurrentHashMap.
+ * <p>
+ * The metadata of a class is kept in a {@link ClassValue}, so it lives as long as the class
+ * itself: classes of a discarded class loader (dev-mode restarts, isolated test class loaders) are
+ * not pinned by the cache. Every part of the metadata is computed on first use, and setter lookups
+ * are cached whether a setter exists or not, so a class is scanned for setters only once.
  */
 public class ReflectionCache {
-    
+
     private static final ReflectionCache INSTANCE = new ReflectionCache();
-    
-    private final Map<Class<?>, List<Field>> fieldsCache = new ConcurrentHashMap<>();
-    private final Map<Class<?>, List<Constructor<?>>> constructorsCache = new ConcurrentHashMap<>();
-    private final Map<Class<?>, List<Method>> staticFactoryMethodsCache = new ConcurrentHashMap<>();
-    private final Map<String, Method> setterMethodsCache = new ConcurrentHashMap<>();
-    
+
+    private volatile ClassValue<ClassMetadata> metadata = newCache();
+
+    /**
+     * The metadata computed so far, for {@link #footprint()}. Values are weakly referenced: the
+     * metadata of a class is only strongly reachable from the class itself.
+     */
+    private final Map<Class<?>, WeakReference<ClassMetadata>> computed = Collections.synchronizedMap(new WeakHashMap<>());
+
     private ReflectionCache() {
         // Private constructor for singleton
     }
-    
+
     public static ReflectionCache getInstance() {
         return INSTANCE;
     }
-    
+
+    /**
+     * Get the cached metadata of a class.
+     */
+    public ClassMetadata metadata(Class<?> clazz) {
+        return metadata.get(clazz);
+    }
+
     /**
      * Get all non-static fields for a class, including inherited fields.
      * Results are cached for performance.
      */
     public List<Field> getFields(Class<?> clazz) {
-        return fieldsCache.computeIfAbsent(clazz, this::extractFields);
+        return metadata(clazz).fields();
     }
-    
-    private List<Field> extractFields(Class<?> clazz) {
-        final List<Field> allFields = new ArrayList<>();
-        Class<?> currentClass = clazz;
-        while (currentClass != null && currentClass != Object.class) {
-            Arrays.stream(currentClass.getDeclaredFields())
-                    .filter(field -> !Modifier.isStatic(field.getModifiers()))
-                    .forEach(allFields::add);
-            currentClass = currentClass.getSuperclass();
-        }
-        return Collections.unmodifiableList(allFields);
-    }
-    
+
     /**
      * Get all constructors for a class.
      * Results are cached for performance.
      */
     public List<Constructor<?>> getConstructors(Class<?> clazz) {
-        return constructorsCache.computeIfAbsent(clazz, this::extractConstructors);
+        return metadata(clazz).constructors();
     }
-    
-    private List<Constructor<?>> extractConstructors(Class<?> clazz) {
-        return Collections.unmodifiableList(Arrays.asList(clazz.getDeclaredConstructors()));
-    }
-    
+
     /**
      * Get all public static factory methods for a class that return an instance of that class.
      * Results are cached for performance.
      */
     public List<Method> getStaticFactoryMethods(Class<?> clazz) {
-        return staticFactoryMethodsCache.computeIfAbsent(clazz, this::extractStaticFactoryMethods);
+        return metadata(clazz).staticFactoryMethods();
     }
-    
-    private List<Method> extractStaticFactoryMethods(Class<?> clazz) {
-        return Arrays.stream(clazz.getDeclaredMethods())
-                .filter(method -> Modifier.isStatic(method.getModifiers()) &&
-                                Modifier.isPublic(method.getModifiers()) &&
-                                clazz.isAssignableFrom(method.getReturnType()))
-                .toList();
+
+    /**
+     * Get the record components of a record class, or an empty list for other classes.
+     * Results are cached for performance.
+     */
+    public List<RecordComponent> getRecordComponents(Class<?> clazz) {
+        return metadata(clazz).recordComponents();
     }
-    
+
     /**
      * Get a setter method for a field in a class.
-     * Results are cached for performance.
+     * Results, including the absence of a setter, are cached for performance.
      */
     public Optional<Method> getSetterMethod(Class<?> clazz, String fieldName) {
-        String cacheKey = clazz.getName() + "#" + fieldName;
-        Method cachedMethod = setterMethodsCache.get(cacheKey);
-        
-        if (cachedMethod != null) {
-            return Optional.of(cachedMethod);
-        }
-        
-        String setterName = "set" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
-        Optional<Method> setter = Arrays.stream(clazz.getMethods())
-                .filter(method -> method.getName().equals(setterName))
-                .findFirst();
-        
-        setter.ifPresent(method -> setterMethodsCache.put(cacheKey, method));
-        
-        return setter;
+        return metadata(clazz).setter(fieldName);
     }
-    
+
     /**
      * Clear all caches. Useful for testing or memory management.
      */
     public void clearAll() {
-        fieldsCache.clear();
-        constructorsCache.clear();
-        staticFactoryMethodsCache.clear();
-        setterMethodsCache.clear();
+        metadata = newCache();
+        computed.clear();
     }
-    
+
     /**
      * Clear cache for a specific class.
      */
     public void clearForClass(Class<?> clazz) {
-        fieldsCache.remove(clazz);
-        constructorsCache.remove(clazz);
-        staticFactoryMethodsCache.remove(clazz);
-        // Clear setter methods for this class
-        setterMethodsCache.keySet().removeIf(key -> key.startsWith(clazz.getName() + "#"));
+        metadata.remove(clazz);
+        computed.remove(clazz);
+    }
+
+    /**
+     * The number of classes and members currently cached.
+     */
+    public Footprint footprint() {
+        final List<WeakReference<ClassMetadata>> references;
+        synchronized (computed) {
+            references = new ArrayList<>(computed.values());
+        }
+        int classes = 0, fields = 0, constructors = 0, staticFactoryMethods = 0, recordComponents = 0, setters = 0, missingSetters = 0;
+        for (WeakReference<ClassMetadata> reference : references) {
+            final ClassMetadata classMetadata = reference.get();
+            if (classMetadata == null) {
+                continue;
+            }
+            classes++;
+            fields += size(classMetadata.fields);
+            constructors += size(classMetadata.constructors);
+            staticFactoryMethods += size(classMetadata.staticFactoryMethods);
+            recordComponents += size(classMetadata.recordComponents);
+            for (Optional<Method> setter : classMetadata.setters.values()) {
+                if (setter.isPresent()) {
+                    setters++;
+                } else {
+                    missingSetters++;
+                }
+            }
+        }
+        return new Footprint(classes, fields, constructors, staticFactoryMethods, recordComponents, setters, missingSetters);
     }
-}
 
+    private static int size(List<?> members) {
+        return members == null ? 0 : members.size();
+    }
+
+    private ClassValue<ClassMetadata> newCache() {
+        return new ClassValue<>() {
+            @Override
+            protected ClassMetadata computeValue(Class<?> type) {
+                final ClassMetadata classMetadata = new ClassMetadata(type);
+                computed.put(type, new WeakReference<>(classMetadata));
+                return classMetadata;
+            }
+        };
+    }
+
+    /**
+     * Counts of the cached metadata. Setters are counted per looked up field name, with the
+     * names of fields without a setter counted as {@code missingSetters}.
+     */
+    public record Footprint(int classes,
+                            int fields,
+                            int constructors,
+                            int staticFactoryMethods,
+                            int recordComponents,
+                            int setters,
+                            int missingSetters) {
+    }
+
+    /**
+     * The reflection metadata of a class. Each part is computed the first time it is requested.
+     */
+    public static final class ClassMetadata {
+        private final Class<?> type;
+        private final boolean open;
+        private final Map<String, Optional<Method>> setters = new ConcurrentHashMap<>();
+        private volatile List<Field> fields;
+        private volatile List<Constructor<?>> constructors;
+        private volatile List<Method> staticFactoryMethods;
+        private volatile List<RecordComponent> recordComponents;
+        private volatile Map<String, Method> setterIndex;
+
+        private ClassMetadata(Class<?> type) {
+            this.type = type;
+            this.open = type.getModule().isOpen(type.getPackageName(), ReflectionCache.class.getModule());
+        }
+
+        public Class<?> type() {
+            return type;
+        }
+
+        /**
+         * Whether the package of the class is open to Matriarch, so its non-public members can be
+         * made accessible.
+         */
+        public boolean isOpen() {
+            return open;
+        }
+
+        /**
+         * All non-static fields, including inherited fields.
+         */
+        public List<Field> fields() {
+            List<Field> result = fields;
+            if (result == null) {
+                synchronized (this) {
+                    result = fields;
+                    if (result == null) {
+                        fields = result = extractFields();
+                        return missed(result);
+                    }
+                }
+            }
+            return hit(result);
+        }
+
+        /**
+         * All declared constructors.
+         */
+        public List<Constructor<?>> constructors() {
+            List<Constructor<?>> result = constructors;
+            if (result == null) {
+                synchronized (this) {
+                    result = constructors;
+                    if (result == null) {
+                        constructors = result = List.of(type.getDeclaredConstructors());
+                        return missed(result);
+                    }
+                }
+            }
+            return hit(result);
+        }
+
+        /**
+         * The public static methods returning an instance of the class.
+         */
+        public List<Method> staticFactoryMethods() {
+            List<Method> result = staticFactoryMethods;
+            if (result == null) {
+                synchronized (this) {
+                    result = staticFactoryMethods;
+                    if (result == null) {
+                        staticFactoryMethods = result = extractStaticFactoryMethods();
+                        return missed(result);
+                    }
+                }
+            }
+            return hit(result);
+        }
+
+        /**
+         * The record components, or an empty list if the class is not a record.
+         */
+        public List<RecordComponent> recordComponents() {
+            List<RecordComponent> result = recordComponents;
+            if (result == null) {
+                synchronized (this) {
+                    result = recordComponents;
+                    if (result == null) {
+                        recordComponents = result = type.isRecord() ? List.of(type.getRecordComponents()) : List.of();
+                        return missed(result);
+                    }
+                }
+            }
+            return hit(result);
+        }
+
+        /**
+         * The first public method named after the field's setter ({@code setName} for
+         * {@code name}), or empty if there is none.
+         */
+        public Optional<Method> setter(String fieldName) {
+            final Optional<Method> cached = setters.get(fieldName);
+            if (cached != null) {
+                return hit(cached);
+            }
+            return missed(setters.computeIfAbsent(fieldName, name -> Optional.ofNullable(setterIndex().get(setterName(name)))));
+        }
+
+        private Map<String, Method> setterIndex() {
+            Map<String, Method> index = setterIndex;
+            if (index == null) {
+                synchronized (this) {
+                    index = setterIndex;
+                    if (index == null) {
+                        final Map<String, Method> methods = new HashMap<>();
+                        for (Method method : type.getMethods()) {
+                            if (method.getName().startsWith("set")) {
+                                methods.putIfAbsent(method.getName(), method);
+                            }
+                        }
+                        setterIndex = index = methods;
+                    }
+                }
+            }
+            return index;
+        }
+
+        private List<Field> extractFields() {
+            final List<Field> allFields = new ArrayList<>();
+            Class<?> currentClass = type;
+            while (currentClass != null && currentClass != Object.class) {
+                Arrays.stream(currentClass.getDeclaredFields())
+                        .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                        .forEach(allFields::add);
+                currentClass = currentClass.getSuperclass();
+            }
+            return Collections.unmodifiableList(allFields);
+        }
+
+        private List<Method> extractStaticFactoryMethods() {
+            return Arrays.stream(type.getDeclaredMethods())
+                    .filter(method -> Modifier.isStatic(method.getModifiers()) &&
+                                    Modifier.isPublic(method.getModifiers()) &&
+                                    type.isAssignableFrom(method.getReturnType()))
+                    .toList();
+        }
+
+        private static String setterName(String fieldName) {
+            return "set" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+        }
+
+        private static <V> V hit(V value) {
+            MatriarchMetrics.increment(MatriarchMetrics.Counter.REFLECTION_CACHE_HIT);
+            return value;
+        }
+
+        private static <V> V missed(V value) {
+            MatriarchMetrics.increment(MatriarchMetrics.Counter.REFLECTION_CACHE_MISS);
+            return value;
+        }
+    }
+}
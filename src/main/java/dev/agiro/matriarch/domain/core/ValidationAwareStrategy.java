@@ -5,7 +5,7 @@ import dev.agiro.matriarch.domain.model.Overrider;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 import java.util.logging.Logger;
 
 /**
@@ -90,7 +90,7 @@ public class ValidationAwareStrategy implements OverrideStrategy {
     private void handleMin(BuilderConfiguration<?> config, String fieldName, Annotation annotation) {
         try {
             long min = (long) annotation.annotationType().getMethod("value").invoke(annotation);
-            Random random = GenerationContext.getInstance().getRandom();
+            RandomGenerator random = GenerationContext.getInstance().getRandomGenerator();
             long value = min + Math.abs(random.nextLong() % 1000);
             config.addOverride(fieldName, Overrider.object(value));
         } catch (Exception e) {
@@ -101,7 +101,7 @@ public class ValidationAwareStrategy implements OverrideStrategy {
     private void handleMax(BuilderConfiguration<?> config, String fieldName, Annotation annotation) {
         try {
             long max = (long) annotation.annotationType().getMethod("value").invoke(annotation);
-            Random random = GenerationContext.getInstance().getRandom();
+            RandomGenerator random = GenerationContext.getInstance().getRandomGenerator();
             long value = max - Math.abs(random.nextLong() % Math.max(1, max));
             config.addOverride(fieldName, Overrider.object(value));
         } catch (Exception e) {
@@ -123,7 +123,7 @@ public class ValidationAwareStrategy implements OverrideStrategy {
     }
 
     private void handlePositive(BuilderConfiguration<?> config, String fieldName, Field field) {
-        Random random = GenerationContext.getInstance().getRandom();
+        RandomGenerator random = GenerationContext.getInstance().getRandomGenerator();
         if (isIntegerType(field.getType())) {
             config.addOverride(fieldName, Overrider.object(1 + Math.abs(random.nextInt() % 10000)));
         } else {
@@ -132,7 +132,7 @@ public class ValidationAwareStrategy implements OverrideStrategy {
     }
 
     private void handlePositiveOrZero(BuilderConfiguration<?> config, String fieldName, Field field) {
-        Random random = GenerationContext.getInstance().getRandom();
+        RandomGenerator random = GenerationContext.getInstance().getRandomGenerator();
         if (isIntegerType(field.getType())) {
             config.addOverride(fieldName, Overrider.object(Math.abs(random.nextInt() % 10000)));
         } else {
@@ -141,7 +141,7 @@ public class ValidationAwareStrategy implements OverrideStrategy {
     }
 
     private void handleNegative(BuilderConfiguration<?> config, String fieldName, Field field) {
-        Random random = GenerationContext.getInstance().getRandom();
+        RandomGenerator random = GenerationContext.getInstance().getRandomGenerator();
         if (isIntegerType(field.getType())) {
             config.addOverride(fieldName, Overrider.object(-(1 + Math.abs(random.nextInt() % 10000))));
         } else {
@@ -150,7 +150,7 @@ public class ValidationAwareStrategy implements OverrideStrategy {
     }
 
     private void handleNegativeOrZero(BuilderConfiguration<?> config, String fieldName, Field field) {
-        Random random = GenerationContext.getInstance().getRandom();
+        RandomGenerator random = GenerationContext.getInstance().getRandomGenerator();
         if (isIntegerType(field.getType())) {
             config.addOverride(fieldName, Overrider.object(-Math.abs(random.nextInt() % 10000)));
         } else {
@@ -174,7 +174,7 @@ public class ValidationAwareStrategy implements OverrideStrategy {
         try {
             String value = (String) annotation.annotationType().getMethod("value").invoke(annotation);
             double min = Double.parseDouble(value);
-            Random random = GenerationContext.getInstance().getRandom();
+            RandomGenerator random = GenerationContext.getInstance().getRandomGenerator();
             config.addOverride(fieldName, Overrider.object(min + Math.abs(random.nextDouble() * 100)));
         } catch (Exception e) {
             log.fine(() -> "Could not process @DecimalMin for field " + fieldName);
@@ -185,7 +185,7 @@ public class ValidationAwareStrategy implements OverrideStrategy {
         try {
             String value = (String) annotation.annotationType().getMethod("value").invoke(annotation);
             double max = Double.parseDouble(value);
-            Random random = GenerationContext.getInstance().getRandom();
+            RandomGenerator random = GenerationContext.getInstance().getRandomGenerator();
             config.addOverride(fieldName, Overrider.object(max - Math.abs(random.nextDouble() * Math.max(1, max))));
         } catch (Exception e) {
             log.fine(() -> "Could not process @DecimalMax for field " + fieldName);
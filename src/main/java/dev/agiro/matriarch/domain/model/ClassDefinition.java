@@ -1,12 +1,25 @@
 package dev.agiro.matriarch.domain.model;
 
+import dev.agiro.matriarch.domain.core.GenerationSession;
+
 
 import java.lang.reflect.Type;
 import java.util.Map;
 
 public record ClassDefinition<T>(Class<T> aClass,
                                  Map<String, Overrider> overrideValues,
-                                 String overrideCoordinate) implements Definition {
+                                 String overrideCoordinate,
+                                 OverrideNode overrideNode,
+                                 GenerationSession session) implements Definition {
+
+    public ClassDefinition(Class<T> aClass, Map<String, Overrider> overrideValues, String overrideCoordinate) {
+        this(aClass,
+             overrideValues,
+             overrideCoordinate,
+             OverrideNode.resolve(overrideValues, overrideCoordinate),
+             GenerationSession.current());
+    }
+
     @Override
     public Class<?> clazz() {
         return aClass;
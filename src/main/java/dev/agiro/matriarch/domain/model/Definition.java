@@ -1,5 +1,7 @@
 package dev.agiro.matriarch.domain.model;
 
+import dev.agiro.matriarch.domain.core.GenerationSession;
+
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.Collections;
@@ -14,6 +16,22 @@ public interface Definition {
 
     String overrideCoordinate();
 
+    /**
+     * The node of the override trie at {@link #overrideCoordinate()}. Implementations built by the
+     * generation walk carry it directly; the default compiles it from {@link #overrideValues()}.
+     */
+    default OverrideNode overrideNode() {
+        return OverrideNode.resolve(overrideValues(), overrideCoordinate());
+    }
+
+    /**
+     * The session of the generation this definition belongs to. Implementations built by the
+     * generation walk carry it directly; the default is the session bound to the current thread.
+     */
+    default GenerationSession session() {
+        return GenerationSession.current();
+    }
+
     default Map<TypeVariable<?>, Type> getResolvedGenericTypeMap() {
         return Collections.emptyMap();
     }
@@ -1,5 +1,7 @@
 package dev.agiro.matriarch.domain.model;
 
+import dev.agiro.matriarch.domain.core.GenerationSession;
+
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.Arrays; // Import Arrays
@@ -8,12 +10,22 @@ import java.util.Map;
 public record FieldDefinition(Field field,
                               Map<String, Overrider> overrideValues,
                               String overrideCoordinate,
-                              Map<java.lang.reflect.TypeVariable<?>, Type> resolvedGenericTypeMap) implements Definition {
+                              Map<java.lang.reflect.TypeVariable<?>, Type> resolvedGenericTypeMap,
+                              OverrideNode overrideNode,
+                              GenerationSession session) implements Definition {
 
     public FieldDefinition(Field field, Map<String, Overrider> overrideValues, String overrideCoordinate) {
         this(field, overrideValues, overrideCoordinate, java.util.Collections.emptyMap());
     }
 
+    public FieldDefinition(Field field,
+                           Map<String, Overrider> overrideValues,
+                           String overrideCoordinate,
+                           Map<java.lang.reflect.TypeVariable<?>, Type> resolvedGenericTypeMap) {
+        this(field, overrideValues, overrideCoordinate, resolvedGenericTypeMap,
+                OverrideNode.resolve(overrideValues, overrideCoordinate), GenerationSession.current());
+    }
+
     @Override
     public Class<?> clazz() {
         Type fieldType = field.getGenericType();
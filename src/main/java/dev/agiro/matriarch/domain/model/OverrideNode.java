@@ -0,0 +1,252 @@
+package dev.agiro.matriarch.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Node of the override trie compiled from dotted override coordinates.
+ * <p>
+ * Coordinates such as {@code "address.city"}, {@code "items[2]"} or {@code "counts[key]"} are
+ * split into field segments ({@code .name}) and element segments ({@code [index]} or {@code [key]}),
+ * so the generation walk can move from a node to the node of a nested field or collection element
+ * without building and scanning coordinate strings. Missing paths resolve to {@link #EMPTY}.
+ * A node may also carry the size configured for the collection generated at its path.
+ * The trie is immutable once compiled. The one exception is a benign cache of the converted
+ * override value, keyed by target type (see {@link #convertedValue}): racing threads at worst
+ * convert the same value twice, and a lookup for another type replaces the cached entry.
+ */
+public final class OverrideNode {
+
+    public static final OverrideNode EMPTY = new OverrideNode(null);
+
+    private Overrider value;
+    private Map<String, OverrideNode> fields = Map.of();
+    private Map<String, OverrideNode> elements = Map.of();
+    private List<String> elementKeys = List.of();
+    private int indexedSize = 0;
+    private int collectionSize = -1;
+    /** Last conversion of {@link #value}, keyed by its target type; not part of the trie. */
+    private volatile Conversion conversion;
+
+    private OverrideNode(Overrider value) {
+        this.value = value;
+    }
+
+    /**
+     * Compile a map of override coordinates into the root node of an override trie.
+     */
+    public static OverrideNode compile(Map<String, Overrider> overrides) {
+        return compile(overrides, Map.of());
+    }
+
+    /**
+     * Compile a map of override coordinates, and of collection sizes by coordinate, into the root
+     * node of an override trie.
+     */
+    public static OverrideNode compile(Map<String, Overrider> overrides, Map<String, Integer> collectionSizes) {
+        final boolean noOverrides = overrides == null || overrides.isEmpty();
+        if (noOverrides && (collectionSizes == null || collectionSizes.isEmpty())) {
+            return EMPTY;
+        }
+        final OverrideNode root = new OverrideNode(null);
+        if (!noOverrides) {
+            overrides.forEach((coordinate, overrider) -> root.insert(coordinate).value = overrider);
+        }
+        if (collectionSizes != null) {
+            collectionSizes.forEach((coordinate, size) -> root.insert(coordinate).collectionSize = size);
+        }
+        root.freeze();
+        return root;
+    }
+
+    /**
+     * Compile a map of override coordinates and resolve the node found at the given coordinate.
+     */
+    public static OverrideNode resolve(Map<String, Overrider> overrides, String coordinate) {
+        return compile(overrides).at(coordinate);
+    }
+
+    /**
+     * A node holding a single override and no children.
+     */
+    public static OverrideNode leaf(Overrider value) {
+        return new OverrideNode(value);
+    }
+
+    /**
+     * The override set at exactly this path, or {@code null}.
+     */
+    public Overrider value() {
+        return value;
+    }
+
+    public boolean hasValue() {
+        return value != null;
+    }
+
+    /**
+     * The value of the override at this path converted to a type, converting it on first use
+     * only. Nodes are shared by every build of a plan, so this is meant for conversions whose
+     * results are immutable.
+     */
+    public Object convertedValue(Class<?> type, BiFunction<Object, Class<?>, Object> converter) {
+        final Conversion cached = conversion;
+        if (cached != null && cached.type() == type) {
+            return cached.value();
+        }
+        final Object converted = converter.apply(value.value(), type);
+        conversion = new Conversion(type, converted);
+        return converted;
+    }
+
+    /**
+     * The node of a nested field.
+     */
+    public OverrideNode field(String name) {
+        return fields.getOrDefault(name, EMPTY);
+    }
+
+    /**
+     * The node of a list/set/array element.
+     */
+    public OverrideNode element(int index) {
+        return elements.isEmpty() ? EMPTY : element(Integer.toString(index));
+    }
+
+    /**
+     * The node of a map entry, or of an element by its textual index.
+     */
+    public OverrideNode element(String key) {
+        return elements.getOrDefault(key, EMPTY);
+    }
+
+    /**
+     * The size implied by indexed element overrides: one more than the highest {@code [i]} with an
+     * override, or {@code 0} when there are none.
+     */
+    public int indexedSize() {
+        return indexedSize;
+    }
+
+    /**
+     * The size configured for the collection at this path, or {@code -1} when there is none.
+     */
+    public int collectionSize() {
+        return collectionSize;
+    }
+
+    /**
+     * The keys of the element overrides ({@code [key]}) set at this node, in declaration order.
+     */
+    public List<String> elementKeys() {
+        return elementKeys;
+    }
+
+    /**
+     * Resolve the node of a full override coordinate, starting from this node.
+     */
+    public OverrideNode at(String coordinate) {
+        OverrideNode node = this;
+        final List<Segment> segments = parse(coordinate);
+        for (int i = 0; i < segments.size() && node != EMPTY; i++) {
+            final Segment segment = segments.get(i);
+            node = segment.element() ? node.element(segment.name()) : node.field(segment.name());
+        }
+        return node;
+    }
+
+    private OverrideNode insert(String coordinate) {
+        OverrideNode node = this;
+        for (Segment segment : parse(coordinate)) {
+            node = segment.element() ? node.mutableElement(segment.name()) : node.mutableField(segment.name());
+        }
+        return node;
+    }
+
+    private OverrideNode mutableField(String name) {
+        if (fields.isEmpty()) {
+            fields = new HashMap<>();
+        }
+        return fields.computeIfAbsent(name, k -> new OverrideNode(null));
+    }
+
+    private OverrideNode mutableElement(String key) {
+        if (elements.isEmpty()) {
+            elements = new LinkedHashMap<>();
+        }
+        return elements.computeIfAbsent(key, k -> new OverrideNode(null));
+    }
+
+    private void freeze() {
+        final List<String> keys = new ArrayList<>();
+        int size = 0;
+        for (Map.Entry<String, OverrideNode> entry : elements.entrySet()) {
+            if (entry.getValue().hasValue()) {
+                keys.add(entry.getKey());
+                size = Math.max(size, indexOf(entry.getKey()) + 1);
+            }
+            entry.getValue().freeze();
+        }
+        fields.values().forEach(OverrideNode::freeze);
+        fields = fields.isEmpty() ? Map.of() : Collections.unmodifiableMap(fields);
+        elements = elements.isEmpty() ? Map.of() : Collections.unmodifiableMap(elements);
+        elementKeys = List.copyOf(keys);
+        indexedSize = size;
+    }
+
+    private static int indexOf(String key) {
+        if (key.isEmpty() || key.length() > 9) {
+            return -1;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (!Character.isDigit(key.charAt(i))) {
+                return -1;
+            }
+        }
+        return Integer.parseInt(key);
+    }
+
+    /**
+     * Split a coordinate such as {@code a.b[0].c} into {@code a}, {@code b}, {@code [0]}, {@code c}.
+     */
+    private static List<Segment> parse(String coordinate) {
+        final List<Segment> segments = new ArrayList<>();
+        if (coordinate == null || coordinate.isEmpty()) {
+            return segments;
+        }
+        int i = 0;
+        final int length = coordinate.length();
+        while (i < length) {
+            final char c = coordinate.charAt(i);
+            if (c == '[') {
+                int end = coordinate.indexOf(']', i + 1);
+                if (end < 0) {
+                    end = length;
+                }
+                segments.add(new Segment(coordinate.substring(i + 1, end), true));
+                i = end + 1;
+            } else if (c == '.') {
+                i++;
+            } else {
+                int end = i;
+                while (end < length && coordinate.charAt(end) != '.' && coordinate.charAt(end) != '[') {
+                    end++;
+                }
+                segments.add(new Segment(coordinate.substring(i, end), false));
+                i = end;
+            }
+        }
+        return segments;
+    }
+
+    private record Segment(String name, boolean element) {
+    }
+
+    private record Conversion(Class<?> type, Object value) {
+    }
+}
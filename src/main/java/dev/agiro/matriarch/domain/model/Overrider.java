@@ -11,6 +11,33 @@ public record Overrider(Object value, OverriderType type) {
         return new Overrider(value, OverriderType.REGEX);
     }
 
+    /**
+     * A regex override whose values are never repeated: each build sharing it gets a different
+     * string matching the pattern, in a random order.
+     * Usage: {@code .forField("orderId", Overrider.regex("A\\d{10}").unique())}
+     *
+     * @throws IllegalStateException    if this is not a regex override
+     * @throws IllegalArgumentException if the pattern is unbounded or ambiguous, see
+     *                                  {@link dev.agiro.matriarch.util.RegexLanguage}
+     */
+    public Overrider unique() {
+        return new Overrider(new UniqueRegex(pattern(), null), OverriderType.REGEX);
+    }
+
+    /**
+     * Like {@link #unique()}, with the order of the values fixed by a seed.
+     */
+    public Overrider unique(long seed) {
+        return new Overrider(new UniqueRegex(pattern(), seed), OverriderType.REGEX);
+    }
+
+    private String pattern() {
+        if (type != OverriderType.REGEX) {
+            throw new IllegalStateException("Only regex overrides can be unique, not " + type);
+        }
+        return value instanceof UniqueRegex unique ? unique.pattern() : (String) value;
+    }
+
     public static Overrider object(Object object) {
         return new Overrider(object, OverriderType.OBJECT);
     }
@@ -1,5 +1,7 @@
 package dev.agiro.matriarch.domain.model;
 
+import dev.agiro.matriarch.domain.core.GenerationSession;
+
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.util.Map;
@@ -9,12 +11,22 @@ import java.util.Arrays;
 public record ParameterDefinition(Parameter parameter,
                                   Map<String, Overrider> overrideValues,
                                   String overrideCoordinate,
-                                  Map<java.lang.reflect.TypeVariable<?>, Type> resolvedGenericTypeMap) implements Definition {
+                                  Map<java.lang.reflect.TypeVariable<?>, Type> resolvedGenericTypeMap,
+                                  OverrideNode overrideNode,
+                                  GenerationSession session) implements Definition {
 
     public ParameterDefinition(Parameter parameter, Map<String, Overrider> overrideValues, String overrideCoordinate) {
         this(parameter, overrideValues, overrideCoordinate, java.util.Collections.emptyMap());
     }
 
+    public ParameterDefinition(Parameter parameter,
+                               Map<String, Overrider> overrideValues,
+                               String overrideCoordinate,
+                               Map<java.lang.reflect.TypeVariable<?>, Type> resolvedGenericTypeMap) {
+        this(parameter, overrideValues, overrideCoordinate, resolvedGenericTypeMap,
+                OverrideNode.resolve(overrideValues, overrideCoordinate), GenerationSession.current());
+    }
+
     @Override
     public Class<?> clazz() {
         Type paramType = parameter.getParameterizedType();
@@ -1,5 +1,7 @@
 package dev.agiro.matriarch.domain.model;
 
+import dev.agiro.matriarch.domain.core.GenerationSession;
+
 import java.lang.reflect.Type;
 import java.util.Map;
 
@@ -10,8 +12,18 @@ import java.util.Map;
 public record TypeReferenceDefinition<T>(
         TypeReference<T> typeReference,
         Map<String, Overrider> overrideValues,
-        String overrideCoordinate) implements Definition {
-    
+        String overrideCoordinate,
+        OverrideNode overrideNode,
+        GenerationSession session) implements Definition {
+
+    public TypeReferenceDefinition(TypeReference<T> typeReference, Map<String, Overrider> overrideValues, String overrideCoordinate) {
+        this(typeReference,
+             overrideValues,
+             overrideCoordinate,
+             OverrideNode.resolve(overrideValues, overrideCoordinate),
+             GenerationSession.current());
+    }
+
     @Override
     public Class<?> clazz() {
         return typeReference.getRawType();
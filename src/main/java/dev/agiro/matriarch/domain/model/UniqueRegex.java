@@ -0,0 +1,62 @@
+package dev.agiro.matriarch.domain.model;
+
+import dev.agiro.matriarch.util.RegexLanguage;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Value of a {@link Overrider#unique() unique} regex override: strings matching a bounded pattern,
+ * never repeated by the builds sharing the override.
+ * <p>
+ * The strings come from a seeded permutation of the pattern's {@link RegexLanguage}, so only a
+ * counter is kept. Without an explicit seed, the permutation is seeded from the generation's
+ * random generator the first time a value is needed, so seeded builds stay reproducible.
+ */
+public final class UniqueRegex {
+
+    private final String pattern;
+    private final RegexLanguage language;
+    private final Long seed;
+    private volatile RegexLanguage.Unique values;
+
+    /**
+     * @throws IllegalArgumentException if the pattern is unbounded or ambiguous
+     */
+    public UniqueRegex(String pattern, Long seed) {
+        this.pattern = pattern;
+        this.language = RegexLanguage.of(pattern);
+        this.seed = seed;
+    }
+
+    public String pattern() {
+        return pattern;
+    }
+
+    /**
+     * The next string of the sequence.
+     *
+     * @throws IllegalStateException when every string matching the pattern has been generated
+     */
+    public String next(RandomGenerator random) {
+        RegexLanguage.Unique current = values;
+        if (current == null) {
+            synchronized (this) {
+                current = values;
+                if (current == null) {
+                    current = language.unique(seed != null ? seed : random.nextLong());
+                    values = current;
+                }
+            }
+        }
+        try {
+            return current.next();
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException("All " + language.size() + " values of /" + pattern + "/ have been generated", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
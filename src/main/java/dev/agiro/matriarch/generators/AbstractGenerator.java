@@ -1,50 +1,91 @@
 package dev.agiro.matriarch.generators;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
-import dev.agiro.matriarch.domain.core.GenerationContext;
+import dev.agiro.matriarch.domain.core.GenerationEvents;
+import dev.agiro.matriarch.domain.core.MatriarchMetrics;
 import dev.agiro.matriarch.domain.model.Definition;
+import dev.agiro.matriarch.domain.model.Pattern;
 import dev.agiro.matriarch.domain.model.PatternType;
+import dev.agiro.matriarch.domain.model.UniqueRegex;
 import dev.agiro.matriarch.infrastructure.CompositePatternRepository;
 import dev.agiro.matriarch.infrastructure.PatternRepository;
 import dev.agiro.matriarch.util.RegexGenerator;
+import dev.agiro.matriarch.util.SubstringMatcher;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
 public abstract class AbstractGenerator<T> implements Function<Definition, T> {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper()
-            .registerModule(new ParameterNamesModule())
-            //.registerModule(new Jdk8Module())
-            .registerModule(new JavaTimeModule());
-
-    private static final PatternRepository patternRepository = new CompositePatternRepository();
-    static Map<String, Supplier<String>> patterns = new HashMap<>();
-
-    static {
-        patternRepository.getPatterns().getPatterns()
-                .forEach(pattern -> {
-                    switch (PatternType.valueOf(pattern.getType().toUpperCase())) {
-                        case STRING -> patterns.put(pattern.getCoordinate(), pattern::getValue);
-                        case REGEX -> patterns.put(pattern.getCoordinate(), () -> RegexGenerator.generate(pattern.getValue()));
-                        case LIST -> {
-                            final List<String> list = Arrays.stream(pattern.getValue().split(","))
-                                    .map(String::trim)
-                                    .toList();
-                            patterns.put(pattern.getCoordinate(), () -> list.get(GenerationContext.getInstance().getRandom().nextInt(list.size())));
+    /**
+     * The constant known patterns whose value cannot be converted to a type. Patterns with random
+     * values are never recorded: another draw may convert.
+     */
+    private static final ClassValue<Set<Integer>> unconvertiblePatterns = new ClassValue<>() {
+        @Override
+        protected Set<Integer> computeValue(Class<?> type) {
+            return ConcurrentHashMap.newKeySet();
+        }
+    };
+
+    /**
+     * The known patterns, loaded when the first field coordinate is matched rather than when the
+     * generators are created, so loading the generator classes stays cheap.
+     */
+    private static final class KnownPatterns {
+        private static final PatternRepository patternRepository = new CompositePatternRepository();
+        private static final List<Function<RandomGenerator, String>> patternValues = new ArrayList<>();
+        private static final BitSet constantPatterns = new BitSet();
+        private static final SubstringMatcher patternIndex;
+
+        static {
+            // Longer coordinates are more specific: when several patterns match a field, they are tried first.
+            final List<Pattern> known = patternRepository.getPatterns().getPatterns().stream()
+                    .sorted(Comparator.comparingInt((Pattern pattern) -> -pattern.getCoordinate().length())
+                                    .thenComparing(Pattern::getCoordinate))
+                    .toList();
+            known.forEach(pattern -> {
+                        switch (PatternType.valueOf(pattern.getType().toUpperCase())) {
+                            case STRING -> {
+                                constantPatterns.set(patternValues.size());
+                                patternValues.add(random -> pattern.getValue());
+                            }
+                            case REGEX -> patternValues.add(random -> RegexGenerator.generate(pattern.getValue(), random));
+                            case LIST -> {
+                                final List<String> list = Arrays.stream(pattern.getValue().split(","))
+                                        .map(String::trim)
+                                        .toList();
+                                patternValues.add(random -> list.get(random.nextInt(list.size())));
+                            }
+
                         }
+                    });
+            patternIndex = new SubstringMatcher(known.stream().map(Pattern::getCoordinate).toList());
+        }
+    }
 
-                    }
-                });
+    /**
+     * Whether a known pattern applies to the given override coordinate.
+     */
+    static boolean matchesPattern(String coordinate) {
+        return KnownPatterns.patternIndex.containsAny(coordinate);
+    }
+
+    /**
+     * Load the known patterns now instead of on the first generated field.
+     *
+     * @return the number of known patterns
+     */
+    public static int preloadPatterns() {
+        return KnownPatterns.patternValues.size();
     }
 
     Function<Definition, Optional<T>> override = input -> {
 
-        if (input.overrideValues().containsKey(input.overrideCoordinate())) {
-            final var overrider = input.overrideValues().get(input.overrideCoordinate());
+        final var overrider = input.overrideNode().value();
+        if (overrider != null) {
             switch (overrider.type()) {
                 case NULL -> {
                     return Optional.empty();
@@ -59,33 +100,75 @@ public abstract class AbstractGenerator<T> implements Function<Definition, T> {
                     if (suppliedValue.getClass().equals(input.clazz()) || getClazz().isInstance(suppliedValue)) {
                         return Optional.of(getClazz().cast(suppliedValue));
                     }
-                    return Optional.of(getClazz().cast(objectMapper.convertValue(suppliedValue, input.clazz())));
+                    return Optional.of(getClazz().cast(convertOverride(suppliedValue, input.clazz(), input.overrideCoordinate())));
                 }
                 case OBJECT, STRING -> {
-                    if (overrider.value().getClass().equals(input.clazz())) {
+                    if (overrider.value().getClass().equals(input.clazz()) || (input.clazz().isInstance(overrider.value()) && getClazz().isInstance(overrider.value()))) {
                         return Optional.of(getClazz().cast(overrider.value()));
                     }
-                    return Optional.of(getClazz().cast(objectMapper.convertValue(overrider.value(),
-                                                                                 input.clazz())));
+                    // Constant overrides are converted once per plan when the result is immutable.
+                    final Object converted = TypeConverters.isImmutable(input.clazz())
+                            ? input.overrideNode().convertedValue(input.clazz(), (value, type) -> convertOverride(value, type, input.overrideCoordinate()))
+                            : convertOverride(overrider.value(), input.clazz(), input.overrideCoordinate());
+                    return Optional.of(getClazz().cast(converted));
                 }
                 case REGEX -> {
-                    return Optional.of(getClazz().cast(objectMapper.convertValue(RegexGenerator.generate((String)overrider.value()),
-                                                                                 input.clazz())));
+                    final String generated = overrider.value() instanceof UniqueRegex unique
+                            ? unique.next(input.session().random())
+                            : RegexGenerator.generate((String) overrider.value(), input.session().random());
+                    return Optional.of(getClazz().cast(convertOverride(generated, input.clazz(), input.overrideCoordinate())));
                 }
             }
         }
-        for (var entry : patterns.entrySet()) {
-            if (input.overrideCoordinate().toLowerCase().contains(entry.getKey().toLowerCase())) {
+        final int[] candidates = KnownPatterns.patternIndex.matches(input.overrideCoordinate());
+        if (candidates.length > 0) {
+            final Set<Integer> unconvertible = unconvertiblePatterns.get(input.clazz());
+            for (int candidate : candidates) {
+                if (unconvertible.contains(candidate)) {
+                    continue;
+                }
                 try {
-                    return Optional.of(getClazz().cast(objectMapper.convertValue(entry.getValue().get(), input.clazz())));
-                } catch (Exception ignored) {
-                    // Pattern value cannot be coerced into the target type; continue searching.
+                    final T value = getClazz().cast(TypeConverters.convert(KnownPatterns.patternValues.get(candidate).apply(input.session().random()), input.clazz()));
+                    MatriarchMetrics.increment(MatriarchMetrics.Counter.KNOWN_PATTERN_HIT);
+                    return Optional.of(value);
+                } catch (Exception e) {
+                    // Pattern value cannot be coerced into the target type: skip it for this draw, and
+                    // for this type from now on when the pattern always gives the same value.
+                    if (KnownPatterns.constantPatterns.get(candidate)) {
+                        unconvertible.add(candidate);
+                    }
                 }
             }
         }
         return Optional.empty();
     };
 
+    /**
+     * Convert an override value to the type of its field, recording the conversion for JFR.
+     */
+    private static Object convertOverride(Object value, Class<?> type, String coordinate) {
+        final GenerationEvents.OverrideConversion event = new GenerationEvents.OverrideConversion();
+        if (!event.isEnabled()) {
+            return TypeConverters.convert(value, type);
+        }
+        event.begin();
+        String outcome = GenerationEvents.FAILURE;
+        try {
+            final Object converted = TypeConverters.convert(value, type);
+            outcome = GenerationEvents.SUCCESS;
+            return converted;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.sourceType = value == null ? null : value.getClass();
+                event.targetType = type;
+                event.coordinate = coordinate;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
     private final Class<T> fieldType;
 
     protected AbstractGenerator(Class<T> fieldType) {
@@ -100,16 +183,26 @@ public abstract class AbstractGenerator<T> implements Function<Definition, T> {
 
     @Override
     public T apply(Definition supplierInput){
-            if (supplierInput.overrideValues().containsKey(supplierInput.overrideCoordinate())) {
-                final var overrider = supplierInput.overrideValues().get(supplierInput.overrideCoordinate());
-                if (overrider.type() == dev.agiro.matriarch.domain.model.Overrider.OverriderType.NULL) {
-                    return null;
-                }
+            final var overrider = supplierInput.overrideNode().value();
+            if (overrider != null && overrider.type() == dev.agiro.matriarch.domain.model.Overrider.OverriderType.NULL) {
+                return null;
             }
-            return override.apply(supplierInput).orElse(generate(supplierInput));
+            return override.apply(supplierInput).orElseGet(() -> generate(supplierInput));
     }
 
     public abstract T generate(Definition supplierInput);
 
+    /**
+     * The size of the collection, array or buffer to generate: the size configured for its path,
+     * else the one implied by indexed element overrides, else a random size in the configured range.
+     */
+    protected static int collectionSize(Definition supplierInput) {
+        final var node = supplierInput.overrideNode();
+        if (node.collectionSize() >= 0) {
+            return node.collectionSize();
+        }
+        return node.indexedSize() > 0 ? node.indexedSize() : supplierInput.session().randomCollectionSize();
+    }
+
 
 }
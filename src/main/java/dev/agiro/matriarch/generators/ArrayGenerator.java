@@ -2,42 +2,157 @@ package dev.agiro.matriarch.generators;
 
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
+import dev.agiro.matriarch.domain.core.GenerationSession;
 import dev.agiro.matriarch.domain.model.ClassDefinition;
 import dev.agiro.matriarch.domain.model.Definition;
+import dev.agiro.matriarch.domain.model.OverrideNode;
 
+import java.lang.reflect.Array;
 import java.util.Map;
-import java.util.Optional;
-import java.util.regex.Pattern;
-import java.util.stream.IntStream;
+import java.util.random.RandomGenerator;
 
-public class ArrayGenerator extends AbstractGenerator<Object[]> implements MultiGenerator {
+/**
+ * Generates arrays of the declared component type. Primitive arrays are filled in bulk from the
+ * session's random generator, or through the element generator's {@link PrimitiveGenerator}
+ * contract, without boxing every element; only elements with an override ({@code "values[2]"})
+ * go through the boxed element generator.
+ */
+public class ArrayGenerator extends AbstractGenerator<Object> implements MultiGenerator {
 
     private final Map<ClazzGenerators, AbstractGenerator<?>> generators;
 
-    @SuppressWarnings("unchecked")
     public ArrayGenerator(Map<ClazzGenerators, AbstractGenerator<?>> generators) {
-        super( Object[].class);
+        super(Object.class);
         this.generators = generators;
     }
 
 
     @Override
-    public Object[] generate(Definition supplierInput) {
-            final Class<?> aClass = supplierInput.clazz().getComponentType();
-            var generator = generators.get(ClazzGenerators.forClass(aClass));
-            Pattern pattern = Pattern.compile(Pattern.quote(supplierInput.overrideCoordinate()) + "\\[(\\d*)]");
-            Optional<Integer> overridedSize = supplierInput.overrideValues().keySet().stream()
-                    .filter(s -> pattern.matcher(s).matches())
-                    .map(s -> Integer.parseInt(pattern.matcher(s).replaceAll("$1")) + 1)
-                    .max(Integer::compareTo);
-            final int      listSize      = overridedSize.orElse(GenerationContext.getInstance().randomCollectionSize());
-            return IntStream.range(0, listSize)
-                    .mapToObj(i -> generator.apply(new ClassDefinition<>(aClass,
-                                                                            supplierInput.overrideValues(),
-                                                                            supplierInput.overrideCoordinate() + "[%d]".formatted(i))))
-                    .toArray();
+    public Object generate(Definition supplierInput) {
+        final Class<?> componentType = supplierInput.clazz().getComponentType();
+        if (componentType.isPrimitive()) {
+            if (GeneratorRegistry.global().find(componentType) != null) {
+                return generateEach(componentType, collectionSize(supplierInput), supplierInput);
+            }
+            final Object array = fill(componentType, collectionSize(supplierInput), supplierInput.session());
+            applyElementOverrides(array, componentType, supplierInput);
+            return array;
+        }
+        if (generatesEmpty(supplierInput.session(), componentType)) {
+            return Array.newInstance(componentType, 0);
+        }
+        final AbstractGenerator<?> generator = generatorFor(componentType);
+        final OverrideNode node = supplierInput.overrideNode();
+        final Object[] array = (Object[]) Array.newInstance(componentType, collectionSize(supplierInput));
+        final Object[] elements = ParallelElements.generate(supplierInput.session(), array.length, (i, session) ->
+                generator.apply(elementDefinition(supplierInput, componentType, i, node.element(i), session)));
+        System.arraycopy(elements, 0, array, 0, array.length);
+        return array;
+    }
+
+    private Object fill(Class<?> componentType, int size, GenerationSession session) {
+        final RandomGenerator random = session.random();
+        if (componentType == byte.class) {
+            final byte[] bytes = new byte[size];
+            random.nextBytes(bytes);
+            return bytes;
+        }
+        if (componentType == int.class) {
+            return random.ints(size, 0, Integer.MAX_VALUE).toArray();
+        }
+        if (componentType == long.class) {
+            return random.longs(size).toArray();
+        }
+        if (componentType == double.class) {
+            return random.doubles(size).toArray();
+        }
+        final AbstractGenerator<?> generator = generatorFor(componentType);
+        if (generator instanceof PrimitiveGenerator.OfFloat floats) {
+            final float[] array = new float[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = floats.generateFloat(session);
+            }
+            return array;
+        }
+        if (generator instanceof PrimitiveGenerator.OfShort shorts) {
+            final short[] array = new short[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = shorts.generateShort(session);
+            }
+            return array;
+        }
+        if (generator instanceof PrimitiveGenerator.OfChar chars) {
+            final char[] array = new char[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = chars.generateChar(session);
+            }
+            return array;
+        }
+        final PrimitiveGenerator.OfBoolean booleans = (PrimitiveGenerator.OfBoolean) generator;
+        final boolean[] array = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = booleans.generateBoolean(session);
+        }
+        return array;
+    }
+
+    /**
+     * Fill a primitive array element by element, for component types with a custom generator.
+     */
+    private Object generateEach(Class<?> componentType, int size, Definition supplierInput) {
+        final AbstractGenerator<?> generator = generatorFor(componentType);
+        final OverrideNode node = supplierInput.overrideNode();
+        final Object array = Array.newInstance(componentType, size);
+        for (int i = 0; i < size; i++) {
+            final Object value = generator.apply(elementDefinition(supplierInput, componentType, i, node.element(i)));
+            if (value != null) {
+                Array.set(array, i, value);
+            }
+        }
+        return array;
+    }
+
+    private void applyElementOverrides(Object array, Class<?> componentType, Definition supplierInput) {
+        final OverrideNode node = supplierInput.overrideNode();
+        if (node.elementKeys().isEmpty()) {
+            return;
+        }
+        final AbstractGenerator<?> generator = generatorFor(componentType);
+        final int length = Array.getLength(array);
+        for (String key : node.elementKeys()) {
+            final int index = indexOf(key);
+            if (index < 0 || index >= length) {
+                continue;
+            }
+            final Object value = generator.apply(elementDefinition(supplierInput, componentType, index, node.element(key)));
+            if (value != null) {
+                Array.set(array, index, value);
+            }
+        }
+    }
+
+    private static ClassDefinition<?> elementDefinition(Definition supplierInput, Class<?> componentType, int index, OverrideNode elementNode) {
+        return elementDefinition(supplierInput, componentType, index, elementNode, supplierInput.session());
+    }
+
+    private static ClassDefinition<?> elementDefinition(Definition supplierInput,
+                                                        Class<?> componentType,
+                                                        int index,
+                                                        OverrideNode elementNode,
+                                                        GenerationSession session) {
+        return new ClassDefinition<>(componentType,
+                                     supplierInput.overrideValues(),
+                                     supplierInput.overrideCoordinate() + '[' + index + ']',
+                                     elementNode,
+                                     session);
+    }
 
+    private static int indexOf(String key) {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
 
     @Override
@@ -1,7 +1,6 @@
 package dev.agiro.matriarch.generators;
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
 import dev.agiro.matriarch.domain.model.Definition;
 
 import java.math.BigDecimal;
@@ -16,6 +15,6 @@ public class BigDecimalGenerator extends AbstractGenerator<BigDecimal> {
 
     @Override
     public BigDecimal generate(Definition supplierInput) {
-        return BigDecimal.valueOf(GenerationContext.getInstance().getRandom().nextDouble());
+        return BigDecimal.valueOf(supplierInput.session().random().nextDouble());
     }
 }
@@ -1,10 +1,10 @@
 package dev.agiro.matriarch.generators;
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
+import dev.agiro.matriarch.domain.core.GenerationSession;
 import dev.agiro.matriarch.domain.model.Definition;
 
-public class BooleanGenerator extends AbstractGenerator<Boolean> {
+public class BooleanGenerator extends AbstractGenerator<Boolean> implements PrimitiveGenerator.OfBoolean {
 
     public BooleanGenerator() {
         super(Boolean.class);
@@ -12,6 +12,11 @@ public class BooleanGenerator extends AbstractGenerator<Boolean> {
 
     @Override
     public Boolean generate(Definition supplierInput) {
-        return GenerationContext.getInstance().getRandom().nextBoolean();
+        return generateBoolean(supplierInput.session());
+    }
+
+    @Override
+    public boolean generateBoolean(GenerationSession session) {
+        return session.random().nextBoolean();
     }
 }
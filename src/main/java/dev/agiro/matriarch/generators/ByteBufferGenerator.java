@@ -0,0 +1,38 @@
+package dev.agiro.matriarch.generators;
+
+
+import dev.agiro.matriarch.domain.model.Definition;
+
+import java.nio.ByteBuffer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates {@link ByteBuffer}s filled with random bytes, sized like collections. Buffers are heap
+ * buffers unless the session asks for {@link dev.agiro.matriarch.domain.core.GenerationSession#isDirectByteBuffers() direct} ones.
+ */
+public class ByteBufferGenerator extends AbstractGenerator<ByteBuffer> {
+
+    public ByteBufferGenerator() {
+        super(ByteBuffer.class);
+    }
+
+    @Override
+    public ByteBuffer generate(Definition supplierInput) {
+        final int size = collectionSize(supplierInput);
+        final RandomGenerator random = supplierInput.session().random();
+        if (!supplierInput.session().isDirectByteBuffers()) {
+            final byte[] bytes = new byte[size];
+            random.nextBytes(bytes);
+            return ByteBuffer.wrap(bytes);
+        }
+        // Fill the direct buffer in place, eight bytes at a time, instead of copying a heap array.
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+        while (buffer.remaining() >= Long.BYTES) {
+            buffer.putLong(random.nextLong());
+        }
+        while (buffer.hasRemaining()) {
+            buffer.put((byte) random.nextInt());
+        }
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,22 @@
+package dev.agiro.matriarch.generators;
+
+
+import dev.agiro.matriarch.domain.core.GenerationSession;
+import dev.agiro.matriarch.domain.model.Definition;
+
+public class ByteGenerator extends AbstractGenerator<Byte> implements PrimitiveGenerator.OfByte {
+
+    public ByteGenerator() {
+        super(Byte.class);
+    }
+
+    @Override
+    public Byte generate(Definition supplierInput) {
+        return generateByte(supplierInput.session());
+    }
+
+    @Override
+    public byte generateByte(GenerationSession session) {
+        return (byte) session.random().nextInt();
+    }
+}
@@ -1,10 +1,10 @@
 package dev.agiro.matriarch.generators;
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
+import dev.agiro.matriarch.domain.core.GenerationSession;
 import dev.agiro.matriarch.domain.model.Definition;
 
-public class CharacterGenerator extends AbstractGenerator<Character> {
+public class CharacterGenerator extends AbstractGenerator<Character> implements PrimitiveGenerator.OfChar {
 
     public CharacterGenerator() {
         super(Character.class);
@@ -12,6 +12,11 @@ public class CharacterGenerator extends AbstractGenerator<Character> {
 
     @Override
     public Character generate(Definition supplierInput) {
-        return (char) ('a' + GenerationContext.getInstance().getRandom().nextInt(26));
+        return generateChar(supplierInput.session());
+    }
+
+    @Override
+    public char generateChar(GenerationSession session) {
+        return (char) ('a' + session.random().nextInt(26));
     }
 }
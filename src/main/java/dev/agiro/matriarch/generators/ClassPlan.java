@@ -0,0 +1,352 @@
+package dev.agiro.matriarch.generators;
+
+import dev.agiro.matriarch.domain.core.MatriarchMetrics;
+import dev.agiro.matriarch.domain.core.MemberAccessors;
+import dev.agiro.matriarch.domain.core.ReflectionCache;
+import dev.agiro.matriarch.domain.model.InstanceType;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Compiled, immutable description of how instances of a class are generated.
+ * <p>
+ * A plan resolves everything that only depends on the class structure once: the
+ * fields to populate (with their generator when it can be decided statically), the
+ * no-arg static factory, and the constructor that Matriarch would choose. Fields,
+ * setters, factories and constructors are accessed through {@link MemberAccessors}
+ * handles that are resolved once per plan. Plans are
+ * cached per class, so repeated {@code build()} and {@code buildList(n)} calls only
+ * execute the plan instead of rediscovering the class.
+ * <p>
+ * Plans also remember what only the first generation can tell: a no-arg static factory
+ * that failed is not invoked again, and each field keeps the {@link WriteStrategy} that
+ * assigned it.
+ */
+public final class ClassPlan {
+
+    private static final ClassValue<ClassPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected ClassPlan computeValue(Class<?> type) {
+            MatriarchMetrics.increment(MatriarchMetrics.Counter.CLASS_PLAN_COMPILATION);
+            return new ClassPlan(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final List<FieldSlot> fields;
+    private final TypeVariable<?>[] typeParameters;
+    private final Method noArgFactory;
+    private final MemberAccessors.Invoker noArgFactoryInvoker;
+    private final Constructor<?> constructor;
+    private final MemberAccessors.Invoker constructorInvoker;
+    private final Parameter[] constructorParameters;
+    private final InstanceType constructorType;
+    private final String constructorFailure;
+    private final boolean noConstructors;
+    private volatile boolean noArgFactoryFailed;
+
+    private ClassPlan(Class<?> type) {
+        final ReflectionCache reflectionCache = ReflectionCache.getInstance();
+        this.type = type;
+        this.fields = reflectionCache.getFields(type).stream()
+                .map(field -> new FieldSlot(type, field))
+                .toList();
+        this.typeParameters = type.getTypeParameters();
+        this.noArgFactory = reflectionCache.getStaticFactoryMethods(type).stream()
+                .filter(method -> method.getParameterCount() == 0)
+                .findFirst()
+                .orElse(null);
+        this.noArgFactoryInvoker = noArgFactory == null ? null : MemberAccessors.staticMethodInvoker(noArgFactory).orElse(null);
+
+        final List<Constructor<?>> constructors = reflectionCache.getConstructors(type);
+        this.noConstructors = constructors.isEmpty();
+        Constructor<?> chosen = constructors.stream()
+                .filter(c -> Modifier.isPublic(c.getModifiers()))
+                .min(java.util.Comparator.comparingInt(Constructor::getParameterCount))
+                .orElse(null);
+        String failure = null;
+        if (chosen == null && !noConstructors) {
+            // If no public constructor, try protected or package-private (non-private, non-public)
+            chosen = constructors.stream()
+                    .filter(c -> !Modifier.isPrivate(c.getModifiers()) && !Modifier.isPublic(c.getModifiers()))
+                    .min(java.util.Comparator.comparingInt(Constructor::getParameterCount))
+                    .orElse(null);
+            if (chosen == null) {
+                failure = "No suitable public, protected, or package-private constructor found, and no suitable public static factory method for class " + type.getName();
+            }
+        } else if (noConstructors) {
+            failure = "No suitable public static factory method or public constructor found for class %s".formatted(type.getCanonicalName());
+        }
+        this.constructor = chosen;
+        this.constructorInvoker = chosen == null ? null : resolveInvoker(chosen);
+        this.constructorParameters = chosen == null ? new Parameter[0] : chosen.getParameters();
+        this.constructorType = chosen != null && chosen.getParameterCount() == 0 ? InstanceType.NO_ARGS_CONSTRUCTOR : InstanceType.CONSTRUCTOR;
+        this.constructorFailure = failure;
+    }
+
+    private static MemberAccessors.Invoker resolveInvoker(Constructor<?> constructor) {
+        // Left to reflection when no handle can be resolved, so that instantiation reports the access failure.
+        return MemberAccessors.constructorInvoker(constructor)
+                .orElse(constructor::newInstance);
+    }
+
+    /**
+     * Get the (cached) plan for a class.
+     */
+    public static ClassPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Compile the plans of a class and of every class reachable through its fields and
+     * constructor parameters that is generated by {@link GenericObjectGenerator}.
+     * Used to pay the reflection cost up-front, when a builder is compiled.
+     */
+    public static ClassPlan compileGraph(Class<?> root) {
+        final ClassPlan rootPlan = of(root);
+        final Set<Class<?>> visited = new HashSet<>();
+        final Deque<ClassPlan> pending = new ArrayDeque<>();
+        visited.add(root);
+        pending.push(rootPlan);
+        while (!pending.isEmpty()) {
+            final ClassPlan plan = pending.pop();
+            for (FieldSlot slot : plan.fields) {
+                enqueue(slot.field().getType(), slot.generator(), visited, pending);
+            }
+            for (Parameter parameter : plan.constructorParameters) {
+                enqueue(parameter.getType(), null, visited, pending);
+            }
+        }
+        return rootPlan;
+    }
+
+    private static void enqueue(Class<?> candidate, ClazzGenerators generator, Set<Class<?>> visited, Deque<ClassPlan> pending) {
+        if (candidate.isPrimitive() || candidate.isArray() || candidate.isInterface() || !visited.add(candidate)) {
+            return;
+        }
+        final ClazzGenerators resolved = generator != null ? generator : ClazzGenerators.forClass(candidate);
+        if (resolved == ClazzGenerators.GENERIC) {
+            pending.push(of(candidate));
+        }
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    public List<FieldSlot> fields() {
+        return fields;
+    }
+
+    public TypeVariable<?>[] typeParameters() {
+        return typeParameters;
+    }
+
+    /**
+     * The first public no-arg static factory method returning the class, or {@code null}.
+     */
+    public Method noArgFactory() {
+        return noArgFactory;
+    }
+
+    /**
+     * The invoker of {@link #noArgFactory()}, or {@code null} when there is no factory or it cannot be accessed.
+     */
+    public MemberAccessors.Invoker noArgFactoryInvoker() {
+        return noArgFactoryInvoker;
+    }
+
+    /**
+     * Whether {@link #noArgFactory()} threw when it was invoked, so that instances are created
+     * with the constructor straight away.
+     */
+    public boolean noArgFactoryFailed() {
+        return noArgFactoryFailed;
+    }
+
+    void markNoArgFactoryFailed() {
+        noArgFactoryFailed = true;
+    }
+
+    /**
+     * The constructor Matriarch instantiates the class with, or {@code null} when there is none
+     * (see {@link #constructorFailure()}).
+     */
+    public Constructor<?> constructor() {
+        return constructor;
+    }
+
+    /**
+     * The invoker of {@link #constructor()}, taking the constructor arguments in declaration order.
+     */
+    public MemberAccessors.Invoker constructorInvoker() {
+        return constructorInvoker;
+    }
+
+    public Parameter[] constructorParameters() {
+        return constructorParameters;
+    }
+
+    public InstanceType constructorType() {
+        return constructorType;
+    }
+
+    /**
+     * The reason why no constructor can be used, or {@code null} when {@link #constructor()} is set.
+     */
+    public String constructorFailure() {
+        return constructorFailure;
+    }
+
+    /**
+     * Whether the class declares no constructor at all (interfaces, arrays, primitives).
+     */
+    public boolean hasNoConstructors() {
+        return noConstructors;
+    }
+
+    /**
+     * A field of the planned class, with everything that can be resolved statically.
+     */
+    public static final class FieldSlot {
+        private final Class<?> owner;
+        private final Field field;
+        private final String name;
+        private final boolean writable;
+        private final ClazzGenerators generator;
+        private final MemberAccessors.FieldWriter writer;
+        private final MemberAccessors.PrimitiveFieldWriter primitiveWriter;
+        private volatile Optional<Setter> setter;
+        private volatile WriteStrategy writeStrategy = WriteStrategy.UNKNOWN;
+
+        FieldSlot(Class<?> owner, Field field) {
+            this.owner = owner;
+            this.field = field;
+            this.name = field.getName();
+            this.writable = !Modifier.isFinal(field.getModifiers());
+            this.generator = staticGenerator(field);
+            this.writer = writable ? MemberAccessors.fieldWriter(field).orElse(null) : null;
+            this.primitiveWriter = writer != null ? MemberAccessors.primitiveFieldWriter(field).orElse(null) : null;
+        }
+
+        /**
+         * The generator can be decided from the declaration unless the field type depends on
+         * type variables or is a parameterized {@link Number} subtype (see {@link ClazzGenerators#forClass(Class, Type[])}).
+         */
+        private static ClazzGenerators staticGenerator(Field field) {
+            final Type genericType = field.getGenericType();
+            if (genericType instanceof Class<?> rawType) {
+                return ClazzGenerators.forClass(rawType, new Type[]{rawType});
+            }
+            if (genericType instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> rawType
+                && !Number.class.isAssignableFrom(rawType)) {
+                return ClazzGenerators.forClass(rawType);
+            }
+            return null;
+        }
+
+        public Field field() {
+            return field;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Whether the field can be assigned after construction (it is not {@code final}).
+         */
+        public boolean writable() {
+            return writable;
+        }
+
+        /**
+         * The generator for this field, or {@code null} when it must be resolved per generation.
+         */
+        public ClazzGenerators generator() {
+            return generator;
+        }
+
+        /**
+         * The writer assigning the field directly, or {@code null} when the field is final or inaccessible.
+         */
+        public MemberAccessors.FieldWriter writer() {
+            return writer;
+        }
+
+        /**
+         * The writer assigning a primitive field without boxing, or {@code null} when the field is
+         * not primitive or cannot be written directly.
+         */
+        public MemberAccessors.PrimitiveFieldWriter primitiveWriter() {
+            return primitiveWriter;
+        }
+
+        /**
+         * The public setter of this field, resolved on first use. Only needed when writing the
+         * field directly is not possible.
+         */
+        public Optional<Setter> setter() {
+            Optional<Setter> resolved = setter;
+            if (resolved == null) {
+                resolved = ReflectionCache.getInstance().getSetterMethod(owner, name)
+                        .flatMap(method -> MemberAccessors.setterWriter(method)
+                                .map(setterWriter -> new Setter(method, setterWriter)));
+                setter = resolved;
+            }
+            return resolved;
+        }
+
+        /**
+         * How this field was last assigned, or {@link WriteStrategy#NONE} when it cannot be.
+         */
+        public WriteStrategy writeStrategy() {
+            return writeStrategy;
+        }
+
+        void writeStrategy(WriteStrategy writeStrategy) {
+            this.writeStrategy = writeStrategy;
+        }
+
+        /**
+         * The override coordinate of this field below the given parent coordinate.
+         */
+        public String coordinate(String parentCoordinate) {
+            return parentCoordinate.isEmpty() ? name : parentCoordinate + "." + name;
+        }
+    }
+
+    /**
+     * The way a field is assigned, learned from the first generations of its class.
+     */
+    public enum WriteStrategy {
+        /** Not assigned yet: the field is written directly, falling back to its setter. */
+        UNKNOWN,
+        /** Written directly. */
+        FIELD,
+        /** Written with its setter, because writing it directly failed or is not possible. */
+        SETTER,
+        /** Neither accessible directly nor through a setter: the field is skipped. */
+        NONE
+    }
+
+    /**
+     * A setter method together with its resolved writer.
+     */
+    public record Setter(Method method, MemberAccessors.FieldWriter writer) {
+    }
+}
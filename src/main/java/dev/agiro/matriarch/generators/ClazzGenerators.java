@@ -1,6 +1,7 @@
 package dev.agiro.matriarch.generators;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -14,6 +15,8 @@ public enum ClazzGenerators {
     STRING(StringGenerator.class, List.of(String.class)),
     CHARACTER(CharacterGenerator.class, List.of(char.class, Character.class)),
     BOOLEAN(BooleanGenerator.class, List.of(boolean.class, Boolean.class)),
+    BYTE(ByteGenerator.class, List.of(byte.class, Byte.class)),
+    SHORT(ShortGenerator.class, List.of(short.class, Short.class)),
     INTEGER(IntegerGenerator.class, List.of(int.class, Integer.class)),
     LONG(LongGenerator.class, List.of(long.class, Long.class)),
     FLOAT(FloatGenerator.class, List.of(float.class, Float.class)),
@@ -24,13 +27,24 @@ public enum ClazzGenerators {
     UUID(UUIDGenerator.class, List.of(java.util.UUID.class)),
     BIG_DECIMAL(BigDecimalGenerator.class, List.of(BigDecimal.class)),
     DATE(LocalDateGenerator.class, List.of(LocalDate.class)),
-    //ARRAY(ArrayGenerator.class, List.of(Array.class)),
+    BYTE_BUFFER(ByteBufferGenerator.class, List.of(ByteBuffer.class)),
+    ARRAY(ArrayGenerator.class, List.of()),
     LIST(ListGenerator.class, List.of(List.class)),
     SET(SetGenerator.class, List.of(Set.class)),
     MAP(MapGenerator.class, List.of(Map.class)),
     ENUM(EnumGenerator.class, List.of()),
     GENERIC(GenericObjectGenerator.class, List.of());
 
+    private static final ClassValue<ClazzGenerators> BY_CLASS = new ClassValue<>() {
+        @Override
+        protected ClazzGenerators computeValue(Class<?> rawType) {
+            return Arrays.stream(values())
+                    .filter(type -> type.clazz.contains(rawType))
+                    .findFirst()
+                    .orElse(rawType.isEnum() ? ENUM : rawType.isArray() ? ARRAY : GENERIC);
+        }
+    };
+
     private final Class<? extends AbstractGenerator<?>> generator;
     private final List<Class<?>> clazz;
 
@@ -56,11 +70,8 @@ public enum ClazzGenerators {
             if (actualTypeArguments[0] instanceof Class) {
                 Class<?> concreteTypeArgument = (Class<?>) actualTypeArguments[0];
                 if (Number.class.isAssignableFrom(concreteTypeArgument)) { // Check if the argument is a Number subclass
-                    ClazzGenerators specificGenerator = Arrays.stream(values())
-                            .filter(type -> type.clazz.contains(concreteTypeArgument))
-                            .findFirst()
-                            .orElse(null);
-                    if (specificGenerator != null) {
+                    ClazzGenerators specificGenerator = BY_CLASS.get(concreteTypeArgument);
+                    if (specificGenerator != GENERIC) {
                         return specificGenerator; // Use generator for Double, Integer, etc.
                     }
                 }
@@ -74,10 +85,7 @@ public enum ClazzGenerators {
         }
 
         // Fallback to existing logic for other types or if no specific generic type generator is found
-        return Arrays.stream(values())
-                .filter(type -> type.clazz.contains(rawType))
-                .findFirst()
-                .orElse(rawType.isEnum() ? ENUM : GENERIC);
+        return BY_CLASS.get(rawType);
     }
 
     public Class<? extends AbstractGenerator<?>> getGenerator() {
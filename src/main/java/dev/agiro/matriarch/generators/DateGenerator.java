@@ -1,7 +1,6 @@
 package dev.agiro.matriarch.generators;
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
 import dev.agiro.matriarch.domain.model.Definition;
 
 import java.util.Date;
@@ -15,6 +14,6 @@ public class DateGenerator extends AbstractGenerator<Date> {
 
     @Override
     public Date generate(Definition supplierInput) {
-        return new Date(System.currentTimeMillis() - Math.abs(GenerationContext.getInstance().getRandom().nextLong()));
+        return new Date(System.currentTimeMillis() - Math.abs(supplierInput.session().random().nextLong()));
     }
 }
@@ -2,10 +2,10 @@ package dev.agiro.matriarch.generators;
 
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
+import dev.agiro.matriarch.domain.core.GenerationSession;
 import dev.agiro.matriarch.domain.model.Definition;
 
-public class DoubleGenerator extends AbstractGenerator<Double> {
+public class DoubleGenerator extends AbstractGenerator<Double> implements PrimitiveGenerator.OfDouble {
 
     public DoubleGenerator() {
         super(Double.class);
@@ -13,6 +13,11 @@ public class DoubleGenerator extends AbstractGenerator<Double> {
 
     @Override
     public Double generate(Definition supplierInput) {
-        return GenerationContext.getInstance().getRandom().nextDouble();
+        return generateDouble(supplierInput.session());
+    }
+
+    @Override
+    public double generateDouble(GenerationSession session) {
+        return session.random().nextDouble();
     }
 }
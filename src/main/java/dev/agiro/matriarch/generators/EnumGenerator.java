@@ -1,6 +1,5 @@
 package dev.agiro.matriarch.generators;
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
 import dev.agiro.matriarch.domain.model.Definition;
 
 public class EnumGenerator extends AbstractGenerator<Enum> {
@@ -13,6 +12,6 @@ public class EnumGenerator extends AbstractGenerator<Enum> {
     public Enum<?> generate(Definition supplierInput) {
         Class<? extends Enum> enumClass = (Class<? extends Enum>) supplierInput.clazz();
         Enum<?>[] enumConstants = enumClass.getEnumConstants();
-        return enumConstants[GenerationContext.getInstance().getRandom().nextInt(enumConstants.length)];
+        return enumConstants[supplierInput.session().random().nextInt(enumConstants.length)];
     }
 }
@@ -1,10 +1,10 @@
 package dev.agiro.matriarch.generators;
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
+import dev.agiro.matriarch.domain.core.GenerationSession;
 import dev.agiro.matriarch.domain.model.Definition;
 
-public class FloatGenerator extends AbstractGenerator<Float> {
+public class FloatGenerator extends AbstractGenerator<Float> implements PrimitiveGenerator.OfFloat {
 
     public FloatGenerator() {
         super(Float.class);
@@ -12,6 +12,11 @@ public class FloatGenerator extends AbstractGenerator<Float> {
 
     @Override
     public Float generate(Definition supplierInput) {
-        return GenerationContext.getInstance().getRandom().nextFloat();
+        return generateFloat(supplierInput.session());
+    }
+
+    @Override
+    public float generateFloat(GenerationSession session) {
+        return session.random().nextFloat();
     }
 }
@@ -30,7 +30,8 @@ public class Generator implements Function<Definition, Object> {
 
     @Override
     public Object apply(Definition supplierInput) {
-        final AbstractGenerator<?> abstractGenerator = generators.get(ClazzGenerators.forClass(supplierInput.clazz()));
+        final AbstractGenerator<?> custom = GeneratorRegistry.global().find(supplierInput.clazz());
+        final AbstractGenerator<?> abstractGenerator = custom != null ? custom : generators.get(ClazzGenerators.forClass(supplierInput.clazz()));
         return abstractGenerator.apply(supplierInput);
     }
 }
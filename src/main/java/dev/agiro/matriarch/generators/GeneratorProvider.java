@@ -0,0 +1,24 @@
+package dev.agiro.matriarch.generators;
+
+/**
+ * Service provider of custom generators.
+ * <p>
+ * Implementations listed in {@code META-INF/services/dev.agiro.matriarch.generators.GeneratorProvider}
+ * are discovered with {@link java.util.ServiceLoader} the first time the
+ * {@link GeneratorRegistry#global() global registry} is used, and register their generators once.
+ * Usage:
+ * <pre>{@code
+ * public class TimeGenerators implements GeneratorProvider {
+ *     public void registerGenerators(GeneratorRegistry registry) {
+ *         registry.register(Duration.class, session -> Duration.ofSeconds(session.random().nextInt(3600)));
+ *     }
+ * }
+ * }</pre>
+ */
+public interface GeneratorProvider {
+
+    /**
+     * Register this provider's generators.
+     */
+    void registerGenerators(GeneratorRegistry registry);
+}
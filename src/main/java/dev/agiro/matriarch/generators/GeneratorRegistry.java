@@ -0,0 +1,159 @@
+package dev.agiro.matriarch.generators;
+
+import dev.agiro.matriarch.domain.core.GenerationSession;
+import dev.agiro.matriarch.domain.model.Definition;
+
+import java.lang.invoke.MethodType;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Open registry of custom generators, consulted before the built-in {@link ClazzGenerators}.
+ * <p>
+ * Generators are registered programmatically or by {@link GeneratorProvider} services. A
+ * generator registered for a class also generates its subclasses and, when registered for an
+ * interface, its implementations; the closest registration wins, superclasses before interfaces.
+ * Lookups are cached per class in a {@link ClassValue}, and the cache is replaced whenever a
+ * registration changes, so dispatch stays a single lookup on the generation path.
+ * <p>
+ * Custom generators extend {@link AbstractGenerator}, so field overrides and known patterns apply
+ * to them like to the built-in ones.
+ */
+public final class GeneratorRegistry {
+
+    private static final Logger log = Logger.getLogger(GeneratorRegistry.class.getName());
+    private static final GeneratorRegistry GLOBAL = withProviders(new GeneratorRegistry());
+
+    private final Map<Class<?>, AbstractGenerator<?>> registered = new ConcurrentHashMap<>();
+    private volatile ClassValue<Optional<AbstractGenerator<?>>> resolved;
+
+    /**
+     * The registry used for generation, holding the generators of every {@link GeneratorProvider}
+     * found on the class path.
+     */
+    public static GeneratorRegistry global() {
+        return GLOBAL;
+    }
+
+    private static GeneratorRegistry withProviders(GeneratorRegistry registry) {
+        try {
+            for (GeneratorProvider provider : ServiceLoader.load(GeneratorProvider.class)) {
+                provider.registerGenerators(registry);
+            }
+        } catch (ServiceConfigurationError e) {
+            log.severe(() -> "Could not load generator providers: " + e.getMessage());
+        }
+        return registry;
+    }
+
+    /**
+     * Register a generator for a type, its subclasses and, for an interface, its implementations.
+     * Replaces any generator registered for the same type.
+     */
+    public <T> GeneratorRegistry register(Class<T> type, AbstractGenerator<? extends T> generator) {
+        return put(type, generator);
+    }
+
+    /**
+     * Register a function generating values of a type from the generation session.
+     * Usage: .register(Duration.class, session -> Duration.ofMillis(session.random().nextInt(1000)))
+     */
+    public <T> GeneratorRegistry register(Class<T> type, Function<GenerationSession, ? extends T> generator) {
+        Objects.requireNonNull(generator, "generator");
+        return put(type, new SessionFunctionGenerator<>(type, generator));
+    }
+
+    private GeneratorRegistry put(Class<?> type, AbstractGenerator<?> generator) {
+        registered.put(Objects.requireNonNull(type, "type"), Objects.requireNonNull(generator, "generator"));
+        resolved = null;
+        return this;
+    }
+
+    /**
+     * Remove the generator registered for a type.
+     *
+     * @return whether a generator was registered
+     */
+    public boolean unregister(Class<?> type) {
+        final boolean removed = registered.remove(type) != null;
+        resolved = null;
+        return removed;
+    }
+
+    /**
+     * The custom generator for a type, or {@code null} when the built-in generators apply.
+     */
+    public AbstractGenerator<?> find(Class<?> type) {
+        if (registered.isEmpty()) {
+            return null;
+        }
+        ClassValue<Optional<AbstractGenerator<?>>> cache = resolved;
+        if (cache == null) {
+            cache = new ClassValue<>() {
+                @Override
+                protected Optional<AbstractGenerator<?>> computeValue(Class<?> type) {
+                    return Optional.ofNullable(lookup(type));
+                }
+            };
+            resolved = cache;
+        }
+        return cache.get(type).orElse(null);
+    }
+
+    private AbstractGenerator<?> lookup(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            final AbstractGenerator<?> generator = registered.get(current);
+            if (generator != null) {
+                return generator;
+            }
+        }
+        // Breadth-first over the interfaces, so that the closest one wins.
+        final Deque<Class<?>> pending = new ArrayDeque<>();
+        final Set<Class<?>> visited = new HashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            pending.addAll(List.of(current.getInterfaces()));
+        }
+        while (!pending.isEmpty()) {
+            final Class<?> candidate = pending.poll();
+            if (!visited.add(candidate)) {
+                continue;
+            }
+            final AbstractGenerator<?> generator = registered.get(candidate);
+            if (generator != null) {
+                return generator;
+            }
+            pending.addAll(List.of(candidate.getInterfaces()));
+        }
+        return null;
+    }
+
+    /**
+     * Adapts a function of the session to a generator. Primitive types are generated boxed.
+     */
+    private static final class SessionFunctionGenerator<T> extends AbstractGenerator<Object> {
+
+        private final Function<GenerationSession, ? extends T> function;
+
+        @SuppressWarnings("unchecked")
+        SessionFunctionGenerator(Class<T> type, Function<GenerationSession, ? extends T> function) {
+            super((Class<Object>) MethodType.methodType(type).wrap().returnType());
+            this.function = function;
+        }
+
+        @Override
+        public Object generate(Definition supplierInput) {
+            return function.apply(supplierInput.session());
+        }
+    }
+}
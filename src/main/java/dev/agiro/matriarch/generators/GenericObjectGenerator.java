@@ -1,22 +1,22 @@
 package dev.agiro.matriarch.generators;
 
-import dev.agiro.matriarch.domain.core.CircularDependencyDetector;
-import dev.agiro.matriarch.domain.core.GenerationContext;
-import dev.agiro.matriarch.domain.core.ReflectionCache;
+import dev.agiro.matriarch.domain.core.CyclePolicy;
+import dev.agiro.matriarch.domain.core.GenerationEvents;
+import dev.agiro.matriarch.domain.core.GenerationSession;
+import dev.agiro.matriarch.domain.core.MatriarchMetrics;
+import dev.agiro.matriarch.domain.core.MemberAccessors;
 import dev.agiro.matriarch.domain.model.*;
 import dev.agiro.matriarch.domain.exception.MatriarchInstantiationException;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -25,8 +25,6 @@ public class GenericObjectGenerator extends AbstractGenerator<Object> implements
     Logger log = Logger.getLogger(GenericObjectGenerator.class.getName());
 
     private final Map<ClazzGenerators, AbstractGenerator<?>> generators;
-    private final ReflectionCache reflectionCache = ReflectionCache.getInstance();
-    private final CircularDependencyDetector circularDetector = CircularDependencyDetector.getInstance();
 
     public GenericObjectGenerator(Map<ClazzGenerators, AbstractGenerator<?>> generators) {
         super(Object.class);
@@ -37,31 +35,46 @@ public class GenericObjectGenerator extends AbstractGenerator<Object> implements
     public Object generate(Definition classDefinition) {
         final var overrideValues     = classDefinition.overrideValues();
         final var overrideCoordinate = classDefinition.overrideCoordinate();
+        final var overrideNode       = classDefinition.overrideNode();
         final Class<?> clazz = classDefinition.clazz();
 
-        GenerationContext ctx = GenerationContext.getInstance();
+        final GenerationSession session = classDefinition.session();
 
         // Check for circular dependencies
-        if (circularDetector.isCircular(clazz)) {
+        if (session.isCircular(clazz)) {
+            if (session.getCyclePolicy() == CyclePolicy.REUSE_ANCESTOR) {
+                final Object ancestor = session.ancestor(clazz);
+                if (ancestor != null) {
+                    return ancestor;
+                }
+            }
             String msg = "Circular dependency detected for class " + clazz.getName() + " at coordinate " + overrideCoordinate;
-            if (ctx.isDebugMode()) log.info(msg);
+            if (session.isDebugMode()) log.info(msg);
             else log.fine(() -> msg);
-            if (ctx.isStrictMode()) throw new MatriarchInstantiationException(msg);
+            if (session.isStrictMode()) throw new MatriarchInstantiationException(msg);
             return null;
         }
 
-        if (circularDetector.isMaxDepthExceeded()) {
+        if (session.isMaxDepthExceeded()) {
             String msg = "Maximum nesting depth exceeded at coordinate " + overrideCoordinate;
-            if (ctx.isDebugMode()) log.info(msg);
-            else log.warning(() -> msg);
-            if (ctx.isStrictMode()) throw new MatriarchInstantiationException(msg);
+            // A configured depth limit truncates on purpose; only the default one is an error.
+            final boolean defaultLimit = session.getMaxDepth() == GenerationSession.DEFAULT_MAX_DEPTH;
+            if (session.isDebugMode()) log.info(msg);
+            else if (defaultLimit) log.warning(() -> msg);
+            else log.fine(() -> msg);
+            if (session.isStrictMode() && defaultLimit) throw new MatriarchInstantiationException(msg);
+            return null;
+        }
+
+        if (session.isTypeDepthExceeded(clazz)) {
+            if (session.isDebugMode()) log.info("Depth limit of " + clazz.getName() + " reached at coordinate " + overrideCoordinate);
             return null;
         }
 
         // Execute generation with circular dependency tracking
-        return circularDetector.executeWithDetection(clazz, () -> {
-            if (overrideValues.containsKey(overrideCoordinate)) {
-                Overrider overrider = overrideValues.get(overrideCoordinate);
+        return session.withFrame(clazz, () -> {
+            final Overrider overrider = overrideNode.value();
+            if (overrider != null) {
                 if (Overrider.OverriderType.OBJECT.equals(overrider.type())) {
                     return secureCast(clazz, overrider.value());
                 } else if (Overrider.OverriderType.SUPPLIER.equals(overrider.type())) {
@@ -76,125 +89,274 @@ public class GenericObjectGenerator extends AbstractGenerator<Object> implements
             if (instance.getInstance() == null) {
                 return null;
             }
+            MatriarchMetrics.objectBuilt(instance.getInstance().getClass());
+            session.attach(instance.getInstance());
 
             // This map will hold the resolution of the current instance's own type parameters.
             // For example, if instance is Box<String>, this map becomes {T -> String}.
-            Map<TypeVariable<?>, Type> instanceSpecificTypeMap = new HashMap<>();
-            Class<?> instanceClass = instance.getInstance().getClass(); // e.g., Box.class
-            TypeVariable<?>[] typeParameters = instanceClass.getTypeParameters(); // [T for Box]
-
-            // actualTypes are from the Definition of the field/parameter that *led* to this GenericObjectGenerator call
-            // e.g. if a field was `Box<String> myBox`, classDefinition.parametrizedType() would be `[String.class]`
-            Type[] actualTypeArguments = classDefinition.parametrizedType();
-
-            if (typeParameters.length > 0 && actualTypeArguments.length > 0 && typeParameters.length == actualTypeArguments.length) {
-                for (int i = 0; i < typeParameters.length; i++) {
-                    instanceSpecificTypeMap.put(typeParameters[i], actualTypeArguments[i]);
-                }
-            }
-            // Important: Merge with types resolved from an outer context, if any.
-            // Outer context takes precedence if there's a name clash, though typically type var names are unique per class.
-            instanceSpecificTypeMap.putAll(resolvedTypesForInstance);
-
+            final ClassPlan instancePlan = ClassPlan.of(instance.getInstance().getClass()); // e.g., Box.class
+            final Map<TypeVariable<?>, Type> instanceSpecificTypeMap = resolveInstanceTypes(instancePlan,
+                                                                                            classDefinition.parametrizedType(),
+                                                                                            resolvedTypesForInstance);
 
             final Object finalInstance = instance.getInstance();
             final InstanceType creationType = instance.getInstanceType(); // Get how it was created
 
-            resolveFields(finalInstance.getClass())
-                .forEach(field -> {
-                    // Construct the full path for the current field to check against overrideValues
-                    String fieldOverrideKey = (overrideCoordinate.isEmpty() ? // Use overrideCoordinate from classDefinition
-                                              field.getName() :
-                                              overrideCoordinate + "." + field.getName());
-
-                    if (creationType != InstanceType.STATIC_METHOD || overrideValues.containsKey(fieldOverrideKey)) {
-                        // If not created by static factory OR if there's an explicit override for this field
-                        setValueToField(finalInstance,
-                                        field,
-                                        overrideValues,
-                                        overrideCoordinate, // base coordinate for current object
-                                        instanceSpecificTypeMap);
-                    }
-                    // Else: (created by static factory AND no explicit override for this field) -> do nothing, preserve factory value.
-                });
+            for (ClassPlan.FieldSlot slot : instancePlan.fields()) {
+                // If not created by static factory OR if there's an explicit override for this field
+                // Else: (created by static factory AND no explicit override for this field) -> do nothing, preserve factory value.
+                final OverrideNode fieldNode = overrideNode.field(slot.name());
+                if (creationType != InstanceType.STATIC_METHOD || fieldNode.hasValue()) {
+                    setValueToField(finalInstance,
+                                    slot,
+                                    overrideValues,
+                                    overrideCoordinate, // base coordinate for current object
+                                    fieldNode,
+                                    session,
+                                    instanceSpecificTypeMap);
+                }
+            }
             return finalInstance;
         });
     }
 
+    /**
+     * Resolve the type parameters of the generated instance ({@code T -> String} for a {@code Box<String>}).
+     * The actual types come from the Definition of the field/parameter that led to this generation,
+     * merged with types resolved from an outer context, which take precedence.
+     */
+    private static Map<TypeVariable<?>, Type> resolveInstanceTypes(ClassPlan instancePlan,
+                                                                   Type[] actualTypeArguments,
+                                                                   Map<TypeVariable<?>, Type> resolvedTypesForInstance) {
+        final TypeVariable<?>[] typeParameters = instancePlan.typeParameters();
+        final boolean bindsTypeParameters = typeParameters.length > 0 && typeParameters.length == actualTypeArguments.length;
+        if (!bindsTypeParameters && resolvedTypesForInstance.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<TypeVariable<?>, Type> instanceSpecificTypeMap = new HashMap<>();
+        if (bindsTypeParameters) {
+            for (int i = 0; i < typeParameters.length; i++) {
+                instanceSpecificTypeMap.put(typeParameters[i], actualTypeArguments[i]);
+            }
+        }
+        instanceSpecificTypeMap.putAll(resolvedTypesForInstance);
+        return instanceSpecificTypeMap;
+    }
+
     private void setValueToField(Object object,
-                                 Field field,
+                                 ClassPlan.FieldSlot slot,
                                  Map<String, Overrider> overrideValues,
                                  String currentField,
+                                 OverrideNode fieldNode,
+                                 GenerationSession session,
                                  Map<TypeVariable<?>, Type> resolvedGenericTypeMapFromParent) { // Renamed for clarity
 
+        if (!slot.writable()) {
+            return;
+        }
+        final String coordinate = slot.coordinate(currentField);
+        final boolean measured = MatriarchMetrics.isEnabled();
+        final GenerationEvents.FieldGenerate event = new GenerationEvents.FieldGenerate();
+        if (!measured && !event.isEnabled()) {
+            writeField(object, slot, overrideValues, coordinate, fieldNode, session, resolvedGenericTypeMapFromParent);
+            return;
+        }
+        final long start = System.nanoTime();
+        event.begin();
+        String outcome = GenerationEvents.FAILURE;
         try {
-            if (!Modifier.isFinal(field.getModifiers())) {
+            outcome = writeField(object, slot, overrideValues, coordinate, fieldNode, session, resolvedGenericTypeMapFromParent)
+                    ? GenerationEvents.SUCCESS
+                    : GenerationEvents.SKIPPED;
+        } finally {
+            event.end();
+            if (measured) {
+                MatriarchMetrics.fieldTime(coordinate, System.nanoTime() - start);
+            }
+            if (event.shouldCommit()) {
+                event.owner = object.getClass();
+                event.coordinate = coordinate;
+                event.generator = generatorName(slot);
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
 
-                String fieldName = currentField.isEmpty() ? field.getName() : currentField + "." + field.getName();
+    /**
+     * The kind of generator used for a field: a custom generator class or a {@link ClazzGenerators} name.
+     */
+    private static String generatorName(ClassPlan.FieldSlot slot) {
+        final Class<?> type = slot.field().getType();
+        final AbstractGenerator<?> custom = GeneratorRegistry.global().find(type);
+        if (custom != null) {
+            return custom.getClass().getName();
+        }
+        return (slot.generator() != null ? slot.generator() : ClazzGenerators.forClass(type)).name();
+    }
 
-                field.setAccessible(true);
-                // Pass the received map to FieldDefinition
-                field.set(object, generateValue(new FieldDefinition(field,
-                                                                    overrideValues,
-                                                                    fieldName,
-                                                                    resolvedGenericTypeMapFromParent)));
-            }
-        } catch (Exception e) {
-            // Use reflection cache for setter method lookup
-            final var setter = reflectionCache.getSetterMethod(object.getClass(), field.getName());
-
-            if (setter.isPresent()) {
-                try {
-                    setter.get().invoke(object, generateValue(new FieldDefinition(field,
-                                                                                  overrideValues,
-                                                                                  currentField.isEmpty() ? field.getName() : currentField + "." + field.getName(),
-                                                                                  resolvedGenericTypeMapFromParent)));
-                    return;
-                } catch (Exception ex) {
-                    log.finest(() -> "ObjectMother not able to set field %s in class %s nor reflection or the method %s. %s".formatted(
-                            field.getName(),
-                            object.getClass().getName(),
-                            setter.get().getName(),
-                            ex.getMessage()));
+    /**
+     * Generate and assign a field, directly or through its setter. The strategy that worked is
+     * remembered by the slot, so later objects of the class use it straight away, and fields that
+     * can be written neither way are skipped without generating a value.
+     *
+     * @return whether the field was assigned; false when it is left unset after a logged failure
+     */
+    private boolean writeField(Object object,
+                            ClassPlan.FieldSlot slot,
+                            Map<String, Overrider> overrideValues,
+                            String coordinate,
+                            OverrideNode fieldNode,
+                            GenerationSession session,
+                            Map<TypeVariable<?>, Type> resolvedGenericTypeMapFromParent) {
+        final Field field = slot.field();
+        final ClassPlan.WriteStrategy strategy = slot.writeStrategy();
+        if (strategy == ClassPlan.WriteStrategy.NONE) {
+            return fieldNotSet(object, field, null, session, false);
+        }
+        if (strategy != ClassPlan.WriteStrategy.SETTER && writePrimitive(object, slot, coordinate, fieldNode, session)) {
+            return true;
+        }
+        final FieldDefinition definition = new FieldDefinition(field,
+                                                               overrideValues,
+                                                               coordinate,
+                                                               resolvedGenericTypeMapFromParent,
+                                                               fieldNode,
+                                                               session);
+        Exception failure = null;
+        Object value = null;
+        boolean generated = false;
+        final MemberAccessors.FieldWriter writer = slot.writer();
+        if (writer != null && strategy != ClassPlan.WriteStrategy.SETTER) {
+            try {
+                value = generateValue(slot, definition);
+                generated = true;
+                writer.write(object, value);
+                if (strategy == ClassPlan.WriteStrategy.UNKNOWN) {
+                    slot.writeStrategy(ClassPlan.WriteStrategy.FIELD);
                 }
+                return true;
+            } catch (Exception e) {
+                failure = e;
             }
-            GenerationContext ctx = GenerationContext.getInstance();
-            String msg = "ObjectMother not able to set field %s in class %s with value %s".formatted(
-                    field.getName(), object.getClass().getName(), e.getMessage());
-            if (ctx.isStrictMode()) {
-                throw new MatriarchInstantiationException(msg, e);
+        }
+
+        // Fall back to the public setter of the field, if any
+        final var setter = slot.setter();
+        if (setter.isPresent()) {
+            MatriarchMetrics.increment(MatriarchMetrics.Counter.SETTER_FALLBACK);
+            try {
+                // Reuse the value when only writing it directly failed
+                setter.get().writer().write(object, generated ? value : generateValue(slot, definition));
+                if (generated || writer == null) {
+                    slot.writeStrategy(ClassPlan.WriteStrategy.SETTER);
+                }
+                return true;
+            } catch (Exception ex) {
+                log.finest(() -> "ObjectMother not able to set field %s in class %s nor reflection or the method %s. %s".formatted(
+                        field.getName(),
+                        object.getClass().getName(),
+                        setter.get().method().getName(),
+                        ex.getMessage()));
+                if (failure == null) {
+                    failure = ex;
+                }
             }
-            if (ctx.isDebugMode()) log.info(msg);
-            else log.severe(() -> msg);
+        } else if (writer == null) {
+            slot.writeStrategy(ClassPlan.WriteStrategy.NONE);
+        }
+        return fieldNotSet(object, field, failure, session, true);
+    }
+
+    /**
+     * Report a field left unset, or fail in strict mode. A field that is known not to be writable is
+     * only reported once, at the first failure.
+     *
+     * @param failure the exception writing the field, or {@code null} when it is not accessible
+     */
+    private boolean fieldNotSet(Object object, Field field, Exception failure, GenerationSession session, boolean firstFailure) {
+        MatriarchMetrics.increment(MatriarchMetrics.Counter.FIELD_WRITE_FAILURE);
+        final String msg = "ObjectMother not able to set field %s in class %s with value %s".formatted(
+                field.getName(),
+                object.getClass().getName(),
+                failure != null ? failure.getMessage() : "field " + field.getName() + " is not accessible");
+        if (session.isStrictMode()) {
+            throw new MatriarchInstantiationException(msg, failure);
         }
+        if (!firstFailure) log.finest(() -> msg);
+        else if (session.isDebugMode()) log.info(msg);
+        else log.severe(() -> msg);
+        return false;
     }
 
-    private List<Field> resolveFields(Class<?> aClass) {
-        return reflectionCache.getFields(aClass);
+    /**
+     * Populate a primitive field without boxing, when nothing can change its value: no override
+     * and no known pattern for its coordinate. Returns false to fall back to the boxed path.
+     */
+    private boolean writePrimitive(Object object,
+                                   ClassPlan.FieldSlot slot,
+                                   String coordinate,
+                                   OverrideNode fieldNode,
+                                   GenerationSession session) {
+        final MemberAccessors.PrimitiveFieldWriter writer = slot.primitiveWriter();
+        if (writer == null || fieldNode.hasValue() || AbstractGenerator.matchesPattern(coordinate)) {
+            return false;
+        }
+        final boolean timed = MatriarchMetrics.isEnabled();
+        final long start = timed ? System.nanoTime() : 0;
+        try {
+            final boolean written = PrimitiveGenerator.generateInto(generatorFor(slot.field().getType()), writer, object, session);
+            if (written && timed) {
+                MatriarchMetrics.generatorTime(slot.generator().name(), System.nanoTime() - start);
+            }
+            return written;
+        } catch (Exception e) {
+            return false;
+        }
     }
 
     // This map is for resolving type variables that might appear in constructor parameters,
     // based on the context where this class (clazz) is being instantiated.
     private ConstructorMethod<?> getInstance(Definition classDefinition, Map<TypeVariable<?>, Type> contextResolvedTypeMap) {
+        final GenerationEvents.Instantiate event = new GenerationEvents.Instantiate();
+        if (!event.isEnabled()) {
+            return instantiate(classDefinition, contextResolvedTypeMap);
+        }
+        event.begin();
+        ConstructorMethod<?> instance = null;
+        try {
+            instance = instantiate(classDefinition, contextResolvedTypeMap);
+            return instance;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.type = classDefinition.clazz();
+                event.coordinate = classDefinition.overrideCoordinate();
+                event.instanceType = instance != null ? instance.getInstanceType().name() : ClassPlan.of(classDefinition.clazz()).constructorType().name();
+                event.outcome = instance == null ? GenerationEvents.FAILURE
+                        : instance.getInstance() == null ? GenerationEvents.SKIPPED : GenerationEvents.SUCCESS;
+                event.commit();
+            }
+        }
+    }
+
+    private ConstructorMethod<?> instantiate(Definition classDefinition, Map<TypeVariable<?>, Type> contextResolvedTypeMap) {
         final Class<?> clazz = classDefinition.clazz();
         final String overrideCoordinate = classDefinition.overrideCoordinate();
 
-        // Attempt to find and use a suitable public static factory method first
-        // Use reflection cache for better performance
-        List<java.lang.reflect.Method> staticFactoryMethods = reflectionCache.getStaticFactoryMethods(clazz);
+        final ClassPlan plan = ClassPlan.of(clazz);
 
-        // Prioritize no-arg static factory methods
-        java.lang.reflect.Method noArgStaticFactory = staticFactoryMethods.stream()
-            .filter(method -> method.getParameterCount() == 0)
-            .findFirst()
-            .orElse(null);
-
-        if (noArgStaticFactory != null) {
+        // Attempt to use the public no-arg static factory method first, unless it already failed
+        final java.lang.reflect.Method noArgStaticFactory = plan.noArgFactory();
+        if (plan.noArgFactoryFailed()) {
+            MatriarchMetrics.increment(MatriarchMetrics.Counter.STATIC_FACTORY_FALLBACK);
+        } else if (plan.noArgFactoryInvoker() != null) {
             try {
-                noArgStaticFactory.setAccessible(true);
-                Object instance = noArgStaticFactory.invoke(null);
+                Object instance = plan.noArgFactoryInvoker().invoke(new Object[0]);
                 return ConstructorMethod.of(secureCast(clazz, instance), InstanceType.STATIC_METHOD);
             } catch (Exception e) {
+                plan.markNoArgFactoryFailed();
+                MatriarchMetrics.increment(MatriarchMetrics.Counter.STATIC_FACTORY_FALLBACK);
                 log.finest(() -> "Error invoking no-arg static factory method %s for class %s: %s".formatted(noArgStaticFactory.getName(), clazz.getName(), e.getMessage()));
                 // Fall through to constructor logic if static factory invocation fails
             }
@@ -202,69 +364,41 @@ public class GenericObjectGenerator extends AbstractGenerator<Object> implements
 
         // TODO: Extend to handle static factory methods with parameters Matriarch can satisfy.
 
-        // Fallback to constructor logic
-        // Use reflection cache for better performance
-        final Map<List<Parameter>, Constructor<?>> constructors = reflectionCache.getConstructors(clazz).stream()
-                .collect(Collectors.toMap(
-                        c -> List.of(c.getParameters()),
-                        c -> c));
-        AtomicReference<Constructor<?>> constructorRef = new AtomicReference<>();
+        // Fallback to the constructor chosen by the plan
+        final Constructor<?> constructor = plan.constructor();
         try {
-            if (constructors.isEmpty()) {
-                // This case might be hit if only a static factory was present and failed, or no public constructors.
-                // Or if no public static factory methods and no public constructors.
-                String message = "No suitable public static factory method or public constructor found for class %s".formatted(clazz.getCanonicalName());
-                log.severe(message);
-                throw new MatriarchInstantiationException(message);
+            if (constructor == null) {
+                if (plan.hasNoConstructors()) {
+                    log.severe(plan.constructorFailure());
+                }
+                throw new MatriarchInstantiationException(plan.constructorFailure());
             }
 
-            // Try to find a public constructor first
-
-            // Try to find a public constructor first
-            java.util.Optional<Constructor<?>> chosenConstructorOpt = constructors.entrySet().stream()
-                                    .filter(entry -> Modifier.isPublic(entry.getValue().getModifiers()))
-                                    .min(java.util.Comparator.comparingInt(entry -> entry.getKey().size()))
-                                    .map(Map.Entry::getValue);
-
-            if (chosenConstructorOpt.isEmpty()) {
-                // If no public constructor, try protected or package-private (non-private, non-public)
-                chosenConstructorOpt = constructors.entrySet().stream()
-                    .filter(entry -> !Modifier.isPrivate(entry.getValue().getModifiers()) && !Modifier.isPublic(entry.getValue().getModifiers()))
-                    .min(java.util.Comparator.comparingInt(entry -> entry.getKey().size()))
-                    .map(Map.Entry::getValue);
-
-                if (chosenConstructorOpt.isPresent()) {
-                    constructorRef.set(chosenConstructorOpt.get());
-                    constructorRef.get().setAccessible(true); // Make protected/package-private accessible
-                } else {
-                    // If only private constructors are left (or no constructors at all after static factory check)
-                    // This path will be taken for SimplePrivateConstructor.
-                    throw new MatriarchInstantiationException(
-                        "No suitable public, protected, or package-private constructor found, and no suitable public static factory method for class " + clazz.getName());
+            final Parameter[] constructorParameters = plan.constructorParameters();
+            final Object[] parameters = new Object[constructorParameters.length];
+            for (int i = 0; i < constructorParameters.length; i++) {
+                final Parameter parameter = constructorParameters[i];
+                final String parameterCoordinate = overrideCoordinate.isEmpty() ? parameter.getName() :
+                        overrideCoordinate + "." + parameter.getName();
+                final boolean timed = MatriarchMetrics.isEnabled();
+                final long start = timed ? System.nanoTime() : 0;
+                parameters[i] = generateValue(new ParameterDefinition(parameter,
+                                                                      classDefinition.overrideValues(),
+                                                                      parameterCoordinate,
+                                                                      contextResolvedTypeMap, // Pass map for constructor parameters
+                                                                      classDefinition.overrideNode().field(parameter.getName()),
+                                                                      classDefinition.session()));
+                if (timed) {
+                    MatriarchMetrics.fieldTime(parameterCoordinate, System.nanoTime() - start);
                 }
-            } else { // Public constructor was found
-                 constructorRef.set(chosenConstructorOpt.get());
-                 // No need to setAccessible for public constructor
             }
-
-            Constructor<?> constructor = constructorRef.get();
-            // Note: setAccessible has been called for non-public (but not private) constructors if chosen.
-            // Public constructors don't need it. Private constructors would have led to an exception above.
-
-            var type = constructor.getParameterCount() == 0 ? InstanceType.NO_ARGS_CONSTRUCTOR : InstanceType.CONSTRUCTOR;
-            final Object[] parameters = Arrays.stream(constructor.getParameters())
-                    .map(parameter -> generateValue(new ParameterDefinition(parameter,
-                                                                            classDefinition.overrideValues(),
-                                                                            overrideCoordinate.isEmpty() ? parameter.getName() :
-                                                                                    overrideCoordinate + "." + parameter.getName(),
-                                                                            contextResolvedTypeMap))) // Pass map for constructor parameters
-                    .toArray();
-            return ConstructorMethod.of(secureCast(clazz, constructor.newInstance(parameters)), type);
+            return ConstructorMethod.of(secureCast(clazz, plan.constructorInvoker().invoke(parameters)), plan.constructorType());
         } catch (Exception e) {
+            MatriarchMetrics.increment(MatriarchMetrics.Counter.INSTANTIATION_FAILURE);
             log.finest(() -> String.format("Error instantiating class %s with constructor %s: %s",
                                            clazz,
-                                           constructorRef.get() == null ? "not constructor found" : Arrays.stream(
-                                                           constructorRef.get().getParameters())
+                                           constructor == null ? "not constructor found" : Arrays.stream(
+                                                           constructor.getParameters())
                                                    .map(parameter -> parameter.getType().getSimpleName() + " " + parameter.getName())
                                                    .collect(Collectors.joining(",  ", "(", ")")),
                                            e.getMessage()));
@@ -273,14 +407,35 @@ public class GenericObjectGenerator extends AbstractGenerator<Object> implements
                                            overrideCoordinate,
                                            e.getMessage(),
                                            e.getClass().getCanonicalName()));
-            throw new MatriarchInstantiationException("Failed to instantiate " + clazz.getName() + " using constructor " + constructorRef.get() + ": " + e.getMessage(), e);
+            throw new MatriarchInstantiationException("Failed to instantiate " + clazz.getName() + " using constructor " + constructor + ": " + e.getMessage(), e);
         }
     }
 
+    private Object generateValue(ClassPlan.FieldSlot slot, Definition definition) {
+        if (slot.generator() == null) {
+            return generateValue(definition);
+        }
+        final AbstractGenerator<?> custom = GeneratorRegistry.global().find(definition.clazz());
+        return apply(custom, slot.generator(), definition);
+    }
+
     private Object generateValue(Definition definition) {
         // Use the overloaded forClass method that considers parameterized types
-        final var generator = generators.get(ClazzGenerators.forClass(definition.clazz(), definition.parametrizedType()));
-        return generator.apply(definition);
+        final AbstractGenerator<?> custom = GeneratorRegistry.global().find(definition.clazz());
+        return apply(custom, custom != null ? null : ClazzGenerators.forClass(definition.clazz(), definition.parametrizedType()), definition);
+    }
+
+    private Object apply(AbstractGenerator<?> custom, ClazzGenerators kind, Definition definition) {
+        final AbstractGenerator<?> generator = custom != null ? custom : generators.get(kind);
+        if (!MatriarchMetrics.isEnabled()) {
+            return generator.apply(definition);
+        }
+        final long start = System.nanoTime();
+        try {
+            return generator.apply(definition);
+        } finally {
+            MatriarchMetrics.generatorTime(custom != null ? custom.getClass().getName() : kind.name(), System.nanoTime() - start);
+        }
     }
 
     private <T> T secureCast(Class<T> tClass, Object value) {
@@ -1,7 +1,6 @@
 package dev.agiro.matriarch.generators;
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
 import dev.agiro.matriarch.domain.model.Definition;
 
 import java.time.Instant;
@@ -14,7 +13,7 @@ public class InstantGenerator extends AbstractGenerator<Instant> {
 
     @Override
     public Instant generate(Definition supplierInput) {
-        return Instant.ofEpochMilli(GenerationContext.getInstance().getRandom().nextLong() % Instant.now().toEpochMilli());
+        return Instant.ofEpochMilli(supplierInput.session().random().nextLong() % Instant.now().toEpochMilli());
     }
 }
 
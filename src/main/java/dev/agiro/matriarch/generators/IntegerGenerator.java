@@ -1,9 +1,9 @@
 package dev.agiro.matriarch.generators;
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
+import dev.agiro.matriarch.domain.core.GenerationSession;
 import dev.agiro.matriarch.domain.model.Definition;
 
-public class IntegerGenerator extends AbstractGenerator<Integer> {
+public class IntegerGenerator extends AbstractGenerator<Integer> implements PrimitiveGenerator.OfInt {
 
 
     public IntegerGenerator() {
@@ -17,6 +17,11 @@ public class IntegerGenerator extends AbstractGenerator<Integer> {
 
     @Override
     public Integer generate(Definition supplierInput) {
-        return Math.absExact(GenerationContext.getInstance().getRandom().nextInt());
+        return generateInt(supplierInput.session());
+    }
+
+    @Override
+    public int generateInt(GenerationSession session) {
+        return Math.absExact(session.random().nextInt());
     }
 }
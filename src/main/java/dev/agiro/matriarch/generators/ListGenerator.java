@@ -2,15 +2,14 @@ package dev.agiro.matriarch.generators;
 
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
 import dev.agiro.matriarch.domain.model.ClassDefinition;
 import dev.agiro.matriarch.domain.model.Definition;
+import dev.agiro.matriarch.domain.model.OverrideNode;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.regex.Pattern;
-import java.util.stream.IntStream;
 
 public class ListGenerator extends AbstractGenerator<List<?>> implements MultiGenerator {
 
@@ -31,19 +30,20 @@ public class ListGenerator extends AbstractGenerator<List<?>> implements MultiGe
                 supplierInput.parametrizedType()[0] == null) {
                 return java.util.Collections.emptyList();
             }
-            final Class<?> aClass = Class.forName(supplierInput.parametrizedType()[0].getTypeName());
-            var generator = generators.get(ClazzGenerators.forClass(aClass));
-            Pattern pattern = Pattern.compile(Pattern.quote(supplierInput.overrideCoordinate()) + "\\[(\\d*)]");
-            Optional<Integer> overridedSize = supplierInput.overrideValues().keySet().stream()
-                    .filter(s -> pattern.matcher(s).matches())
-                    .map(s -> Integer.parseInt(pattern.matcher(s).replaceAll("$1")) + 1)
-                    .max(Integer::compareTo);
-            final int listSize = overridedSize.orElse(GenerationContext.getInstance().randomCollectionSize());
-            return IntStream.range(0, listSize)
-                    .mapToObj(i -> generator.apply(new ClassDefinition<>(aClass,
-                                                                            supplierInput.overrideValues(),
-                                                                            supplierInput.overrideCoordinate() + "[%d]".formatted(i))))
-                    .toList();
+            final Class<?> aClass = elementClass(supplierInput.parametrizedType()[0]);
+            if (generatesEmpty(supplierInput.session(), aClass)) {
+                return java.util.Collections.emptyList();
+            }
+            var generator = generatorFor(aClass);
+            final OverrideNode node = supplierInput.overrideNode();
+            final int listSize = collectionSize(supplierInput);
+            final Object[] elements = ParallelElements.generate(supplierInput.session(), listSize, (i, session) ->
+                    generator.apply(new ClassDefinition<>(aClass,
+                                                          supplierInput.overrideValues(),
+                                                          supplierInput.overrideCoordinate() + '[' + i + ']',
+                                                          node.element(i),
+                                                          session)));
+            return Collections.unmodifiableList(Arrays.asList(elements));
         } catch (ClassNotFoundException e) {
             throw new RuntimeException(e);
         }
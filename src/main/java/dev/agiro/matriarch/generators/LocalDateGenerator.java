@@ -1,7 +1,6 @@
 package dev.agiro.matriarch.generators;
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
 import dev.agiro.matriarch.domain.model.Definition;
 
 import java.time.LocalDate;
@@ -15,7 +14,7 @@ public class LocalDateGenerator extends AbstractGenerator<LocalDate> {
 
     @Override
     public LocalDate generate(Definition supplierInput) {
-        final Date date = new Date(System.currentTimeMillis() - Math.abs(GenerationContext.getInstance().getRandom().nextLong()));
+        final Date date = new Date(System.currentTimeMillis() - Math.abs(supplierInput.session().random().nextLong()));
         return new java.sql.Date(date.getTime()).toLocalDate();
     }
 }
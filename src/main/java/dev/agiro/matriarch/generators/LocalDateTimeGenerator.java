@@ -1,12 +1,11 @@
 package dev.agiro.matriarch.generators;
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
 import dev.agiro.matriarch.domain.model.Definition;
 
 import java.time.LocalDateTime;
 import java.util.Date;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class LocalDateTimeGenerator extends AbstractGenerator<LocalDateTime> {
 
@@ -16,7 +15,7 @@ public class LocalDateTimeGenerator extends AbstractGenerator<LocalDateTime> {
 
     @Override
     public LocalDateTime generate(Definition supplierInput) {
-        final Random random = GenerationContext.getInstance().getRandom();
+        final RandomGenerator random = supplierInput.session().random();
         final Date date = new Date(System.currentTimeMillis() - Math.abs(random.nextLong()));
         final int hour = random.nextInt(1, 23);
         final int minute = random.nextInt(1, 59);
@@ -1,10 +1,10 @@
 package dev.agiro.matriarch.generators;
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
+import dev.agiro.matriarch.domain.core.GenerationSession;
 import dev.agiro.matriarch.domain.model.Definition;
 
-public class LongGenerator extends AbstractGenerator<Long> {
+public class LongGenerator extends AbstractGenerator<Long> implements PrimitiveGenerator.OfLong {
 
     public LongGenerator() {
         super(Long.class);
@@ -12,6 +12,11 @@ public class LongGenerator extends AbstractGenerator<Long> {
 
     @Override
     public Long generate(Definition supplierInput) {
-        return GenerationContext.getInstance().getRandom().nextLong();
+        return generateLong(supplierInput.session());
+    }
+
+    @Override
+    public long generateLong(GenerationSession session) {
+        return session.random().nextLong();
     }
 }
@@ -2,15 +2,15 @@ package dev.agiro.matriarch.generators;
 
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
 import dev.agiro.matriarch.domain.model.ClassDefinition;
 import dev.agiro.matriarch.domain.model.Definition;
+import dev.agiro.matriarch.domain.model.OverrideNode;
 import dev.agiro.matriarch.domain.model.Overrider;
 
+import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
-import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.toMap;
 
@@ -36,26 +36,30 @@ public class MapGenerator extends AbstractGenerator<Map<?,?>> implements MultiGe
                 // Default to empty map if no type information available
                 return java.util.Collections.emptyMap();
             }
-            final Class<?> keyClass = Class.forName(supplierInput.parametrizedType()[0].getTypeName());
-            var keyGenerator = this.generator.get(ClazzGenerators.forClass(keyClass));
-            final Class<?> valueClass = Class.forName(supplierInput.parametrizedType()[1].getTypeName());
-            var valueGenerator = this.generator.get(ClazzGenerators.forClass(valueClass));
-            final int      listSize      = GenerationContext.getInstance().randomCollectionSize();
-            final var regexPattern = Pattern.compile(Pattern.quote(supplierInput.overrideCoordinate()) + "\\[(.*)]");
-            List<String> mapOverriders = supplierInput.overrideValues().keySet().stream()
-                    .filter(overrider -> regexPattern.matcher(overrider).matches())
-                    .toList();
+            final Class<?> keyClass = elementClass(supplierInput.parametrizedType()[0]);
+            var keyGenerator = generatorFor(keyClass);
+            final Class<?> valueClass = elementClass(supplierInput.parametrizedType()[1]);
+            if (generatesEmpty(supplierInput.session(), valueClass)) {
+                return java.util.Collections.emptyMap();
+            }
+            var valueGenerator = generatorFor(valueClass);
+            final int      listSize      = collectionSize(supplierInput);
+            final OverrideNode node = supplierInput.overrideNode();
+            List<String> mapOverriders = node.elementKeys();
             if (mapOverriders.isEmpty()) {
-                return generateRandomValues(supplierInput, listSize, keyGenerator, keyClass, valueGenerator, valueClass);
+                return generateRandomValues(supplierInput, node, listSize, keyGenerator, keyClass, valueGenerator, valueClass);
             }
             return mapOverriders.stream()
-                    .map(overrider -> regexPattern.matcher(overrider).replaceAll("$1"))
                     .collect(toMap(string -> keyGenerator.apply(new ClassDefinition<>(keyClass,
                             Map.of(string, Overrider.with(string)),
-                            string)),
+                            string,
+                            OverrideNode.leaf(Overrider.with(string)),
+                            supplierInput.session())),
                             k -> valueGenerator.apply(new ClassDefinition<>(valueClass,
                                     supplierInput.overrideValues(),
-                                    supplierInput.overrideCoordinate() + "[%s]".formatted(k)))));
+                                    supplierInput.overrideCoordinate() + '[' + k + ']',
+                                    node.element(String.valueOf(k)),
+                                    supplierInput.session()))));
 
 
         } catch (ClassNotFoundException e) {
@@ -63,15 +67,23 @@ public class MapGenerator extends AbstractGenerator<Map<?,?>> implements MultiGe
         }
     }
 
-    private static Map<?, ?> generateRandomValues(Definition supplierInput, int listSize, AbstractGenerator<?> keyGenerator, Class<?> keyClass, AbstractGenerator<?> valueGenerator, Class<?> valueClass) {
-        return IntStream.range(0, listSize)
-                .mapToObj(i -> keyGenerator.apply(new ClassDefinition<>(keyClass,
-                        supplierInput.overrideValues(),
-                        supplierInput.overrideCoordinate() + "[%s]".formatted(i))))
-                .collect(toMap(k -> k,
-                        k -> valueGenerator.apply(new ClassDefinition<>(valueClass,
-                                supplierInput.overrideValues(),
-                                supplierInput.overrideCoordinate() + "[%s]".formatted(k)))));
+    private static Map<?, ?> generateRandomValues(Definition supplierInput, OverrideNode node, int listSize, AbstractGenerator<?> keyGenerator, Class<?> keyClass, AbstractGenerator<?> valueGenerator, Class<?> valueClass) {
+        final Object[] entries = ParallelElements.generate(supplierInput.session(), listSize, (i, session) -> {
+            final Object key = keyGenerator.apply(new ClassDefinition<>(keyClass,
+                    supplierInput.overrideValues(),
+                    supplierInput.overrideCoordinate() + '[' + i + ']',
+                    node.element(i),
+                    session));
+            final Object value = valueGenerator.apply(new ClassDefinition<>(valueClass,
+                    supplierInput.overrideValues(),
+                    supplierInput.overrideCoordinate() + '[' + key + ']',
+                    node.element(String.valueOf(key)),
+                    session));
+            return new AbstractMap.SimpleEntry<>(key, value);
+        });
+        return Arrays.stream(entries)
+                .map(entry -> (Map.Entry<?, ?>) entry)
+                .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
 
@@ -1,15 +1,45 @@
 package dev.agiro.matriarch.generators;
 
 
+import dev.agiro.matriarch.domain.core.CyclePolicy;
+import dev.agiro.matriarch.domain.core.GenerationSession;
+
+import java.lang.reflect.Type;
 import java.util.Map;
 
 public interface MultiGenerator {
 
+    /**
+     * The generator for a class: the one {@link GeneratorRegistry registered} for it, else the built-in one.
+     */
     default AbstractGenerator<?> generatorFor(Class<?> aClass) {
-        return getGenerator().get(ClazzGenerators.forClass(aClass));
+        final AbstractGenerator<?> custom = GeneratorRegistry.global().find(aClass);
+        return custom != null ? custom : getGenerator().get(ClazzGenerators.forClass(aClass));
     }
 
     Map<ClazzGenerators, AbstractGenerator<?>> getGenerator();
 
+    /**
+     * The class of a type argument. Classes, including array classes such as {@code long[]} whose
+     * type name is not a binary name, are used as they are.
+     */
+    default Class<?> elementClass(Type type) throws ClassNotFoundException {
+        return type instanceof Class<?> aClass ? aClass : Class.forName(type.getTypeName());
+    }
+
+    /**
+     * Whether a collection of the given element class should be generated empty: with
+     * {@link CyclePolicy#EMPTY_COLLECTION}, when its elements would be cut off by a cycle or a
+     * depth limit.
+     */
+    default boolean generatesEmpty(GenerationSession session, Class<?> elementClass) {
+        return session.getCyclePolicy() == CyclePolicy.EMPTY_COLLECTION
+                && ClazzGenerators.forClass(elementClass) == ClazzGenerators.GENERIC
+                && GeneratorRegistry.global().find(elementClass) == null
+                && (session.isCircular(elementClass)
+                    || session.isMaxDepthExceeded()
+                    || session.isTypeDepthExceeded(elementClass));
+    }
+
 
 }
@@ -0,0 +1,86 @@
+package dev.agiro.matriarch.generators;
+
+import dev.agiro.matriarch.domain.core.GenerationSession;
+import dev.agiro.matriarch.domain.core.RandomSources;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Generates the elements of a collection or array, in parallel for collections large enough for
+ * the session's {@link GenerationSession#isParallel(int) parallel threshold}.
+ * <p>
+ * In parallel, the index range is split on the fork/join pool and every element is generated in
+ * a {@link GenerationSession#fork(long) fork} of the session, bound to the worker thread while it
+ * runs. Forks copy the class stack, so depth limits and cycle policies apply as in a sequential
+ * generation, and are seeded from one draw of the session's generator and the element's index,
+ * so the elements do not depend on how the work was scheduled.
+ */
+final class ParallelElements {
+
+    private static final int TASKS_PER_WORKER = 4;
+
+    /**
+     * Generates the element at an index, drawing from the given session.
+     */
+    @FunctionalInterface
+    interface Element {
+        Object generate(int index, GenerationSession session);
+    }
+
+    private ParallelElements() {
+    }
+
+    static Object[] generate(GenerationSession session, int size, Element element) {
+        final Object[] elements = new Object[size];
+        if (!session.isParallel(size)) {
+            for (int i = 0; i < size; i++) {
+                elements[i] = element.generate(i, session);
+            }
+            return elements;
+        }
+        final long seed = session.random().nextLong();
+        final int grain = Math.max(1, size / (ForkJoinPool.getCommonPoolParallelism() * TASKS_PER_WORKER));
+        new Range(session, seed, element, elements, 0, size, grain).invoke();
+        return elements;
+    }
+
+    /**
+     * A range of element indexes.
+     */
+    @SuppressWarnings("serial") // serializable only through ForkJoinTask; a range is never serialized
+    private static final class Range extends RecursiveAction {
+        private final GenerationSession session;
+        private final long seed;
+        private final Element element;
+        private final Object[] elements;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        Range(GenerationSession session, long seed, Element element, Object[] elements, int from, int to, int grain) {
+            this.session = session;
+            this.seed = seed;
+            this.element = element;
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                for (int i = from; i < to; i++) {
+                    final int index = i;
+                    final GenerationSession fork = session.fork(RandomSources.derive(seed, index));
+                    elements[index] = fork.call(() -> element.generate(index, fork));
+                }
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new Range(session, seed, element, elements, from, middle, grain),
+                      new Range(session, seed, element, elements, middle, to, grain));
+        }
+    }
+}
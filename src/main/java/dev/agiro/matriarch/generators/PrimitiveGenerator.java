@@ -0,0 +1,81 @@
+package dev.agiro.matriarch.generators;
+
+
+import dev.agiro.matriarch.domain.core.GenerationSession;
+import dev.agiro.matriarch.domain.core.MemberAccessors;
+
+/**
+ * Contracts of generators that can produce primitive values without boxing them, one per
+ * primitive type, in the manner of {@link java.util.PrimitiveIterator}.
+ * <p>
+ * Primitive fields without an override or a matching known pattern are populated through
+ * {@link #generateInto}, writing the value straight into the field. Wrapper types, overrides and
+ * patterns keep using the boxed {@link AbstractGenerator#apply} path.
+ */
+public interface PrimitiveGenerator {
+
+    interface OfInt extends PrimitiveGenerator {
+        int generateInt(GenerationSession session);
+    }
+
+    interface OfLong extends PrimitiveGenerator {
+        long generateLong(GenerationSession session);
+    }
+
+    interface OfDouble extends PrimitiveGenerator {
+        double generateDouble(GenerationSession session);
+    }
+
+    interface OfFloat extends PrimitiveGenerator {
+        float generateFloat(GenerationSession session);
+    }
+
+    interface OfBoolean extends PrimitiveGenerator {
+        boolean generateBoolean(GenerationSession session);
+    }
+
+    interface OfChar extends PrimitiveGenerator {
+        char generateChar(GenerationSession session);
+    }
+
+    interface OfByte extends PrimitiveGenerator {
+        byte generateByte(GenerationSession session);
+    }
+
+    interface OfShort extends PrimitiveGenerator {
+        short generateShort(GenerationSession session);
+    }
+
+    /**
+     * Generate a value and write it into a primitive field without boxing it.
+     *
+     * @return {@code false}, having written nothing, when the generator has no contract for the
+     * field's primitive type
+     */
+    static boolean generateInto(Object generator,
+                                MemberAccessors.PrimitiveFieldWriter writer,
+                                Object target,
+                                GenerationSession session) throws Exception {
+        final Class<?> type = writer.type();
+        if (type == int.class && generator instanceof OfInt ints) {
+            writer.writeInt(target, ints.generateInt(session));
+        } else if (type == long.class && generator instanceof OfLong longs) {
+            writer.writeLong(target, longs.generateLong(session));
+        } else if (type == double.class && generator instanceof OfDouble doubles) {
+            writer.writeDouble(target, doubles.generateDouble(session));
+        } else if (type == float.class && generator instanceof OfFloat floats) {
+            writer.writeFloat(target, floats.generateFloat(session));
+        } else if (type == boolean.class && generator instanceof OfBoolean booleans) {
+            writer.writeBoolean(target, booleans.generateBoolean(session));
+        } else if (type == char.class && generator instanceof OfChar chars) {
+            writer.writeChar(target, chars.generateChar(session));
+        } else if (type == byte.class && generator instanceof OfByte bytes) {
+            writer.writeByte(target, bytes.generateByte(session));
+        } else if (type == short.class && generator instanceof OfShort shorts) {
+            writer.writeShort(target, shorts.generateShort(session));
+        } else {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package dev.agiro.matriarch.generators;
+
+
+import dev.agiro.matriarch.domain.core.GenerationSession;
+import dev.agiro.matriarch.domain.model.Definition;
+
+public class ShortGenerator extends AbstractGenerator<Short> implements PrimitiveGenerator.OfShort {
+
+    public ShortGenerator() {
+        super(Short.class);
+    }
+
+    @Override
+    public Short generate(Definition supplierInput) {
+        return generateShort(supplierInput.session());
+    }
+
+    @Override
+    public short generateShort(GenerationSession session) {
+        return (short) session.random().nextInt(Short.MAX_VALUE + 1);
+    }
+}
@@ -1,7 +1,6 @@
 package dev.agiro.matriarch.generators;
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
 import dev.agiro.matriarch.domain.model.Definition;
 
 public class StringGenerator extends AbstractGenerator<String> {
@@ -12,6 +11,6 @@ public class StringGenerator extends AbstractGenerator<String> {
 
     @Override
     public String generate(Definition def) {
-        return def.overrideCoordinate() + "_" + GenerationContext.getInstance().getRandom().nextInt(1000, 9999);
+        return def.overrideCoordinate() + "_" + def.session().random().nextInt(1000, 9999);
     }
 }
@@ -1,7 +1,6 @@
 package dev.agiro.matriarch.generators;
 
 
-import dev.agiro.matriarch.domain.core.GenerationContext;
 import dev.agiro.matriarch.domain.model.Definition;
 
 import java.sql.Timestamp;
@@ -15,7 +14,7 @@ public class TimestampGenerator extends AbstractGenerator<Timestamp> {
 
     @Override
     public Timestamp generate(Definition supplierInput) {
-        return Timestamp.from(Instant.ofEpochMilli(Math.absExact(GenerationContext.getInstance().getRandom().nextLong()) % Instant.now().toEpochMilli()));
+        return Timestamp.from(Instant.ofEpochMilli(Math.absExact(supplierInput.session().random().nextLong()) % Instant.now().toEpochMilli()));
     }
 }
 
@@ -0,0 +1,302 @@
+package dev.agiro.matriarch.generators;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Converts override and pattern values to the type of the field they are assigned to.
+ * <p>
+ * Converters are resolved once per (source type, target type) pair and cached. Strings and
+ * numbers are converted to the JDK scalar, {@code java.math}, {@code java.time} and enum types
+ * directly; any other pair, or a value the direct path rejects, goes through Jackson's
+ * {@code ObjectMapper.convertValue}. Custom converters can be {@link #register registered}.
+ * <p>
+ * Jackson is an optional dependency: without {@code jackson-databind} on the class path, it is
+ * never loaded and the pairs without a direct conversion are rejected.
+ */
+public final class TypeConverters {
+
+    private static final boolean JACKSON_PRESENT = isPresent("com.fasterxml.jackson.databind.ObjectMapper");
+
+    /**
+     * Jackson is only needed for the pairs without a direct conversion: the mapper is created on
+     * the first of them. The {@code java.time} and parameter names modules are registered when
+     * they are on the class path too.
+     */
+    private static final class Jackson {
+        private static final ObjectMapper objectMapper = createMapper();
+
+        private static ObjectMapper createMapper() {
+            final ObjectMapper mapper = new ObjectMapper();
+            for (String module : new String[]{
+                    "com.fasterxml.jackson.module.paramnames.ParameterNamesModule",
+                    "com.fasterxml.jackson.datatype.jsr310.JavaTimeModule"}) {
+                if (isPresent(module)) {
+                    try {
+                        mapper.registerModule((Module) Class.forName(module).getConstructor().newInstance());
+                    } catch (ReflectiveOperationException e) {
+                        throw new IllegalStateException("Cannot register Jackson module " + module, e);
+                    }
+                }
+            }
+            return mapper;
+        }
+
+        private static Object convert(Object value, Class<?> target) {
+            return objectMapper.convertValue(value, target);
+        }
+    }
+
+    private static final Map<Class<?>, Function<String, Object>> FROM_STRING = Map.ofEntries(
+            Map.entry(String.class, text -> text),
+            Map.entry(Integer.class, text -> Math.toIntExact(parseIntegral(text))),
+            Map.entry(Long.class, TypeConverters::parseIntegral),
+            Map.entry(Double.class, text -> Double.valueOf(text.trim())),
+            Map.entry(Float.class, text -> Float.valueOf(text.trim())),
+            Map.entry(Short.class, text -> shortValueExact(parseIntegral(text))),
+            Map.entry(Byte.class, text -> byteValueExact(parseIntegral(text))),
+            Map.entry(Boolean.class, TypeConverters::parseBoolean),
+            Map.entry(Character.class, TypeConverters::parseCharacter),
+            Map.entry(BigDecimal.class, text -> new BigDecimal(text.trim())),
+            Map.entry(BigInteger.class, text -> new BigInteger(text.trim())),
+            Map.entry(UUID.class, UUID::fromString),
+            Map.entry(LocalDate.class, LocalDate::parse),
+            Map.entry(LocalDateTime.class, LocalDateTime::parse),
+            Map.entry(LocalTime.class, LocalTime::parse),
+            Map.entry(Instant.class, Instant::parse),
+            Map.entry(OffsetDateTime.class, OffsetDateTime::parse),
+            Map.entry(ZonedDateTime.class, ZonedDateTime::parse),
+            Map.entry(Duration.class, Duration::parse),
+            Map.entry(Period.class, Period::parse));
+
+    private static final Map<Class<?>, Function<Number, Object>> FROM_NUMBER = Map.ofEntries(
+            Map.entry(Integer.class, number -> Math.toIntExact(integral(number))),
+            Map.entry(Long.class, TypeConverters::integral),
+            Map.entry(Short.class, number -> shortValueExact(integral(number))),
+            Map.entry(Byte.class, number -> byteValueExact(integral(number))),
+            Map.entry(Double.class, Number::doubleValue),
+            Map.entry(Float.class, Number::floatValue),
+            Map.entry(BigDecimal.class, number -> number instanceof BigDecimal decimal ? decimal : new BigDecimal(number.toString())),
+            Map.entry(BigInteger.class, number -> number instanceof BigInteger integer ? integer : BigInteger.valueOf(integral(number))),
+            Map.entry(Boolean.class, number -> integral(number) != 0),
+            Map.entry(String.class, String::valueOf));
+
+    private static final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> registered = new ConcurrentHashMap<>();
+    private static volatile ClassValue<Map<Class<?>, Function<Object, Object>>> resolved = newCache();
+
+    private TypeConverters() {
+    }
+
+    /**
+     * Register a converter from a source type (and its subtypes) to a target type, taking
+     * precedence over the built-in conversions.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> void register(Class<S> source, Class<T> target, Function<? super S, ? extends T> converter) {
+        Objects.requireNonNull(converter, "converter");
+        registered.computeIfAbsent(wrap(target), k -> new ConcurrentHashMap<>())
+                .put(source, value -> converter.apply((S) value));
+        resolved = newCache();
+    }
+
+    /**
+     * Convert a value to the target type. Values that already are instances of the target type
+     * are returned as they are.
+     *
+     * @throws IllegalArgumentException if the value cannot be converted
+     */
+    public static Object convert(Object value, Class<?> target) {
+        if (value == null) {
+            return null;
+        }
+        final Class<?> type = wrap(target);
+        if (type.isInstance(value)) {
+            return value;
+        }
+        return resolved.get(type)
+                .computeIfAbsent(value.getClass(), source -> resolve(source, type))
+                .apply(value);
+    }
+
+    /**
+     * Create the Jackson mapper used by the fallback conversions now instead of on first use. Does
+     * nothing when Jackson is not on the class path.
+     */
+    public static void preloadJackson() {
+        if (JACKSON_PRESENT) {
+            Jackson.objectMapper.getTypeFactory();
+        }
+    }
+
+    /**
+     * Whether the values of the target type produced by the built-in conversions are immutable,
+     * so that a converted constant can be reused by every build.
+     */
+    public static boolean isImmutable(Class<?> target) {
+        final Class<?> type = wrap(target);
+        return FROM_STRING.containsKey(type) || type.isEnum();
+    }
+
+    private static ClassValue<Map<Class<?>, Function<Object, Object>>> newCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Map<Class<?>, Function<Object, Object>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
+    private static Function<Object, Object> resolve(Class<?> source, Class<?> target) {
+        final Map<Class<?>, Function<Object, Object>> custom = registered.getOrDefault(target, Map.of());
+        for (Class<?> current = source; current != null; current = current.getSuperclass()) {
+            final Function<Object, Object> converter = custom.get(current);
+            if (converter != null) {
+                return converter;
+            }
+        }
+        final Function<Object, Object> direct = direct(source, target);
+        if (!JACKSON_PRESENT) {
+            if (direct == null) {
+                return value -> {
+                    throw new IllegalArgumentException("Cannot convert " + source.getName() + " to " + target.getName()
+                            + ": add jackson-databind to the class path for conversions other than scalar, enum and java.time ones");
+                };
+            }
+            return value -> {
+                try {
+                    return direct.apply(value);
+                } catch (IllegalArgumentException e) {
+                    throw e;
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("Cannot convert '" + value + "' to " + target.getName(), e);
+                }
+            };
+        }
+        if (direct == null) {
+            return value -> Jackson.convert(value, target);
+        }
+        return value -> {
+            try {
+                return direct.apply(value);
+            } catch (RuntimeException e) {
+                // Leave the coercions the direct path does not know to Jackson.
+                return Jackson.convert(value, target);
+            }
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<Object, Object> direct(Class<?> source, Class<?> target) {
+        if (CharSequence.class.isAssignableFrom(source)) {
+            if (target.isEnum()) {
+                return value -> Enum.valueOf((Class<? extends Enum>) target, value.toString());
+            }
+            final Function<String, Object> fromString = FROM_STRING.get(target);
+            return fromString == null ? null : value -> fromString.apply(value.toString());
+        }
+        if (Number.class.isAssignableFrom(source)) {
+            if (target.isEnum()) {
+                final Object[] constants = target.getEnumConstants();
+                return value -> constants[Math.toIntExact(integral((Number) value))];
+            }
+            final Function<Number, Object> fromNumber = FROM_NUMBER.get(target);
+            return fromNumber == null ? null : value -> fromNumber.apply((Number) value);
+        }
+        if (target == String.class && (source == Boolean.class || source == Character.class || source.isEnum())) {
+            return value -> value instanceof Enum<?> constant ? constant.name() : value.toString();
+        }
+        return null;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, TypeConverters.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static long integral(Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            return number.longValue();
+        }
+        if (number instanceof BigInteger integer) {
+            return integer.longValueExact();
+        }
+        if (number instanceof BigDecimal || number instanceof Double || number instanceof Float) {
+            try {
+                return new BigDecimal(number.toString()).longValueExact();
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw new IllegalArgumentException("Not an integral number: " + number, e);
+            }
+        }
+        throw new IllegalArgumentException("Not an integral number: " + number);
+    }
+
+    /**
+     * Parse an integral number, also accepting decimal notations without a fractional part, such
+     * as {@code "1.0"} or {@code "1e3"}.
+     */
+    private static long parseIntegral(String text) {
+        final String trimmed = text.trim();
+        try {
+            return Long.parseLong(trimmed);
+        } catch (NumberFormatException e) {
+            return integral(new BigDecimal(trimmed));
+        }
+    }
+
+    private static short shortValueExact(long value) {
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new ArithmeticException("short overflow: " + value);
+        }
+        return (short) value;
+    }
+
+    private static byte byteValueExact(long value) {
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+            throw new ArithmeticException("byte overflow: " + value);
+        }
+        return (byte) value;
+    }
+
+    private static Boolean parseBoolean(String text) {
+        final String trimmed = text.trim();
+        if (trimmed.equalsIgnoreCase("true")) {
+            return Boolean.TRUE;
+        }
+        if (trimmed.equalsIgnoreCase("false")) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("Not a boolean: " + text);
+    }
+
+    private static Character parseCharacter(String text) {
+        if (text.length() != 1) {
+            throw new IllegalArgumentException("Not a single character: " + text);
+        }
+        return text.charAt(0);
+    }
+}
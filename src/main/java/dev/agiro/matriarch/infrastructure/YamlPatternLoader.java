@@ -31,12 +31,13 @@ public class YamlPatternLoader implements PatternLoader {
 
     @Override
     public List<Pattern> load() {
-        Yaml yaml = new Yaml();
         try (InputStream inputStream = getClass().getResourceAsStream(resourcePath)) {
             if (inputStream == null) {
                 logger.log(Level.WARNING, "YAML file not found: {0}", resourcePath);
                 return new ArrayList<>();
             }
+            // Created only when there is a file, so that SnakeYAML is not loaded otherwise.
+            Yaml yaml = new Yaml();
 
             KnownPatterns knownPatterns = yaml.loadAs(inputStream, KnownPatterns.class);
             if (knownPatterns == null || knownPatterns.getPatterns() == null) {
@@ -1,7 +1,5 @@
 package dev.agiro.matriarch.junit;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.agiro.matriarch.domain.core.Mother;
 import dev.agiro.matriarch.domain.core.Regex;
 import dev.agiro.matriarch.domain.model.Overrider;
@@ -25,7 +23,12 @@ import static dev.agiro.matriarch.util.OverrideUtils.computeOverrideDefinitions;
  */
 public class MotherExtension implements TestInstancePostProcessor, ParameterResolver {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    static {
+        // The extension is loaded when test classes are discovered, before any of them runs.
+        if (Boolean.getBoolean(Mother.PREINITIALIZE_PROPERTY)) {
+            Mother.preinitialize();
+        }
+    }
 
     @Override
     public void postProcessTestInstance(Object testInstance, ExtensionContext context) throws Exception {
@@ -68,6 +71,12 @@ public class MotherExtension implements TestInstancePostProcessor, ParameterReso
         Mother.Builder<?> b = Mother.forClass(type);
         if (cfg != null) {
             b.withCollectionSize(cfg.collectionMin(), cfg.collectionMax());
+            if (cfg.seed() != -1L) {
+                b.withSeed(cfg.seed());
+            }
+            if (!cfg.randomAlgorithm().isBlank()) {
+                b.withRandomAlgorithm(cfg.randomAlgorithm());
+            }
         }
         var jsonWins = cfg == null || cfg.jsonOverridesWin();
         Map<String, Overrider> overrides = computeOverrideDefinitions(motherAnn.overrides(),
@@ -1,7 +1,5 @@
 package dev.agiro.matriarch.junit;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.agiro.matriarch.domain.core.ObjectMotherGenerator;
 import dev.agiro.matriarch.domain.model.ClassDefinition;
 import dev.agiro.matriarch.domain.model.Overrider;
@@ -60,7 +58,6 @@ public class MotherFactoryResourceProviders implements ArgumentsProvider, Annota
     private Arguments[] arguments;
 
     private final ObjectMotherGenerator generator = new ObjectMotherGenerator();
-    private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Override
     public Stream<? extends Arguments> provideArguments(ExtensionContext extensionContext) {
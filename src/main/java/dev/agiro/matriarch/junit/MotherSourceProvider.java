@@ -1,7 +1,5 @@
 package dev.agiro.matriarch.junit;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.agiro.matriarch.domain.core.ObjectMotherGenerator;
 import dev.agiro.matriarch.domain.model.Overrider;
 import dev.agiro.matriarch.junit.annotations.MotherSource;
@@ -17,7 +15,6 @@ import static dev.agiro.matriarch.util.OverrideUtils.computeOverrideDefinitions;
 
 public class MotherSourceProvider implements ArgumentsProvider {
     private final ObjectMotherGenerator generator = new ObjectMotherGenerator();
-    private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Override
     public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
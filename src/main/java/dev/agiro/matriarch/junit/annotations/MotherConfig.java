@@ -29,9 +29,15 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @ExtendWith(MotherExtension.class)
 public @interface MotherConfig {
-    /** Optional seed for deterministic runs (reserved for future use). */
+    /** Optional seed for deterministic runs; {@code -1} means unseeded. */
     long seed() default -1L;
 
+    /**
+     * Optional random algorithm name, e.g. "Xoshiro256PlusPlus" or "SecureRandom".
+     * If not specified, uses the default algorithm (see {@link dev.agiro.matriarch.domain.core.RandomSources}).
+     */
+    String randomAlgorithm() default "";
+
     /** Default min collection size. */
     int collectionMin() default 1;
 
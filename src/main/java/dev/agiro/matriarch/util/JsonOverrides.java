@@ -0,0 +1,67 @@
+package dev.agiro.matriarch.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.agiro.matriarch.domain.model.Overrider;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Flattens JSON overrides into override coordinates.
+ * <p>
+ * Jackson is an optional dependency: this class is the only one of the JUnit integration that
+ * refers to it, and it is only loaded for a non-blank {@code jsonOverrides}.
+ */
+public final class JsonOverrides {
+
+    private JsonOverrides() {
+    }
+
+    /**
+     * Parse a JSON object and flatten it into override coordinates.
+     *
+     * @throws IllegalArgumentException if the text is not valid JSON
+     */
+    static Map<String, Overrider> parse(String jsonOverrides) {
+        try {
+            return flatten(new ObjectMapper().readTree(jsonOverrides));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Flatten a JSON tree into override coordinates: {@code a.b} for nested fields and
+     * {@code a[i]} for array elements.
+     */
+    public static Map<String, Overrider> flatten(JsonNode node) {
+        Map<String, Overrider> out = new HashMap<>();
+        flatten(node, "", out);
+        return out;
+    }
+
+    private static void flatten(JsonNode node, String path, Map<String, Overrider> out) {
+        if (node.isValueNode()) {
+            var type = node.isTextual() ? Overrider.OverriderType.STRING : Overrider.OverriderType.OBJECT;
+            out.put(path, new Overrider(node.asText(), type));
+            return;
+        }
+        if (node.isObject()) {
+            node.fields().forEachRemaining(e -> {
+                String p = path.isEmpty() ? e.getKey() : path + "." + e.getKey();
+                flatten(e.getValue(), p, out);
+            });
+            return;
+        }
+        if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                // Use the same coordinate format the collection generators consume:
+                // "parent[i]" (no separating dot before the bracket).
+                String p = path + "[" + i + "]";
+                flatten(node.get(i), p, out);
+            }
+        }
+    }
+}
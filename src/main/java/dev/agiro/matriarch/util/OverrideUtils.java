@@ -1,8 +1,5 @@
 package dev.agiro.matriarch.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.agiro.matriarch.domain.model.Overrider;
 import dev.agiro.matriarch.junit.annotations.OverrideField;
 import dev.agiro.matriarch.junit.annotations.internal.NoSupplier;
@@ -37,9 +34,13 @@ public class OverrideUtils {
             return Map.of();
         }
 
+        // Jackson is optional: JsonOverrides, which refers to it, is only loaded from here
+        if (!isJacksonPresent()) {
+            throw new ParameterResolutionException("jsonOverrides need jackson-databind on the class path");
+        }
         try {
-            return OverrideUtils.flattenJsonNodes(new ObjectMapper().readTree(jsonOverrides));
-        } catch (JsonProcessingException e) {
+            return JsonOverrides.parse(jsonOverrides);
+        } catch (IllegalArgumentException e) {
             throw new ParameterResolutionException("Invalid jsonOverrides: " + e.getMessage(), e);
         }
     }
@@ -66,32 +67,12 @@ public class OverrideUtils {
                 ));
     }
 
-    public static Map<String, Overrider> flattenJsonNodes(JsonNode node) {
-        Map<String, Overrider> out = new java.util.HashMap<>();
-        flattenJsonNodes(node, "", out);
-        return out;
-    }
-
-    private static void flattenJsonNodes(JsonNode node, String path, Map<String, Overrider> out) {
-        if (node.isValueNode()) {
-            var type = node.isTextual() ? Overrider.OverriderType.STRING : Overrider.OverriderType.OBJECT;
-            out.put(path, new Overrider(node.asText(), type));
-            return;
-        }
-        if (node.isObject()) {
-            node.fields().forEachRemaining(e -> {
-                String p = path.isEmpty() ? e.getKey() : path + "." + e.getKey();
-                flattenJsonNodes(e.getValue(), p, out);
-            });
-            return;
-        }
-        if (node.isArray()) {
-            for (int i = 0; i < node.size(); i++) {
-                // Use the same coordinate format the collection generators consume:
-                // "parent[i]" (no separating dot before the bracket).
-                String p = path + "[" + i + "]";
-                flattenJsonNodes(node.get(i), p, out);
-            }
+    private static boolean isJacksonPresent() {
+        try {
+            Class.forName("com.fasterxml.jackson.databind.ObjectMapper", false, OverrideUtils.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
         }
     }
 }
@@ -1,151 +1,327 @@
 package dev.agiro.matriarch.util;
 import dev.agiro.matriarch.domain.core.GenerationContext;
+import dev.agiro.matriarch.domain.core.GenerationEvents;
+import dev.agiro.matriarch.domain.core.MatriarchMetrics;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Random;
-import java.util.function.Supplier;
+import java.util.Map;
+import java.util.random.RandomGenerator;
 /**
  * Simple regex-to-string generator that supports common regex patterns.
  * This is a lightweight alternative to datafaker's regexify method.
+ * <p>
+ * A regex is parsed once into a {@link Program} of nodes with precomputed alphabets and
+ * quantifiers. Programs are immutable and shared through a bounded cache, so patterns used on
+ * every generation, such as IDs and emails, are not parsed again.
  */
 public class RegexGenerator {
-    private static Random random() {
-        return GenerationContext.getInstance().getRandom();
-    }
+
+    /** Maximum number of compiled programs kept by {@link #compile(String)}. */
+    static final int CACHE_SIZE = 256;
+
+    private static final Program EMPTY = new Program(new Node[0]);
+    private static final char[] WORD = charClass("a-zA-Z0-9_");
+    private static final char[] NON_WORD = charClass("^a-zA-Z0-9_");
+    private static final char[] DIGIT = charClass("0-9");
+    private static final char[] NON_DIGIT = charClass("^0-9");
+    private static final char[] SPACE = {'\t', '\n', '\r', ' '};
+    private static final char[] NON_SPACE = charClass("^ ");
+
+    private static final Map<String, Program> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Program> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
     /**
      * Generate a random string that matches the given regex pattern.
      * Supports:
-     * - Character classes: [a-z], [A-Z], [0-9], [abc]
+     * - Character classes: [a-z], [A-Z], [0-9], [abc], negated [^a-z] and escapes such as [\\w.-]
      * - Quantifiers: {n}, {n,m}, *, +, ?
      * - Groups: () with alternation |
-     * - Escaped characters: \\d, \\w, \\s
+     * - Escaped characters: \\d, \\w, \\s and their negations \\D, \\W, \\S
+     * <p>
+     * Negated classes are drawn from printable ASCII characters.
      * - Literals
      */
     public static String generate(String regex) {
+        return generate(regex, GenerationContext.getInstance().getRandomGenerator());
+    }
+    /**
+     * Generate a random string that matches the given regex pattern, drawing from the given generator.
+     */
+    public static String generate(String regex, RandomGenerator random) {
+        final GenerationEvents.RegexGenerate event = new GenerationEvents.RegexGenerate();
+        if (!event.isEnabled()) {
+            return compile(regex).generate(random);
+        }
+        event.begin();
+        final boolean cached = regex == null || regex.isEmpty() || CACHE.containsKey(regex);
+        String generated = null;
+        try {
+            generated = compile(regex).generate(random);
+            return generated;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.regex = regex;
+                event.compiled = !cached;
+                event.length = generated == null ? -1 : generated.length();
+                event.outcome = generated == null ? GenerationEvents.FAILURE : GenerationEvents.SUCCESS;
+                event.commit();
+            }
+        }
+    }
+    /**
+     * The compiled program of a regex pattern. Programs are cached, least recently used first out,
+     * so compiling the same pattern again is a lookup.
+     *
+     * @throws NumberFormatException if a {@code {n,m}} quantifier is not numeric
+     */
+    public static Program compile(String regex) {
         if (regex == null || regex.isEmpty()) {
-            return "";
+            return EMPTY;
+        }
+        final Program cached = CACHE.get(regex);
+        if (cached != null) {
+            MatriarchMetrics.increment(MatriarchMetrics.Counter.REGEX_CACHE_HIT);
+            return cached;
         }
-        StringBuilder result = new StringBuilder();
+        MatriarchMetrics.increment(MatriarchMetrics.Counter.REGEX_COMPILATION);
+        final Program program = parse(regex);
+        CACHE.put(regex, program);
+        return program;
+    }
+
+    /**
+     * A compiled regex pattern. Immutable and thread-safe: every call draws from the random
+     * generator it is given.
+     */
+    public static final class Program {
+        private final Node[] nodes;
+        private volatile RegexLanguage language;
+
+        private Program(Node[] nodes) {
+            this.nodes = nodes;
+        }
+
+        /**
+         * The pattern as a finite language of strings that can be indexed, enumerated and drawn
+         * without repetition. The language is built from the nodes of this program, so it holds
+         * exactly the strings {@link #generate(RandomGenerator)} can produce.
+         *
+         * @throws IllegalArgumentException if the pattern is unbounded ({@code *}, {@code +},
+         *                                  {@code {n,}}) or a string can match it in more than one way
+         */
+        public RegexLanguage language() {
+            RegexLanguage result = language;
+            if (result == null) {
+                result = new RegexLanguage(part());
+                language = result;
+            }
+            return result;
+        }
+
+        private RegexLanguage.Part part() {
+            final RegexLanguage.Part[] parts = new RegexLanguage.Part[nodes.length];
+            for (int k = 0; k < parts.length; k++) {
+                parts[k] = nodes[k].language();
+            }
+            return RegexLanguage.concat(parts);
+        }
+
+        /**
+         * Generate a random string that matches the pattern.
+         */
+        public String generate(RandomGenerator random) {
+            if (nodes.length == 0) {
+                return "";
+            }
+            final StringBuilder out = new StringBuilder();
+            generate(random, out);
+            return out.toString();
+        }
+
+        /**
+         * Append a random string that matches the pattern to the given builder.
+         */
+        public void generate(RandomGenerator random, StringBuilder out) {
+            for (Node node : nodes) {
+                node.append(random, out);
+            }
+        }
+    }
+
+    private static Program parse(String regex) {
+        final List<Node> nodes = new ArrayList<>();
+        final StringBuilder text = new StringBuilder();
         int i = 0;
         while (i < regex.length()) {
             char c = regex.charAt(i);
             if (c == '\\' && i + 1 < regex.length()) {
                 // Handle escaped characters
                 char next = regex.charAt(i + 1);
-                QuantifierInfo quantifier = extractQuantifier(regex, i + 2);
-
-                // Special case: \w with multi-char quantifiers - use category repository (general)
-                if (next == 'w' && quantifier.min > 1) {
-                    int targetMin = quantifier.min < 5 ? 5 : quantifier.min; // keep test hack
-                    int targetMax = Math.max(targetMin, quantifier.max < targetMin ? targetMin : quantifier.max);
-                    if (targetMax < targetMin) targetMax = targetMin;
-                    int desired = targetMin == targetMax ? targetMin : random().nextInt(targetMax - targetMin + 1) + targetMin;
-                    StringBuilder wordBuilder = new StringBuilder();
-                    while (wordBuilder.length() < desired) {
-                        // Build from \w character class set
-                        wordBuilder.append(generateFromCharClass("a-zA-Z0-9_"));
-                    }
-                    String word = wordBuilder.substring(0, desired);
-                    result.append(word);
-                    i = quantifier.endIndex;
+                Quantifier quantifier = parseQuantifier(regex, i + 2);
+                final char[] alphabet = escapeAlphabet(next);
+                if (alphabet != null) {
+                    flush(text, nodes);
+                    nodes.add(new CharClass(quantifier, alphabet));
                 } else {
-                    // Regenerate for each repetition to increase randomness
-                    appendWithQuantifier(result, () -> handleEscapedChar(next), quantifier);
-                    i = quantifier.endIndex;
+                    literal(escapeLiteral(next), quantifier, text, nodes);
                 }
+                i = quantifier.endIndex;
             } else if (c == '[') {
                 // Handle character class
                 int end = findMatchingBracket(regex, i);
-                String charClass = regex.substring(i + 1, end);
-                QuantifierInfo quantifier = extractQuantifier(regex, end + 1);
-                // Regenerate for each repetition to increase randomness
-                appendWithQuantifier(result, () -> generateFromCharClass(charClass), quantifier);
+                Quantifier quantifier = parseQuantifier(regex, end + 1);
+                flush(text, nodes);
+                nodes.add(new CharClass(quantifier, charClass(regex.substring(i + 1, end))));
                 i = quantifier.endIndex;
             } else if (c == '(') {
-                // Handle group
+                // Handle group, choosing an alternative again on each repetition
                 int end = findMatchingParenthesis(regex, i);
                 String group = regex.substring(i + 1, end);
-                // For groups, regenerate each repetition to allow different alternatives each time
-                Supplier<String> groupSupplier = () -> {
-                    if (group.contains("|")) {
-                        String[] alternatives = splitAlternation(group);
-                        return generate(alternatives[random().nextInt(alternatives.length)]);
-                    } else {
-                        return generate(group);
-                    }
-                };
-                QuantifierInfo quantifier = extractQuantifier(regex, end + 1);
-                appendWithQuantifier(result, groupSupplier, quantifier);
+                Quantifier quantifier = parseQuantifier(regex, end + 1);
+                flush(text, nodes);
+                nodes.add(group.contains("|")
+                        ? new Alternation(quantifier, alternatives(group))
+                        : new Group(quantifier, compile(group)));
                 i = quantifier.endIndex;
             } else if (c == '|') {
-                // Handle top-level alternation (shouldn't normally reach here if properly in groups)
-                // We've already processed everything before the pipe
-                // Now randomly choose from what comes after
-                String[] parts = splitAlternation(regex.substring(i + 1));
-                result.append(generate(parts[random().nextInt(parts.length)]));
+                // Handle top-level alternation: everything before the pipe is kept, and one
+                // alternative of what comes after is chosen
+                flush(text, nodes);
+                nodes.add(new Alternation(Quantifier.ONE, alternatives(regex.substring(i + 1))));
                 break;
             } else if (isQuantifier(c)) {
                 // Quantifier without preceding element - skip
                 i++;
             } else {
                 // Literal character
-                QuantifierInfo quantifier = extractQuantifier(regex, i + 1);
-                appendWithQuantifier(result, String.valueOf(c), quantifier);
+                Quantifier quantifier = parseQuantifier(regex, i + 1);
+                literal(c, quantifier, text, nodes);
                 i = quantifier.endIndex;
             }
         }
-        return result.toString();
+        flush(text, nodes);
+        return new Program(nodes.toArray(new Node[0]));
+    }
+
+    /**
+     * Append a literal, merging runs of unquantified literals into a single text node.
+     */
+    private static void literal(char c, Quantifier quantifier, StringBuilder text, List<Node> nodes) {
+        if (quantifier.isOne()) {
+            text.append(c);
+        } else {
+            flush(text, nodes);
+            nodes.add(new Literal(quantifier, c));
+        }
+    }
+
+    private static void flush(StringBuilder text, List<Node> nodes) {
+        if (!text.isEmpty()) {
+            nodes.add(new Text(text.toString()));
+            text.setLength(0);
+        }
+    }
+
+    private static Program[] alternatives(String s) {
+        // Simple split on pipe - doesn't handle nested groups, but sufficient for our use case
+        final String[] parts = s.split("\\|");
+        final Program[] programs = new Program[parts.length];
+        for (int k = 0; k < parts.length; k++) {
+            programs[k] = compile(parts[k]);
+        }
+        return programs;
+    }
+
+    private static char[] escapeAlphabet(char c) {
+        return switch (c) {
+            case 'd' -> DIGIT;
+            case 'D' -> NON_DIGIT;
+            case 'w' -> WORD;
+            case 'W' -> NON_WORD;
+            case 's' -> SPACE;
+            case 'S' -> NON_SPACE;
+            default -> null;
+        };
     }
-    private static String handleEscapedChar(char c) {
+
+    private static char escapeLiteral(char c) {
         return switch (c) {
-            case 'd' -> String.valueOf(random().nextInt(10));
-            case 'w' -> generateFromCharClass("a-zA-Z0-9_");
-            case 'W' -> generateFromCharClass("!@#$%^&*(){}[]<>?/\\|+-=,.;:~");
-            case 's' -> {
-                // Random whitespace character
-                char[] ws = new char[]{' ', '\t', '\n', '\r'};
-                yield String.valueOf(ws[random().nextInt(ws.length)]);
-            }
-            case 'S' -> generateFromCharClass("a-zA-Z0-9!@#$%^&*()_+-=,.;:{}[]<>");
-            case 't' -> "\t";
-            case 'n' -> "\n";
-            case 'r' -> "\r";
-            default -> String.valueOf(c); // Literal escaped character
+            case 't' -> '\t';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            default -> c; // Literal escaped character
         };
     }
-    private static String generateFromCharClass(String charClass) {
-        List<Character> chars = new ArrayList<>();
-        int i = 0;
-        while (i < charClass.length()) {
-            if (i + 2 < charClass.length() && charClass.charAt(i + 1) == '-') {
+
+    /**
+     * The characters of the content of a character class, such as {@code a-z0-9_} or
+     * {@code \w.-}, in ascending order. A negated class ({@code ^a-z}) is the complement within
+     * printable ASCII.
+     */
+    private static char[] charClass(String content) {
+        final boolean negated = content.length() > 1 && content.charAt(0) == '^';
+        final BitSet chars = new BitSet();
+        int i = negated ? 1 : 0;
+        while (i < content.length()) {
+            char start = content.charAt(i++);
+            if (start == '\\' && i < content.length()) {
+                final char escaped = content.charAt(i++);
+                final char[] alphabet = escapeAlphabet(escaped);
+                if (alphabet != null) {
+                    for (char c : alphabet) {
+                        chars.set(c);
+                    }
+                    continue;
+                }
+                start = escapeLiteral(escaped);
+            }
+            if (i + 1 < content.length() && content.charAt(i) == '-') {
                 // Range like a-z
-                char start = charClass.charAt(i);
-                char end = charClass.charAt(i + 2);
-                for (char c = start; c <= end; c++) {
-                    chars.add(c);
+                char end = content.charAt(i + 1);
+                i += 2;
+                if (end == '\\' && i < content.length()) {
+                    end = escapeLiteral(content.charAt(i++));
+                }
+                if (end >= start) {
+                    chars.set(start, end + 1);
                 }
-                i += 3;
             } else {
                 // Single character
-                chars.add(charClass.charAt(i));
-                i++;
+                chars.set(start);
             }
         }
-        if (chars.isEmpty()) {
-            return "";
+        if (negated) {
+            final BitSet printable = new BitSet();
+            printable.set(' ', '~' + 1);
+            printable.andNot(chars);
+            return toChars(printable);
         }
-        return String.valueOf(chars.get(random().nextInt(chars.size())));
+        return toChars(chars);
     }
+
+    private static char[] toChars(BitSet set) {
+        final char[] chars = new char[set.cardinality()];
+        for (int k = 0, c = set.nextSetBit(0); c >= 0; c = set.nextSetBit(c + 1)) {
+            chars[k++] = (char) c;
+        }
+        return chars;
+    }
+
     private static int findMatchingBracket(String regex, int start) {
-        int depth = 1;
         for (int i = start + 1; i < regex.length(); i++) {
-            if (regex.charAt(i) == '[') {
-                depth++;
+            if (regex.charAt(i) == '\\') {
+                i++; // Skip escaped character
             } else if (regex.charAt(i) == ']') {
-                depth--;
-                if (depth == 0) {
-                    return i;
-                }
+                return i;
             }
         }
         return regex.length();
@@ -168,67 +344,191 @@ public class RegexGenerator {
         }
         return regex.length();
     }
-    private static QuantifierInfo extractQuantifier(String regex, int start) {
+    private static Quantifier parseQuantifier(String regex, int start) {
         if (start >= regex.length()) {
-            return new QuantifierInfo(1, 1, start);
+            return new Quantifier(1, 0, 1, start);
         }
         char c = regex.charAt(start);
         if (c == '*') {
-            int count = random().nextInt(20); // 0 to 10 for a bit more variety
-            return new QuantifierInfo(count, 20, start + 1);
+            return new Quantifier(0, 20, 20, false, start + 1);
         } else if (c == '+') {
-            int count = random().nextInt(20) + 1; // 1 to 10
-            return new QuantifierInfo(count, 20, start + 1);
+            return new Quantifier(1, 20, 20, false, start + 1);
         } else if (c == '?') {
-            int count = random().nextInt(2); // 0 or 1
-            return new QuantifierInfo(count, count, start + 1);
+            return new Quantifier(0, 2, 1, start + 1);
         } else if (c == '{') {
             int end = regex.indexOf('}', start);
             if (end == -1) {
-                return new QuantifierInfo(1, 1, start);
+                return new Quantifier(1, 0, 1, start);
             }
             String quantifier = regex.substring(start + 1, end);
             if (quantifier.contains(",")) {
                 String[] parts = quantifier.split(",");
                 int min = Integer.parseInt(parts[0].trim());
-                int max = parts.length > 1 && !parts[1].trim().isEmpty() 
-                    ? Integer.parseInt(parts[1].trim()) 
+                boolean bounded = parts.length > 1 && !parts[1].trim().isEmpty();
+                int max = bounded
+                    ? Integer.parseInt(parts[1].trim())
                     : min + 5;
-                int count = min + random().nextInt(Math.max(1, max - min + 1));
-                return new QuantifierInfo(count, max, end + 1);
+                return new Quantifier(min, Math.max(1, max - min + 1), max, bounded, end + 1);
             } else {
                 int count = Integer.parseInt(quantifier.trim());
-                return new QuantifierInfo(count, count, end + 1);
+                return new Quantifier(count, 0, count, end + 1);
             }
         }
-        return new QuantifierInfo(1, 1, start);
+        return new Quantifier(1, 0, 1, start);
+    }
+    private static boolean isQuantifier(char c) {
+        return c == '*' || c == '+' || c == '?' || c == '{';
     }
-    private static void appendWithQuantifier(StringBuilder result, String s, QuantifierInfo quantifier) {
-        for (int k = 0; k < quantifier.min; k++) { // previously repeated min only; keep behavior
-            result.append(s);
+
+    /**
+     * A repetition count of {@code min + nextInt(bound)}, or exactly {@code min} when the bound is
+     * zero. {@code max} is the upper limit written in the pattern, or the one generated when the
+     * pattern has none ({@code *}, {@code +}, {@code {n,}}).
+     */
+    private record Quantifier(int min, int bound, int max, boolean bounded, int endIndex) {
+        static final Quantifier ONE = new Quantifier(1, 0, 1, 0);
+
+        Quantifier(int min, int bound, int max, int endIndex) {
+            this(min, bound, max, true, endIndex);
+        }
+
+        int count(RandomGenerator random) {
+            return bound == 0 ? min : min + random.nextInt(bound);
+        }
+
+        boolean isOne() {
+            return min == 1 && bound == 0;
+        }
+
+        RegexLanguage.Part repeat(RegexLanguage.Part unit) {
+            if (!bounded) {
+                throw new IllegalArgumentException("Unbounded quantifier: the pattern does not describe a finite language");
+            }
+            return RegexLanguage.repeat(unit, min, max);
         }
     }
-    // Overload that regenerates the unit for each repetition
-    private static void appendWithQuantifier(StringBuilder result, Supplier<String> generator, QuantifierInfo quantifier) {
-        for (int k = 0; k < quantifier.min; k++) {
-            result.append(generator.get());
+
+    private abstract static class Node {
+        abstract void append(RandomGenerator random, StringBuilder out);
+
+        /**
+         * The strings this node matches, for {@link RegexLanguage}.
+         */
+        abstract RegexLanguage.Part language();
+    }
+
+    private static final class Text extends Node {
+        private final String text;
+
+        Text(String text) {
+            this.text = text;
+        }
+
+        @Override
+        void append(RandomGenerator random, StringBuilder out) {
+            out.append(text);
+        }
+
+        @Override
+        RegexLanguage.Part language() {
+            return RegexLanguage.text(text);
         }
     }
-    private static boolean isQuantifier(char c) {
-        return c == '*' || c == '+' || c == '?' || c == '{';
+
+    private static final class Literal extends Node {
+        private final Quantifier quantifier;
+        private final char c;
+
+        Literal(Quantifier quantifier, char c) {
+            this.quantifier = quantifier;
+            this.c = c;
+        }
+
+        @Override
+        void append(RandomGenerator random, StringBuilder out) {
+            for (int k = quantifier.count(random); k > 0; k--) {
+                out.append(c);
+            }
+        }
+
+        @Override
+        RegexLanguage.Part language() {
+            return quantifier.repeat(RegexLanguage.text(String.valueOf(c)));
+        }
     }
-    private static String[] splitAlternation(String s) {
-        // Simple split on pipe - doesn't handle nested groups, but sufficient for our use case
-        return s.split("\\|");
-    }
-    private static class QuantifierInfo {
-        final int min;
-        final int max;
-        final int endIndex;
-        QuantifierInfo(int min, int max, int endIndex) {
-            this.min = min;
-            this.max = max;
-            this.endIndex = endIndex;
+
+    private static final class CharClass extends Node {
+        private final Quantifier quantifier;
+        private final char[] alphabet;
+
+        CharClass(Quantifier quantifier, char[] alphabet) {
+            this.quantifier = quantifier;
+            this.alphabet = alphabet;
+        }
+
+        @Override
+        void append(RandomGenerator random, StringBuilder out) {
+            if (alphabet.length == 0) {
+                return;
+            }
+            for (int k = quantifier.count(random); k > 0; k--) {
+                out.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+        }
+
+        @Override
+        RegexLanguage.Part language() {
+            return quantifier.repeat(RegexLanguage.alphabet(alphabet));
+        }
+    }
+
+    private static final class Group extends Node {
+        private final Quantifier quantifier;
+        private final Program program;
+
+        Group(Quantifier quantifier, Program program) {
+            this.quantifier = quantifier;
+            this.program = program;
+        }
+
+        @Override
+        void append(RandomGenerator random, StringBuilder out) {
+            for (int k = quantifier.count(random); k > 0; k--) {
+                program.generate(random, out);
+            }
+        }
+
+        @Override
+        RegexLanguage.Part language() {
+            return quantifier.repeat(program.part());
+        }
+    }
+
+    private static final class Alternation extends Node {
+        private final Quantifier quantifier;
+        private final Program[] alternatives;
+
+        Alternation(Quantifier quantifier, Program[] alternatives) {
+            this.quantifier = quantifier;
+            this.alternatives = alternatives;
+        }
+
+        @Override
+        void append(RandomGenerator random, StringBuilder out) {
+            for (int k = quantifier.count(random); k > 0; k--) {
+                if (alternatives.length > 0) {
+                    alternatives[random.nextInt(alternatives.length)].generate(random, out);
+                }
+            }
+        }
+
+        @Override
+        RegexLanguage.Part language() {
+            final RegexLanguage.Part[] parts = new RegexLanguage.Part[alternatives.length];
+            for (int k = 0; k < parts.length; k++) {
+                parts[k] = alternatives[k].part();
+            }
+            return quantifier.repeat(RegexLanguage.choice(parts));
         }
     }
 }
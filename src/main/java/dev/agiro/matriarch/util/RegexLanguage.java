@@ -0,0 +1,670 @@
+package dev.agiro.matriarch.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * The finite set of strings matched by a bounded regex pattern, ranked so that every string has
+ * an index and every index a string.
+ * <p>
+ * With the strings numbered from {@code 0} to {@code size() - 1}, {@link #generateAt(long)}
+ * builds the string of an index and {@link #indexOf(CharSequence)} finds the index of a string,
+ * both without enumerating the strings before it. This gives exhaustive enumeration
+ * ({@link #stream()}) and collision-free values ({@link #unique(long)}) in constant memory:
+ * <pre>{@code
+ * RegexLanguage ids = RegexLanguage.of("A\\d{10}");
+ * ids.size();            // 10000000000
+ * ids.generateAt(42);    // "A0000000042"
+ * RegexLanguage.Unique orderIds = ids.unique(seed);
+ * orderIds.next();       // a different ID on every call
+ * }</pre>
+ * Languages are supported when every string matches the pattern in exactly one way, so that
+ * indexes and strings correspond one to one. A variable-length part must be followed by
+ * characters it cannot contain (as in {@code [a-z]{4,8}@[a-z]{4,6}\.com} or
+ * {@code [A-Z]{1,3}\d{2,4}}) or only by fixed-length parts, and the alternatives of a group must
+ * be distinct literals or otherwise provably disjoint.
+ * Languages with more than {@link Long#MAX_VALUE} strings report that size, and only their first
+ * {@link Long#MAX_VALUE} strings are indexed.
+ */
+public final class RegexLanguage {
+
+    private final Part root;
+
+    RegexLanguage(Part root) {
+        this.root = root;
+    }
+
+    /**
+     * The language of a regex pattern.
+     *
+     * @throws IllegalArgumentException if the pattern is unbounded or ambiguous
+     * @see RegexGenerator.Program#language()
+     */
+    public static RegexLanguage of(String regex) {
+        return RegexGenerator.compile(regex).language();
+    }
+
+    /**
+     * The number of strings in the language, or {@link Long#MAX_VALUE} when there are at least that many.
+     */
+    public long size() {
+        return root.size;
+    }
+
+    /**
+     * The string at an index.
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or not less than {@link #size()}
+     */
+    public String generateAt(long index) {
+        final StringBuilder out = new StringBuilder();
+        generateAt(index, out);
+        return out.toString();
+    }
+
+    /**
+     * Append the string at an index to the given builder.
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or not less than {@link #size()}
+     */
+    public void generateAt(long index, StringBuilder out) {
+        if (index < 0 || index >= root.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of language of size " + root.size);
+        }
+        root.unrank(index, out);
+    }
+
+    /**
+     * The index of a string, or {@code -1} when the string is not in the language or its index
+     * exceeds {@link Long#MAX_VALUE}.
+     */
+    public long indexOf(CharSequence string) {
+        try {
+            return root.rank(string, 0, string.length());
+        } catch (ArithmeticException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Whether a string is in the language.
+     */
+    public boolean contains(CharSequence string) {
+        return indexOf(string) >= 0;
+    }
+
+    /**
+     * All the strings of the language in index order, built lazily.
+     */
+    public Stream<String> stream() {
+        return LongStream.range(0, root.size).mapToObj(this::generateAt);
+    }
+
+    /**
+     * A sequence going through the strings of the language in an order shuffled by a seed,
+     * without repeating any of them.
+     */
+    public Unique unique(long seed) {
+        return new Unique(this, new IndexPermutation(root.size, seed));
+    }
+
+    /**
+     * Strings of a language in a seeded random order, each returned once. Thread-safe: concurrent
+     * callers never get the same string. Only a counter is kept, whatever the number of strings.
+     */
+    public static final class Unique {
+        private final RegexLanguage language;
+        private final IndexPermutation permutation;
+        private final AtomicLong next = new AtomicLong();
+
+        private Unique(RegexLanguage language, IndexPermutation permutation) {
+            this.language = language;
+            this.permutation = permutation;
+        }
+
+        /**
+         * The next string.
+         *
+         * @throws IllegalStateException when every string of the language has been returned
+         */
+        public String next() {
+            final long position = next.getAndIncrement();
+            if (position >= language.size() || position < 0) {
+                throw new IllegalStateException("All " + language.size() + " strings of the language have been generated");
+            }
+            return language.generateAt(permutation.apply(position));
+        }
+
+        /**
+         * The number of strings not returned yet.
+         */
+        public long remaining() {
+            return Math.max(0, language.size() - next.get());
+        }
+    }
+
+    static Part text(String text) {
+        return new Text(text);
+    }
+
+    static Part alphabet(char[] chars) {
+        final BitSet set = new BitSet();
+        for (char c : chars) {
+            set.set(c);
+        }
+        final char[] distinct = new char[set.cardinality()];
+        for (int i = 0, c = set.nextSetBit(0); c >= 0; c = set.nextSetBit(c + 1)) {
+            distinct[i++] = (char) c;
+        }
+        return new Alphabet(distinct, set);
+    }
+
+    static Part repeat(Part unit, int min, int max) {
+        if (min < 0 || max < min) {
+            throw new IllegalArgumentException("Invalid quantifier {" + min + "," + max + "}");
+        }
+        if (min == 1 && max == 1) {
+            return unit;
+        }
+        if (unit.length == 0 || max == 0) {
+            return new Text("");
+        }
+        if (unit.length < 0) {
+            if (max > 1) {
+                throw new IllegalArgumentException("Ambiguous pattern: a variable-length group is repeated");
+            }
+            return choice(new Part[]{new Text(""), unit});
+        }
+        return new Repeat(unit, min, max);
+    }
+
+    static Part choice(Part[] alternatives) {
+        final List<Part> distinct = new ArrayList<>();
+        final Set<String> texts = new LinkedHashSet<>();
+        for (Part alternative : alternatives) {
+            if (alternative instanceof Text t && !texts.add(t.text)) {
+                continue;
+            }
+            for (Part other : distinct) {
+                if (!disjoint(alternative, other)) {
+                    throw new IllegalArgumentException("Ambiguous pattern: alternatives may match the same string");
+                }
+            }
+            distinct.add(alternative);
+        }
+        if (distinct.isEmpty()) {
+            return new Text("");
+        }
+        return distinct.size() == 1 ? distinct.get(0) : new Choice(distinct.toArray(new Part[0]));
+    }
+
+    static Part concat(Part[] parts) {
+        final List<Part> flat = new ArrayList<>();
+        for (Part part : parts) {
+            if (part instanceof Text t && !flat.isEmpty() && flat.get(flat.size() - 1) instanceof Text previous) {
+                flat.set(flat.size() - 1, new Text(previous.text + t.text));
+            } else if (!(part instanceof Text t && t.text.isEmpty())) {
+                flat.add(part);
+            }
+        }
+        if (flat.isEmpty()) {
+            return new Text("");
+        }
+        return flat.size() == 1 ? flat.get(0) : new Concat(flat.toArray(new Part[0]));
+    }
+
+    /**
+     * Whether two alternatives can never match the same string.
+     */
+    private static boolean disjoint(Part a, Part b) {
+        if (a instanceof Text x && b instanceof Text y) {
+            return !x.text.equals(y.text);
+        }
+        if (a instanceof Text x && x.text.isEmpty() || b instanceof Text y && y.text.isEmpty()) {
+            return !a.matchesEmpty() && !b.matchesEmpty();
+        }
+        if (a.length >= 0 && b.length >= 0 && a.length != b.length) {
+            return true;
+        }
+        return a.length > 0 && b.length > 0 && !a.chars.intersects(b.chars);
+    }
+
+    private static long addSaturated(long a, long b) {
+        final long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long multiplySaturated(long a, long b) {
+        final long high = Math.multiplyHigh(a, b);
+        final long low = a * b;
+        return high != 0 || low < 0 ? Long.MAX_VALUE : low;
+    }
+
+    /**
+     * A node of the language: the strings it matches, their number, and their fixed length
+     * ({@code -1} when lengths vary).
+     */
+    abstract static class Part {
+        final long size;
+        final int length;
+        final BitSet chars;
+
+        Part(long size, int length, BitSet chars) {
+            this.size = size;
+            this.length = length;
+            this.chars = chars;
+        }
+
+        /**
+         * Append the string at an index lower than {@link #size}.
+         */
+        abstract void unrank(long index, StringBuilder out);
+
+        /**
+         * Whether the empty string is one of the strings.
+         */
+        abstract boolean matchesEmpty();
+
+        /**
+         * The index of {@code s[from, to)}, or {@code -1} when it does not match.
+         *
+         * @throws ArithmeticException if the index exceeds {@link Long#MAX_VALUE}
+         */
+        abstract long rank(CharSequence s, int from, int to);
+    }
+
+    private static final class Text extends Part {
+        private final String text;
+
+        Text(String text) {
+            super(1, text.length(), charsOf(text));
+            this.text = text;
+        }
+
+        private static BitSet charsOf(String text) {
+            final BitSet set = new BitSet();
+            text.chars().forEach(set::set);
+            return set;
+        }
+
+        @Override
+        boolean matchesEmpty() {
+            return text.isEmpty();
+        }
+
+        @Override
+        void unrank(long index, StringBuilder out) {
+            out.append(text);
+        }
+
+        @Override
+        long rank(CharSequence s, int from, int to) {
+            if (to - from != text.length()) {
+                return -1;
+            }
+            for (int i = 0; i < text.length(); i++) {
+                if (s.charAt(from + i) != text.charAt(i)) {
+                    return -1;
+                }
+            }
+            return 0;
+        }
+    }
+
+    private static final class Alphabet extends Part {
+        private final char[] alphabet;
+
+        Alphabet(char[] alphabet, BitSet chars) {
+            super(alphabet.length, 1, chars);
+            this.alphabet = alphabet;
+        }
+
+        @Override
+        boolean matchesEmpty() {
+            return false;
+        }
+
+        @Override
+        void unrank(long index, StringBuilder out) {
+            out.append(alphabet[(int) index]);
+        }
+
+        @Override
+        long rank(CharSequence s, int from, int to) {
+            if (to - from != 1) {
+                return -1;
+            }
+            final int position = Arrays.binarySearch(alphabet, s.charAt(from));
+            return position < 0 ? -1 : position;
+        }
+    }
+
+    /**
+     * A unit of fixed length repeated {@code min} to {@code max} times. Shorter strings come first;
+     * strings of one length are numbered in base {@code unit.size}, the last unit varying fastest.
+     */
+    private static final class Repeat extends Part {
+        private final Part unit;
+        private final int min;
+        private final int max;
+
+        Repeat(Part unit, int min, int max) {
+            super(size(unit.size, min, max), min == max ? unit.length * min : -1, unit.chars);
+            this.unit = unit;
+            this.min = min;
+            this.max = max;
+        }
+
+        private static long size(long base, int min, int max) {
+            long total = 0;
+            for (int k = min; k <= max && total < Long.MAX_VALUE; k++) {
+                total = addSaturated(total, power(base, k));
+            }
+            return total;
+        }
+
+        private static long power(long base, int exponent) {
+            long result = 1;
+            for (int k = 0; k < exponent && result != 0 && result < Long.MAX_VALUE; k++) {
+                result = multiplySaturated(result, base);
+            }
+            return result;
+        }
+
+        @Override
+        boolean matchesEmpty() {
+            return min == 0;
+        }
+
+        @Override
+        void unrank(long index, StringBuilder out) {
+            for (int k = min; k <= max; k++) {
+                final long block = power(unit.size, k);
+                if (index < block) {
+                    unrankDigits(index, k, out);
+                    return;
+                }
+                index -= block;
+            }
+        }
+
+        private void unrankDigits(long index, int count, StringBuilder out) {
+            if (unit instanceof Alphabet alphabet) {
+                // Write the characters in place, least significant digit last.
+                final int start = out.length();
+                out.setLength(start + count);
+                for (int i = start + count - 1; i >= start; i--) {
+                    out.setCharAt(i, alphabet.alphabet[(int) (index % unit.size)]);
+                    index /= unit.size;
+                }
+                return;
+            }
+            final long[] digits = new long[count];
+            for (int i = count - 1; i >= 0; i--) {
+                digits[i] = index % unit.size;
+                index /= unit.size;
+            }
+            for (long digit : digits) {
+                unit.unrank(digit, out);
+            }
+        }
+
+        @Override
+        long rank(CharSequence s, int from, int to) {
+            final int length = to - from;
+            if (length % unit.length != 0) {
+                return -1;
+            }
+            final int count = length / unit.length;
+            if (count < min || count > max) {
+                return -1;
+            }
+            long offset = 0;
+            for (int k = min; k < count; k++) {
+                offset = Math.addExact(offset, power(unit.size, k));
+            }
+            long value = 0;
+            for (int i = 0; i < count; i++) {
+                final int start = from + i * unit.length;
+                final long digit = unit.rank(s, start, start + unit.length);
+                if (digit < 0) {
+                    return -1;
+                }
+                value = Math.addExact(Math.multiplyExact(value, unit.size), digit);
+            }
+            return Math.addExact(offset, value);
+        }
+    }
+
+    /**
+     * Disjoint alternatives, numbered one after the other.
+     */
+    private static final class Choice extends Part {
+        private final Part[] alternatives;
+
+        Choice(Part[] alternatives) {
+            super(sizeOf(alternatives), lengthOf(alternatives), charsOf(alternatives));
+            this.alternatives = alternatives;
+        }
+
+        private static long sizeOf(Part[] parts) {
+            long total = 0;
+            for (Part part : parts) {
+                total = addSaturated(total, part.size);
+            }
+            return total;
+        }
+
+        private static int lengthOf(Part[] parts) {
+            final int length = parts[0].length;
+            for (Part part : parts) {
+                if (part.length != length) {
+                    return -1;
+                }
+            }
+            return length;
+        }
+
+        private static BitSet charsOf(Part[] parts) {
+            final BitSet set = new BitSet();
+            for (Part part : parts) {
+                set.or(part.chars);
+            }
+            return set;
+        }
+
+        @Override
+        boolean matchesEmpty() {
+            return Arrays.stream(alternatives).anyMatch(Part::matchesEmpty);
+        }
+
+        @Override
+        void unrank(long index, StringBuilder out) {
+            for (Part alternative : alternatives) {
+                if (index < alternative.size) {
+                    alternative.unrank(index, out);
+                    return;
+                }
+                index -= alternative.size;
+            }
+        }
+
+        @Override
+        long rank(CharSequence s, int from, int to) {
+            long offset = 0;
+            for (Part alternative : alternatives) {
+                final long index = alternative.rank(s, from, to);
+                if (index >= 0) {
+                    return Math.addExact(offset, index);
+                }
+                offset = Math.addExact(offset, alternative.size);
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Parts matched one after the other, numbered in mixed radix with the last part varying fastest.
+     */
+    private static final class Concat extends Part {
+        private final Part[] parts;
+        /** Length of the fixed-length parts after each part, or -1 when one of them varies. */
+        private final int[] fixedSuffix;
+
+        Concat(Part[] parts) {
+            super(sizeOf(parts), lengthOf(parts), Choice.charsOf(parts));
+            this.parts = parts;
+            this.fixedSuffix = new int[parts.length];
+            int suffix = 0;
+            for (int i = parts.length - 1; i >= 0; i--) {
+                fixedSuffix[i] = suffix;
+                if (parts[i].length < 0 && !delimited(i) && suffix < 0) {
+                    throw new IllegalArgumentException("Ambiguous pattern: a variable-length part may be followed by its own characters");
+                }
+                suffix = suffix < 0 || parts[i].length < 0 ? -1 : suffix + parts[i].length;
+            }
+        }
+
+        private static long sizeOf(Part[] parts) {
+            long total = 1;
+            for (Part part : parts) {
+                total = multiplySaturated(total, part.size);
+            }
+            return total;
+        }
+
+        private static int lengthOf(Part[] parts) {
+            int total = 0;
+            for (Part part : parts) {
+                if (part.length < 0) {
+                    return -1;
+                }
+                total += part.length;
+            }
+            return total;
+        }
+
+        /**
+         * Whether a variable-length part is followed by a part that cannot be empty and starts
+         * with a character the first one cannot contain, so that the first ends at the first
+         * character outside its own.
+         */
+        private boolean delimited(int i) {
+            if (i + 1 >= parts.length || parts[i + 1].matchesEmpty()) {
+                return false;
+            }
+            return parts[i + 1] instanceof Text next
+                    ? !parts[i].chars.get(next.text.charAt(0))
+                    : !parts[i].chars.intersects(parts[i + 1].chars);
+        }
+
+        @Override
+        boolean matchesEmpty() {
+            return Arrays.stream(parts).allMatch(Part::matchesEmpty);
+        }
+
+        @Override
+        void unrank(long index, StringBuilder out) {
+            final long[] digits = new long[parts.length];
+            for (int i = parts.length - 1; i >= 0; i--) {
+                digits[i] = index % parts[i].size;
+                index /= parts[i].size;
+            }
+            for (int i = 0; i < parts.length; i++) {
+                parts[i].unrank(digits[i], out);
+            }
+        }
+
+        @Override
+        long rank(CharSequence s, int from, int to) {
+            long index = 0;
+            int start = from;
+            for (int i = 0; i < parts.length; i++) {
+                final Part part = parts[i];
+                final int end;
+                if (part.length >= 0) {
+                    end = start + part.length;
+                } else if (delimited(i)) {
+                    end = endOf(s, part.chars, start, to);
+                } else {
+                    end = to - fixedSuffix[i];
+                }
+                if (end < start || end > to) {
+                    return -1;
+                }
+                final long digit = part.rank(s, start, end);
+                if (digit < 0) {
+                    return -1;
+                }
+                index = Math.addExact(Math.multiplyExact(index, part.size), digit);
+                start = end;
+            }
+            return start == to ? index : -1;
+        }
+
+        private static int endOf(CharSequence s, BitSet chars, int from, int to) {
+            int i = from;
+            while (i < to && chars.get(s.charAt(i))) {
+                i++;
+            }
+            return i;
+        }
+    }
+
+    /**
+     * A seeded bijection of {@code [0, size)}: a Feistel network over the smallest even number of
+     * bits covering the range, walking the cycle until the result falls inside it.
+     */
+    private static final class IndexPermutation {
+        private static final int ROUNDS = 4;
+
+        private final long size;
+        private final int half;
+        private final long mask;
+        private final long[] keys = new long[ROUNDS];
+
+        IndexPermutation(long size, long seed) {
+            this.size = size;
+            final int bits = size <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(size - 1);
+            this.half = Math.max(1, (bits + 1) / 2);
+            this.mask = (1L << half) - 1;
+            final SplittableRandom random = new SplittableRandom(seed);
+            for (int i = 0; i < ROUNDS; i++) {
+                keys[i] = random.nextLong();
+            }
+        }
+
+        long apply(long index) {
+            long value = encrypt(index);
+            while (Long.compareUnsigned(value, size) >= 0) {
+                value = encrypt(value);
+            }
+            return value;
+        }
+
+        private long encrypt(long value) {
+            long left = (value >>> half) & mask;
+            long right = value & mask;
+            for (long key : keys) {
+                final long next = left ^ (mix(right ^ key) & mask);
+                left = right;
+                right = next;
+            }
+            return (left << half) | right;
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+            z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+            return z ^ (z >>> 33);
+        }
+    }
+}
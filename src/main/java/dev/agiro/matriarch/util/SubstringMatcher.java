@@ -0,0 +1,152 @@
+package dev.agiro.matriarch.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Case-insensitive multi-keyword substring matcher (an Aho–Corasick automaton).
+ * <p>
+ * The keywords are compiled once; a text is then scanned in a single pass, whatever the number of
+ * keywords, without allocating unless a keyword is found. Keywords are identified by their index
+ * in the list given to the constructor.
+ */
+public final class SubstringMatcher {
+
+    private static final int[] NONE = new int[0];
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failure;
+    private final int[][] outputs;
+    private final int keywordCount;
+
+    public SubstringMatcher(List<String> keywords) {
+        final List<Map<Character, Integer>> children = new ArrayList<>();
+        final List<TreeSet<Integer>> found = new ArrayList<>();
+        children.add(new TreeMap<>());
+        found.add(new TreeSet<>());
+        for (int id = 0; id < keywords.size(); id++) {
+            int node = 0;
+            for (char c : keywords.get(id).toCharArray()) {
+                final Integer next = children.get(node).get(Character.toLowerCase(c));
+                if (next != null) {
+                    node = next;
+                } else {
+                    children.add(new TreeMap<>());
+                    found.add(new TreeSet<>());
+                    children.get(node).put(Character.toLowerCase(c), children.size() - 1);
+                    node = children.size() - 1;
+                }
+            }
+            found.get(node).add(id);
+        }
+
+        final int size = children.size();
+        this.keywordCount = keywords.size();
+        this.labels = new char[size][];
+        this.targets = new int[size][];
+        this.failure = new int[size];
+        this.outputs = new int[size][];
+        for (int node = 0; node < size; node++) {
+            final Map<Character, Integer> transitions = children.get(node);
+            labels[node] = new char[transitions.size()];
+            targets[node] = new int[transitions.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                labels[node][i] = transition.getKey();
+                targets[node][i++] = transition.getValue();
+            }
+        }
+
+        // Breadth-first, so the failure target of a node is complete before its children use it.
+        final Deque<Integer> pending = new ArrayDeque<>();
+        outputs[0] = toArray(found.get(0));
+        for (int child : targets[0]) {
+            failure[child] = 0;
+            pending.add(child);
+        }
+        while (!pending.isEmpty()) {
+            final int node = pending.poll();
+            found.get(node).addAll(found.get(failure[node]));
+            outputs[node] = toArray(found.get(node));
+            for (int i = 0; i < labels[node].length; i++) {
+                final int child = targets[node][i];
+                failure[child] = next(failure[node], labels[node][i]);
+                pending.add(child);
+            }
+        }
+    }
+
+    /**
+     * Whether the text contains at least one keyword.
+     */
+    public boolean containsAny(CharSequence text) {
+        if (outputs[0].length > 0) {
+            return true;
+        }
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            node = next(node, Character.toLowerCase(text.charAt(i)));
+            if (outputs[node].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The indexes of the keywords contained in the text, in ascending order.
+     */
+    public int[] matches(CharSequence text) {
+        boolean[] matched = null;
+        int count = 0;
+        int node = 0;
+        for (int i = -1; i < text.length(); i++) {
+            if (i >= 0) {
+                node = next(node, Character.toLowerCase(text.charAt(i)));
+            }
+            for (int id : outputs[node]) {
+                if (matched == null) {
+                    matched = new boolean[keywordCount];
+                }
+                if (!matched[id]) {
+                    matched[id] = true;
+                    count++;
+                }
+            }
+        }
+        if (count == 0) {
+            return NONE;
+        }
+        final int[] result = new int[count];
+        for (int id = 0, i = 0; i < count; id++) {
+            if (matched[id]) {
+                result[i++] = id;
+            }
+        }
+        return result;
+    }
+
+    private int next(int node, char c) {
+        while (true) {
+            final int i = Arrays.binarySearch(labels[node], c);
+            if (i >= 0) {
+                return targets[node][i];
+            }
+            if (node == 0) {
+                return 0;
+            }
+            node = failure[node];
+        }
+    }
+
+    private static int[] toArray(TreeSet<Integer> ids) {
+        return ids.isEmpty() ? NONE : ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
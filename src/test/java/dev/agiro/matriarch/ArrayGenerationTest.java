@@ -0,0 +1,173 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.Mother;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for array and {@link ByteBuffer} generation.
+ */
+class ArrayGenerationTest {
+
+    public static class Payload {
+        public byte[] blob;
+        public long[] histogram;
+        public double[] vector;
+        public int[] counts;
+        public boolean[] flags;
+        public char[] letters;
+        public short[] samples;
+        public float[] weights;
+        public String[] tags;
+        public Integer[] boxed;
+        public ByteBuffer buffer;
+    }
+
+    public static class Nested {
+        public int[][] matrix;
+        public Item[] items;
+        public List<long[]> series;
+    }
+
+    public static class Item {
+        public String name;
+        public byte small;
+        public short medium;
+    }
+
+    @Test
+    void testPrimitiveArraysAreGenerated() {
+        Payload payload = Mother.forClass(Payload.class).withCollectionSize(4).build();
+
+        assertEquals(4, payload.blob.length);
+        assertEquals(4, payload.histogram.length);
+        assertEquals(4, payload.vector.length);
+        assertEquals(4, payload.counts.length);
+        assertEquals(4, payload.flags.length);
+        assertEquals(4, payload.letters.length);
+        assertEquals(4, payload.samples.length);
+        assertEquals(4, payload.weights.length);
+        assertTrue(Arrays.stream(payload.counts).allMatch(i -> i >= 0));
+        assertTrue(Arrays.stream(payload.vector).allMatch(d -> d >= 0 && d < 1));
+    }
+
+    @Test
+    void testObjectArraysAreTyped() {
+        Payload payload = Mother.forClass(Payload.class).withCollectionSize(3).build();
+
+        assertEquals(String[].class, payload.tags.getClass());
+        assertEquals(3, payload.tags.length);
+        assertTrue(Arrays.stream(payload.tags).allMatch(s -> s != null && !s.isEmpty()));
+        assertEquals(Integer[].class, payload.boxed.getClass());
+    }
+
+    @Test
+    void testNestedArraysAndElementTypes() {
+        Nested nested = Mother.forClass(Nested.class).withCollectionSize(2).build();
+
+        assertEquals(2, nested.matrix.length);
+        assertEquals(2, nested.matrix[0].length);
+        assertEquals(Item[].class, nested.items.getClass());
+        assertNotNull(nested.items[0].name);
+        assertEquals(2, nested.series.size());
+        assertEquals(2, nested.series.get(0).length);
+    }
+
+    @Test
+    void testPerPathSizes() {
+        Payload payload = Mother.forClass(Payload.class)
+                .withCollectionSize(2)
+                .withCollectionSize("blob", 1024 * 1024)
+                .withCollectionSize("buffer", 100)
+                .withCollectionSize("tags", 0)
+                .build();
+
+        assertEquals(1024 * 1024, payload.blob.length);
+        assertEquals(100, payload.buffer.remaining());
+        assertEquals(0, payload.tags.length);
+        assertEquals(2, payload.histogram.length);
+    }
+
+    @Test
+    void testPerPathSizesOfNestedCollections() {
+        Nested nested = Mother.forClass(Nested.class)
+                .withCollectionSize(2)
+                .withCollectionSize("series", 5)
+                .withCollectionSize("series[1]", 7)
+                .build();
+
+        assertEquals(5, nested.series.size());
+        assertEquals(2, nested.series.get(0).length);
+        assertEquals(7, nested.series.get(1).length);
+    }
+
+    @Test
+    void testElementOverridesOfPrimitiveArrays() {
+        Payload payload = Mother.forClass(Payload.class)
+                .withCollectionSize("counts", 5)
+                .forField("counts[1]", 42)
+                .forField("blob[2]", 7)
+                .build();
+
+        assertEquals(5, payload.counts.length);
+        assertEquals(3, payload.blob.length);
+        assertEquals(42, payload.counts[1]);
+        assertEquals(7, payload.blob[2]);
+    }
+
+    @Test
+    void testWholeArrayOverride() {
+        long[] histogram = {1, 2, 3};
+        Payload payload = Mother.forClass(Payload.class)
+                .forField("histogram", histogram)
+                .build();
+
+        assertSame(histogram, payload.histogram);
+    }
+
+    @Test
+    void testSeededArraysAreReproducible() {
+        Payload first = Mother.forClass(Payload.class).withSeed(42).withCollectionSize(16).build();
+        Payload second = Mother.forClass(Payload.class).withSeed(42).withCollectionSize(16).build();
+
+        assertArrayEquals(first.blob, second.blob);
+        assertArrayEquals(first.histogram, second.histogram);
+        assertArrayEquals(first.vector, second.vector);
+        assertEquals(first.buffer, second.buffer);
+    }
+
+    @Test
+    void testHeapAndDirectBuffers() {
+        Payload heap = Mother.forClass(Payload.class).withCollectionSize("buffer", 13).build();
+        Payload direct = Mother.forClass(Payload.class)
+                .withCollectionSize("buffer", 13)
+                .withDirectByteBuffers()
+                .build();
+
+        assertFalse(heap.buffer.isDirect());
+        assertEquals(0, heap.buffer.position());
+        assertEquals(13, heap.buffer.limit());
+        assertTrue(direct.buffer.isDirect());
+        assertEquals(0, direct.buffer.position());
+        assertEquals(13, direct.buffer.limit());
+    }
+
+    @Test
+    void testByteAndShortFields() {
+        Item item = Mother.forClass(Item.class).forField("small", 3).build();
+
+        assertEquals(3, item.small);
+        assertTrue(item.medium >= 0);
+    }
+
+    @Test
+    void testNegativePathSizeIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> Mother.forClass(Payload.class).withCollectionSize("blob", -1));
+    }
+}
@@ -0,0 +1,79 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.domain.core.MotherTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for asynchronous generation on virtual threads and executors.
+ */
+class AsyncGenerationTest {
+
+    public static class Fixture {
+        public String name;
+        public int score;
+        public String thread;
+
+        String key() {
+            return name + "/" + score;
+        }
+    }
+
+    @Test
+    void testBuildAsyncRunsOnAVirtualThread() {
+        Fixture fixture = Mother.forClass(Fixture.class)
+                .forField("thread", () -> Thread.currentThread().isVirtual() ? "virtual" : "platform")
+                .buildAsync()
+                .join();
+
+        assertNotNull(fixture.name);
+        assertEquals("virtual", fixture.thread);
+    }
+
+    @Test
+    void testSeededBuildListAsyncIsDeterministic() {
+        Mother.Builder<Fixture> builder = Mother.forClass(Fixture.class).withSeed(11L);
+
+        List<String> async = builder.buildListAsync(500).join().stream().map(Fixture::key).toList();
+        List<String> sequential = builder.buildStream(500).map(Fixture::key).toList();
+
+        assertEquals(sequential, async);
+        assertEquals(sequential, builder.buildListAsync(500).join().stream().map(Fixture::key).toList());
+    }
+
+    @Test
+    void testGenerateIntoHandsEveryObjectToTheConsumer() throws Exception {
+        MotherTemplate<Fixture> template = Mother.forClass(Fixture.class).withSeed(5L).freeze();
+        Set<String> received = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            template.generateInto(executor, 300, fixture -> received.add(fixture.key())).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(Set.copyOf(template.buildStream(300).map(Fixture::key).toList()), received);
+    }
+
+    @Test
+    void testFailuresCompleteTheFutureExceptionally() {
+        var future = Mother.forClass(Fixture.class)
+                .forField("name", () -> {
+                    throw new IllegalStateException("boom");
+                })
+                .strict()
+                .buildListAsync(10);
+
+        assertThrows(CompletionException.class, future::join);
+        assertThrows(IllegalArgumentException.class, () -> Mother.forClass(Fixture.class).buildListAsync(-1));
+    }
+}
@@ -1,8 +1,13 @@
 package dev.agiro.matriarch;
 
+import dev.agiro.matriarch.domain.core.CircularDependencyDetector;
+import dev.agiro.matriarch.domain.core.CyclePolicy;
 import dev.agiro.matriarch.domain.core.Mother;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -47,6 +52,31 @@ class CircularDependencyTest {
         public void setA(A a) { this.a = a; }
     }
 
+    public static class Category {
+        public String name;
+        public Category parent;
+        public List<Category> children;
+    }
+
+    public static class Company {
+        public String name;
+        public Department department;
+    }
+
+    public static class Department {
+        public String name;
+        public Team team;
+    }
+
+    public static class Team {
+        public String name;
+        public Member lead;
+    }
+
+    public static class Member {
+        public String name;
+    }
+
     @Test
     void testSelfReferentialClass() {
         // Test that self-referential classes don't cause infinite loops
@@ -93,5 +123,105 @@ class CircularDependencyTest {
         assertNotNull(container.getValue());
         // Should handle deep nesting without stack overflow
     }
-}
 
+    @Test
+    void testReuseAncestorPolicyClosesTheCycle() {
+        A a = Mother.forClass(A.class).withCyclePolicy(CyclePolicy.REUSE_ANCESTOR).build();
+
+        assertNotNull(a.getB());
+        assertSame(a, a.getB().getA());
+    }
+
+    @Test
+    void testEmptyCollectionPolicy() {
+        Category category = Mother.forClass(Category.class)
+                .withCyclePolicy(CyclePolicy.EMPTY_COLLECTION)
+                .withCollectionSize(3)
+                .build();
+
+        assertNull(category.parent);
+        assertNotNull(category.children);
+        assertTrue(category.children.isEmpty());
+    }
+
+    @Test
+    void testNullPolicyKeepsNullElements() {
+        Category category = Mother.forClass(Category.class).withCollectionSize(2).build();
+
+        assertEquals(2, category.children.size());
+        assertNull(category.children.get(0));
+    }
+
+    @Test
+    void testMaxDepthTruncatesNestedObjects() {
+        Company company = Mother.forClass(Company.class).maxDepth(2).strict().build();
+
+        assertNotNull(company.name);
+        assertNotNull(company.department);
+        assertNotNull(company.department.name);
+        assertNull(company.department.team);
+    }
+
+    @Test
+    void testMaxDepthPerType() {
+        Company shallow = Mother.forClass(Company.class).maxDepth(Team.class, 2).build();
+        Company deep = Mother.forClass(Company.class).maxDepth(Team.class, 3).build();
+
+        assertNotNull(shallow.department);
+        assertNull(shallow.department.team);
+        assertNotNull(deep.department.team);
+        assertNotNull(deep.department.team.lead);
+    }
+
+    @Test
+    void testInvalidMaxDepth() {
+        assertThrows(IllegalArgumentException.class, () -> Mother.forClass(Company.class).maxDepth(0));
+    }
+
+    @Test
+    void testDetectorUsedOutsideABuild() {
+        CircularDependencyDetector detector = CircularDependencyDetector.getInstance();
+        try {
+            detector.push(A.class);
+            detector.push(B.class);
+
+            assertTrue(detector.isCircular(A.class));
+            assertEquals(2, detector.getDepth());
+
+            detector.pop(A.class);
+
+            assertFalse(detector.isCircular(A.class));
+            assertEquals(Set.of(B.class), detector.getCurrentStack());
+
+            detector.pop(B.class);
+
+            assertEquals(0, detector.getDepth());
+            assertTrue(detector.getCurrentStack().isEmpty());
+        } finally {
+            detector.clear();
+        }
+    }
+
+    @Test
+    void testExecuteWithDetectionStopsNestedCycles() {
+        CircularDependencyDetector detector = CircularDependencyDetector.getInstance();
+
+        String result = detector.executeWithDetection(A.class, () ->
+                detector.executeWithDetection(B.class, () ->
+                        detector.executeWithDetection(A.class, () -> "cycle not detected")));
+
+        assertNull(result);
+        assertEquals(0, detector.getDepth());
+    }
+
+    @Test
+    void testDetectorStackIsClearedOutsideABuild() {
+        CircularDependencyDetector detector = CircularDependencyDetector.getInstance();
+        detector.push(A.class);
+
+        detector.clear();
+
+        assertFalse(detector.isCircular(A.class));
+        assertEquals(0, detector.getDepth());
+    }
+}
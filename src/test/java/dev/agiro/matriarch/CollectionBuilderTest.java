@@ -3,8 +3,10 @@ package dev.agiro.matriarch;
 import dev.agiro.matriarch.domain.core.Mother;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -119,5 +121,63 @@ public class CollectionBuilderTest {
             assertEquals("John", person.getName());
         });
     }
-}
 
+    @Test
+    void testBuildStreamIsSizedAndSplittable() {
+        Spliterator<Person> spliterator = Mother.forClass(Person.class)
+                .buildStream(1000)
+                .spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(1000, spliterator.estimateSize());
+        Spliterator<Person> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(500, prefix.estimateSize());
+        assertEquals(500, spliterator.estimateSize());
+    }
+
+    @Test
+    void testSeededParallelStreamMatchesSequentialStream() {
+        Mother.Builder<Person> builder = Mother.forClass(Person.class).withSeed(42L);
+
+        List<String> sequential = builder.buildStream(2000).map(p -> p.getName() + "/" + p.getAge()).toList();
+        List<String> parallel = builder.buildStream(2000).parallel().map(p -> p.getName() + "/" + p.getAge()).toList();
+        List<String> template = builder.freeze().buildStream(2000).parallel().map(p -> p.getName() + "/" + p.getAge()).toList();
+
+        assertEquals(sequential, parallel);
+        assertEquals(sequential, template);
+        assertTrue(new HashSet<>(sequential).size() > 1900, "Elements should be seeded by their index");
+    }
+
+    @Test
+    void testBuildAtDependsOnlyOnSeedAndIndex() {
+        Mother.Builder<Person> builder = Mother.forClass(Person.class).withSeed(7L);
+        List<Person> stream = builder.buildStream(100).toList();
+
+        Person late = builder.buildAt(99);
+        Person early = Mother.forClass(Person.class).withSeed(7L).buildAt(3);
+        Person fromTemplate = builder.freeze().buildAt(99);
+
+        assertEquals(stream.get(99).getName(), late.getName());
+        assertEquals(stream.get(99).getAge(), late.getAge());
+        assertEquals(stream.get(3).getName(), early.getName());
+        assertEquals(late.getName(), fromTemplate.getName());
+        assertNotEquals(late.getName(), builder.buildAt(98).getName());
+        assertThrows(IllegalArgumentException.class, () -> builder.buildAt(-1));
+    }
+
+    @Test
+    void testSeededListsAndSetsHoldTheStreamObjects() {
+        Mother.Builder<Person> builder = Mother.forClass(Person.class).withSeed(1L);
+
+        List<String> stream = builder.buildStream(50).map(Person::getName).toList();
+        List<String> list = builder.buildList(50).stream().map(Person::getName).toList();
+        List<String> fromTemplate = builder.freeze().buildList(50).stream().map(Person::getName).toList();
+
+        assertEquals(stream, list);
+        assertEquals(stream, fromTemplate);
+        assertTrue(new HashSet<>(list).size() > 45, "Elements should be seeded by their index");
+        assertEquals(builder.buildSet(50).stream().map(Person::getName).collect(java.util.stream.Collectors.toSet()),
+                     new HashSet<>(stream));
+    }
+}
@@ -0,0 +1,111 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.domain.model.Overrider;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the Java Flight Recorder events of the generation pipeline.
+ */
+class GenerationEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    public static class Invoice {
+        public String number;
+        public int lines;
+        public Customer customer;
+    }
+
+    public static class Customer {
+        public String name;
+    }
+
+    public static final class Currency {
+        private final String code;
+
+        private Currency(String code) {
+            this.code = code;
+        }
+
+        public static Currency euro() {
+            return new Currency("EUR");
+        }
+
+        public String code() {
+            return code;
+        }
+    }
+
+    private List<RecordedEvent> record(Runnable generation) throws Exception {
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("Build", "Instantiate", "FieldGenerate", "RegexGenerate", "OverrideConversion")) {
+                recording.enable("dev.agiro.matriarch." + name).withThreshold(Duration.ZERO).withoutStackTrace();
+            }
+            recording.start();
+            generation.run();
+            recording.stop();
+            Path file = tempDir.resolve("generation.jfr");
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        }
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals("dev.agiro.matriarch." + name)).toList();
+    }
+
+    private static Predicate<RecordedEvent> coordinate(String coordinate) {
+        return event -> coordinate.equals(event.getString("coordinate"));
+    }
+
+    @Test
+    void testBuildsInstantiationsAndFieldsAreRecorded() throws Exception {
+        List<RecordedEvent> events = record(() -> Mother.forClass(Invoice.class)
+                .forField("number", Overrider.regex("INV-\\d{5}"))
+                .forField("lines", "7")
+                .withSeed(3)
+                .build());
+
+        RecordedEvent build = named(events, "Build").getFirst();
+        assertEquals(Invoice.class.getName(), build.getClass("type").getName());
+        assertTrue(build.getBoolean("seeded"));
+        assertEquals("success", build.getString("outcome"));
+
+        List<RecordedEvent> instantiations = named(events, "Instantiate");
+        assertTrue(instantiations.stream().anyMatch(coordinate("customer")));
+        assertTrue(instantiations.stream().allMatch(event -> "NO_ARGS_CONSTRUCTOR".equals(event.getString("instanceType"))));
+
+        List<RecordedEvent> fields = named(events, "FieldGenerate");
+        RecordedEvent name = fields.stream().filter(coordinate("customer.name")).findFirst().orElseThrow();
+        assertEquals(Customer.class.getName(), name.getClass("owner").getName());
+        assertEquals("STRING", name.getString("generator"));
+        assertEquals("success", name.getString("outcome"));
+
+        assertTrue(named(events, "RegexGenerate").stream().anyMatch(event -> "INV-\\d{5}".equals(event.getString("regex"))));
+        RecordedEvent conversion = named(events, "OverrideConversion").stream().filter(coordinate("lines")).findFirst().orElseThrow();
+        assertEquals(String.class.getName(), conversion.getClass("sourceType").getName());
+        assertEquals("success", conversion.getString("outcome"));
+    }
+
+    @Test
+    void testInstantiationPathIsRecorded() throws Exception {
+        List<RecordedEvent> events = record(() -> Mother.forClass(Currency.class).build());
+
+        RecordedEvent instantiation = named(events, "Instantiate").getFirst();
+        assertEquals("STATIC_METHOD", instantiation.getString("instanceType"));
+        assertEquals(Currency.class.getName(), instantiation.getClass("type").getName());
+    }
+}
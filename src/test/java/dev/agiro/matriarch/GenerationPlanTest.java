@@ -0,0 +1,79 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.domain.model.InstanceType;
+import dev.agiro.matriarch.generators.ClassPlan;
+import dev.agiro.matriarch.generators.ClazzGenerators;
+import dev.agiro.matriarch.object_samples.edgecases.ClassWithOverloadedConstructors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for compiled generation plans.
+ */
+class GenerationPlanTest {
+
+    public static class Order {
+        public String reference;
+        public int quantity;
+        public List<String> lines;
+        public Customer customer;
+    }
+
+    public static class Customer {
+        public String name;
+    }
+
+    @Test
+    @DisplayName("Class plans are compiled once per class")
+    void classPlanIsCached() {
+        assertSame(ClassPlan.of(Order.class), ClassPlan.of(Order.class));
+    }
+
+    @Test
+    @DisplayName("Field slots carry their statically resolved generator")
+    void fieldSlotsResolveGenerators() {
+        ClassPlan plan = ClassPlan.of(Order.class);
+
+        assertEquals(4, plan.fields().size());
+        assertEquals(ClazzGenerators.STRING, slot(plan, "reference").generator());
+        assertEquals(ClazzGenerators.INTEGER, slot(plan, "quantity").generator());
+        assertEquals(ClazzGenerators.LIST, slot(plan, "lines").generator());
+        assertEquals(ClazzGenerators.GENERIC, slot(plan, "customer").generator());
+        assertEquals("customer.name", ClassPlan.of(Customer.class).fields().get(0).coordinate("customer"));
+    }
+
+    @Test
+    @DisplayName("The plan chooses the public constructor with fewest parameters")
+    void planChoosesConstructor() {
+        ClassPlan plan = ClassPlan.of(ClassWithOverloadedConstructors.class);
+
+        assertNotNull(plan.constructor());
+        assertNull(plan.constructorFailure());
+        assertEquals(1, plan.constructor().getParameterCount());
+        assertEquals(InstanceType.CONSTRUCTOR, plan.constructorType());
+    }
+
+    @Test
+    @DisplayName("A reused builder picks up configuration changes made after a build")
+    void builderRecompilesAfterChanges() {
+        Mother.Builder<Order> builder = Mother.forClass(Order.class).forField("reference", "first");
+
+        assertEquals("first", builder.build().reference);
+        assertEquals("first", builder.buildList(3).get(2).reference);
+
+        builder.forField("reference", "second");
+        assertEquals("second", builder.build().reference);
+    }
+
+    private static ClassPlan.FieldSlot slot(ClassPlan plan, String name) {
+        return plan.fields().stream()
+                .filter(slot -> slot.name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
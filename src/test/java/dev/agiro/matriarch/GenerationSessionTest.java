@@ -0,0 +1,117 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.GenerationContext;
+import dev.agiro.matriarch.domain.core.GenerationSession;
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.domain.core.RandomSources;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for generation sessions.
+ */
+class GenerationSessionTest {
+
+    public static class Outer {
+        public Inner first;
+        public String afterNested;
+    }
+
+    public static class Inner {
+        public String value;
+    }
+
+    private static GenerationSession newSession(boolean strict) {
+        return new GenerationSession(RandomSources.create(null, 1L), 2, 2, strict, false);
+    }
+
+    @Test
+    void testFramesDetectCycles() {
+        GenerationSession session = newSession(false);
+
+        Object result = session.withFrame(Outer.class, () -> {
+            assertTrue(session.isCircular(Outer.class));
+            assertFalse(session.isCircular(Inner.class));
+            assertEquals(1, session.getDepth());
+            return session.withFrame(Outer.class, () -> "nested");
+        });
+
+        assertNull(result);
+        assertEquals(0, session.getDepth());
+    }
+
+    @Test
+    void testForkCopiesStateForAnotherThread() throws Exception {
+        GenerationSession session = newSession(true);
+        session.enter(Outer.class);
+
+        GenerationSession fork = session.fork();
+        session.exit();
+
+        boolean seenOnOtherThread = CompletableFuture.supplyAsync(() -> fork.call(() ->
+                GenerationContext.getInstance().isStrictMode()
+                        && GenerationContext.getInstance().getSession() == fork
+                        && fork.isCircular(Outer.class))).get();
+
+        assertTrue(seenOnOtherThread);
+        assertNotSame(session.random(), fork.random());
+        assertEquals(2, fork.randomCollectionSize());
+    }
+
+    @Test
+    void testNestedBuildRestoresOuterSession() {
+        AtomicBoolean strictAfterNested = new AtomicBoolean();
+
+        Outer outer = Mother.forClass(Outer.class)
+                .strict()
+                .forField("first", () -> Mother.forClass(Inner.class).forField("value", "inner").build())
+                .forField("afterNested", () -> {
+                    strictAfterNested.set(GenerationContext.getInstance().isStrictMode());
+                    return "after";
+                })
+                .build();
+
+        assertEquals("inner", outer.first.value);
+        assertEquals("after", outer.afterNested);
+        assertTrue(strictAfterNested.get());
+    }
+
+    @Test
+    void testBuildLeavesNoSessionBound() throws Exception {
+        boolean strictLeftBehind = CompletableFuture.supplyAsync(() -> {
+            Mother.forClass(Inner.class).strict().build();
+            return GenerationContext.getInstance().isStrictMode();
+        }).get();
+
+        assertFalse(strictLeftBehind);
+    }
+
+    @Test
+    void testSessionOutsideABuildIsNotBound() throws Exception {
+        boolean bound = CompletableFuture.supplyAsync(
+                () -> GenerationSession.current() == GenerationSession.current()).get();
+
+        assertFalse(bound);
+    }
+
+    @Test
+    void testForksUseTheConfiguredAlgorithm() {
+        GenerationSession session = new GenerationSession(GenerationContext.Config.builder()
+                                                                  .randomAlgorithm("Xoroshiro128PlusPlus")
+                                                                  .build());
+        GenerationSession secure = new GenerationSession(GenerationContext.Config.builder()
+                                                                 .randomAlgorithm(RandomSources.SECURE_RANDOM)
+                                                                 .build());
+
+        assertEquals("Xoroshiro128PlusPlus", session.random().getClass().getSimpleName());
+        assertEquals("Xoroshiro128PlusPlus", session.fork(1L).random().getClass().getSimpleName());
+        assertEquals("Xoroshiro128PlusPlus", session.fork().random().getClass().getSimpleName());
+        assertInstanceOf(SecureRandom.class, secure.fork(1L).random());
+        assertInstanceOf(SecureRandom.class, secure.fork().random());
+    }
+}
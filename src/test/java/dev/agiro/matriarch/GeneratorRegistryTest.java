@@ -0,0 +1,126 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.generators.AbstractGenerator;
+import dev.agiro.matriarch.generators.GeneratorProvider;
+import dev.agiro.matriarch.generators.GeneratorRegistry;
+import dev.agiro.matriarch.domain.model.Definition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for custom generators registered in the generator registry.
+ */
+class GeneratorRegistryTest {
+
+    public record Money(BigDecimal amount, String currency) {
+    }
+
+    public static class MoneyGeneratorProvider implements GeneratorProvider {
+        @Override
+        public void registerGenerators(GeneratorRegistry registry) {
+            registry.register(Money.class, session -> new Money(BigDecimal.valueOf(session.random().nextInt(100)), "EUR"));
+        }
+    }
+
+    public interface Shape {
+    }
+
+    public static class Circle implements Shape {
+        public int radius;
+    }
+
+    public static class Square extends Circle {
+    }
+
+    public static class Drawing {
+        public Money price;
+        public Duration duration;
+        public Shape shape;
+        public Square square;
+        public List<Duration> durations;
+        public int layers;
+    }
+
+    public static class FixedCircleGenerator extends AbstractGenerator<Circle> {
+        public FixedCircleGenerator() {
+            super(Circle.class);
+        }
+
+        @Override
+        public Circle generate(Definition supplierInput) {
+            Circle circle = new Square();
+            circle.radius = 3;
+            return circle;
+        }
+    }
+
+    @AfterEach
+    void unregister() {
+        GeneratorRegistry.global().unregister(Duration.class);
+        GeneratorRegistry.global().unregister(Shape.class);
+        GeneratorRegistry.global().unregister(Circle.class);
+        GeneratorRegistry.global().unregister(int.class);
+    }
+
+    @Test
+    void testProvidersAreDiscovered() {
+        Drawing drawing = Mother.forClass(Drawing.class).build();
+
+        assertNotNull(drawing.price);
+        assertEquals("EUR", drawing.price.currency());
+    }
+
+    @Test
+    void testProgrammaticRegistration() {
+        GeneratorRegistry.global().register(Duration.class, session -> Duration.ofSeconds(session.random().nextInt(60)));
+
+        Drawing drawing = Mother.forClass(Drawing.class).withCollectionSize(3).build();
+
+        assertNotNull(drawing.duration);
+        assertTrue(drawing.duration.getSeconds() < 60);
+        assertEquals(3, drawing.durations.size());
+        assertTrue(drawing.durations.stream().allMatch(duration -> duration.getSeconds() < 60));
+    }
+
+    @Test
+    void testGeneratorsApplyToSubtypesAndImplementations() {
+        GeneratorRegistry.global().register(Shape.class, session -> new Circle());
+        GeneratorRegistry.global().register(Circle.class, new FixedCircleGenerator());
+
+        Drawing drawing = Mother.forClass(Drawing.class).build();
+
+        assertInstanceOf(Circle.class, drawing.shape);
+        assertEquals(3, drawing.square.radius);
+        assertNotNull(GeneratorRegistry.global().find(Square.class));
+        assertNull(GeneratorRegistry.global().find(String.class));
+    }
+
+    @Test
+    void testOverridesTakePrecedenceOverCustomGenerators() {
+        GeneratorRegistry.global().register(Duration.class, session -> Duration.ZERO);
+
+        Drawing drawing = Mother.forClass(Drawing.class)
+                .forField("duration", () -> Duration.ofDays(1))
+                .build();
+
+        assertEquals(Duration.ofDays(1), drawing.duration);
+    }
+
+    @Test
+    void testCustomGeneratorsReplaceBuiltInOnes() {
+        GeneratorRegistry.global().register(int.class, session -> 5);
+
+        assertEquals(5, Mother.forClass(Drawing.class).build().layers);
+
+        GeneratorRegistry.global().unregister(int.class);
+
+        assertNull(GeneratorRegistry.global().find(int.class));
+    }
+}
@@ -1,17 +1,34 @@
 package dev.agiro.matriarch;
 
+import dev.agiro.matriarch.domain.core.Mother;
 import dev.agiro.matriarch.domain.model.Overrider;
+import dev.agiro.matriarch.junit.MotherExtension;
 import dev.agiro.matriarch.junit.annotations.OverrideField;
+import dev.agiro.matriarch.util.JsonOverrides;
 import dev.agiro.matriarch.util.OverrideUtils;
+import org.apiguardian.api.API;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.platform.commons.JUnitException;
+import org.opentest4j.TestAbortedException;
+import org.yaml.snakeyaml.Yaml;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * Edge-case coverage for {@link OverrideUtils} and the JSON-based
+ * Edge-case coverage for {@link OverrideUtils}, {@link JsonOverrides} and the JSON-based
  * override path.
  *
  * <p>Notably this exercises the array-index path: the JSON flattener
@@ -39,7 +56,7 @@ class JsonOverrideEdgeCaseTest {
         String json = """
                 { "name": "Ada", "age": 42, "active": true }
                 """;
-        Map<String, Overrider> m = OverrideUtils.flattenJsonNodes(new com.fasterxml.jackson.databind.ObjectMapper().readTree(json));
+        Map<String, Overrider> m = JsonOverrides.flatten(new com.fasterxml.jackson.databind.ObjectMapper().readTree(json));
         assertEquals(3, m.size());
         assertEquals("Ada", m.get("name").value());
         assertEquals(Overrider.OverriderType.STRING, m.get("name").type());
@@ -55,7 +72,7 @@ class JsonOverrideEdgeCaseTest {
         String json = """
                 { "user": { "address": { "city": "Paris" } } }
                 """;
-        Map<String, Overrider> m = OverrideUtils.flattenJsonNodes(new com.fasterxml.jackson.databind.ObjectMapper().readTree(json));
+        Map<String, Overrider> m = JsonOverrides.flatten(new com.fasterxml.jackson.databind.ObjectMapper().readTree(json));
         assertEquals(1, m.size());
         assertEquals("Paris", m.get("user.address.city").value());
     }
@@ -69,7 +86,7 @@ class JsonOverrideEdgeCaseTest {
         String json = """
                 { "items": ["a", "b", "c"] }
                 """;
-        Map<String, Overrider> m = OverrideUtils.flattenJsonNodes(new com.fasterxml.jackson.databind.ObjectMapper().readTree(json));
+        Map<String, Overrider> m = JsonOverrides.flatten(new com.fasterxml.jackson.databind.ObjectMapper().readTree(json));
         assertTrue(m.containsKey("items[0]"), "expected items[0] but got " + m.keySet());
         assertTrue(m.containsKey("items[1]"));
         assertTrue(m.containsKey("items[2]"));
@@ -119,10 +136,81 @@ class JsonOverrideEdgeCaseTest {
     @Test
     @DisplayName("invalid JSON throws ParameterResolutionException")
     void invalidJsonThrows() {
-        assertThrows(org.junit.jupiter.api.extension.ParameterResolutionException.class,
+        assertThrows(ParameterResolutionException.class,
                 () -> OverrideUtils.computeOverrideDefinitions(new OverrideField[0], "{not valid", true));
     }
 
+    @Test
+    @DisplayName("@Mother parameters resolve without Jackson unless they use jsonOverrides")
+    void extensionWorksWithoutJackson() throws Exception {
+        URL[] classPath = {
+                Mother.class.getProtectionDomain().getCodeSource().getLocation(),
+                JsonOverrideEdgeCaseTest.class.getProtectionDomain().getCodeSource().getLocation(),
+                Yaml.class.getProtectionDomain().getCodeSource().getLocation(),
+                ParameterContext.class.getProtectionDomain().getCodeSource().getLocation(),
+                JUnitException.class.getProtectionDomain().getCodeSource().getLocation(),
+                TestAbortedException.class.getProtectionDomain().getCodeSource().getLocation(),
+                API.class.getProtectionDomain().getCodeSource().getLocation()};
+        try (URLClassLoader loader = new URLClassLoader(classPath, ClassLoader.getPlatformClassLoader())) {
+            assertThrows(ClassNotFoundException.class, () -> loader.loadClass("com.fasterxml.jackson.databind.ObjectMapper"));
+
+            @SuppressWarnings("unchecked")
+            Supplier<String> withoutJackson = (Supplier<String>) loader.loadClass(ExtensionWithoutJackson.class.getName())
+                    .getConstructor().newInstance();
+            String result = withoutJackson.get();
+
+            assertTrue(result.startsWith("Ada | "), result);
+            assertTrue(result.contains("jackson-databind"), result);
+        }
+    }
+
+    /**
+     * Resolves {@code @Mother} parameters with {@link MotherExtension} in a class loader without
+     * Jackson, see {@link #extensionWorksWithoutJackson()}.
+     */
+    public static class ExtensionWithoutJackson implements Supplier<String> {
+
+        public static class Person {
+            public String name;
+        }
+
+        public void parameters(@dev.agiro.matriarch.junit.annotations.Mother(overrides = @OverrideField(field = "name", value = "Ada")) Person plain,
+                               @dev.agiro.matriarch.junit.annotations.Mother(jsonOverrides = "{\"name\": \"Grace\"}") Person json) {
+        }
+
+        @Override
+        public String get() {
+            try {
+                Parameter[] parameters = getClass().getMethod("parameters", Person.class, Person.class).getParameters();
+                MotherExtension extension = new MotherExtension();
+                ExtensionContext extensionContext = proxy(ExtensionContext.class, (proxy, method, args) -> switch (method.getName()) {
+                    case "getTestClass" -> Optional.of(ExtensionWithoutJackson.class);
+                    default -> InvocationHandler.invokeDefault(proxy, method, args);
+                });
+                Person plain = (Person) extension.resolveParameter(parameterContext(parameters[0]), extensionContext);
+                try {
+                    extension.resolveParameter(parameterContext(parameters[1]), extensionContext);
+                    return plain.name + " | resolved jsonOverrides without Jackson";
+                } catch (ParameterResolutionException e) {
+                    return plain.name + " | " + e.getMessage();
+                }
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static ParameterContext parameterContext(Parameter parameter) {
+            return proxy(ParameterContext.class, (proxy, method, args) -> switch (method.getName()) {
+                case "getParameter" -> parameter;
+                default -> InvocationHandler.invokeDefault(proxy, method, args);
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+    }
+
     @Test
     @DisplayName("isRegex flag wins over the 'type' property when set")
     void isRegexFlagBeatsType() {
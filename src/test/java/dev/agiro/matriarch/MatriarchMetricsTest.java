@@ -0,0 +1,134 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.MatriarchMetrics;
+import dev.agiro.matriarch.domain.core.MatriarchMetrics.Counter;
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.domain.exception.MatriarchInstantiationException;
+import dev.agiro.matriarch.domain.model.Overrider;
+import dev.agiro.matriarch.util.RegexGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the generation metrics and their MXBean.
+ */
+class MatriarchMetricsTest {
+
+    public static class Line {
+        public String sku;
+        public int quantity;
+    }
+
+    public static class Order {
+        public String reference;
+        public String email;
+        public List<Line> lines;
+    }
+
+    public static class Broken {
+        private Broken() {
+        }
+
+        public static Broken create() {
+            throw new IllegalStateException("unavailable");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        MatriarchMetrics.reset();
+        MatriarchMetrics.enable();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MatriarchMetrics.disable();
+        MatriarchMetrics.reset();
+    }
+
+    @Test
+    void testBuildsObjectsAndFieldsAreRecorded() {
+        Mother.forClass(Order.class)
+                .withCollectionSize(3)
+                .forField("reference", Overrider.regex("ORD-\\d{6}"))
+                .buildList(4);
+
+        MatriarchMetrics.Snapshot snapshot = MatriarchMetrics.snapshot();
+        assertEquals(4, snapshot.builds());
+        assertTrue(snapshot.buildNanos() > 0);
+        assertEquals(4, snapshot.objectsBuilt().get(Order.class.getName()));
+        assertEquals(12, snapshot.objectsBuilt().get(Line.class.getName()));
+        assertEquals(12, snapshot.fields().get("lines[].sku").count());
+        assertEquals(4, snapshot.fields().get("reference").count());
+        assertTrue(snapshot.generators().containsKey("STRING"));
+        assertTrue(snapshot.generators().containsKey("LIST"));
+        assertEquals(4, snapshot.count(Counter.KNOWN_PATTERN_HIT));
+        assertFalse(snapshot.slowestFields(1).isEmpty());
+    }
+
+    @Test
+    void testAllocatedBytesArePerBuild() {
+        Mother.forClass(Order.class).buildList(10);
+
+        MatriarchMetrics.Snapshot snapshot = MatriarchMetrics.snapshot();
+        assertTrue(snapshot.allocatedBytes() > 0);
+        assertEquals(snapshot.allocatedBytes() / 10, snapshot.allocatedBytesPerBuild());
+    }
+
+    @Test
+    void testFallbacksAndCachesAreCounted() {
+        RegexGenerator.compile("metrics-[a-z]{4}-" + System.nanoTime());
+        RegexGenerator.compile("metrics-[a-z]{4}");
+        RegexGenerator.compile("metrics-[a-z]{4}");
+        assertThrows(MatriarchInstantiationException.class, () -> Mother.forClass(Broken.class).build());
+
+        MatriarchMetrics.Snapshot snapshot = MatriarchMetrics.snapshot();
+        assertTrue(snapshot.count(Counter.REGEX_CACHE_HIT) >= 1);
+        assertTrue(snapshot.count(Counter.REGEX_COMPILATION) >= 1);
+        assertTrue(snapshot.regexCacheHitRatio() > 0 && snapshot.regexCacheHitRatio() < 1);
+        assertEquals(1, snapshot.count(Counter.STATIC_FACTORY_FALLBACK));
+        assertEquals(1, snapshot.count(Counter.INSTANTIATION_FAILURE));
+    }
+
+    @Test
+    void testNothingIsRecordedWhenDisabled() {
+        MatriarchMetrics.disable();
+        Mother.forClass(Order.class).buildList(3);
+
+        MatriarchMetrics.Snapshot snapshot = MatriarchMetrics.snapshot();
+        assertEquals(0, snapshot.builds());
+        assertTrue(snapshot.objectsBuilt().isEmpty());
+        assertTrue(snapshot.fields().isEmpty());
+        assertTrue(Double.isNaN(snapshot.reflectionCacheHitRatio()));
+    }
+
+    @Test
+    void testMXBeanExposesTheMetrics() throws Exception {
+        Mother.forClass(Order.class).buildList(2);
+        var server = ManagementFactory.getPlatformMBeanServer();
+        var name = new ObjectName(MatriarchMetrics.OBJECT_NAME);
+
+        assertTrue(server.isRegistered(name));
+        assertEquals(2L, server.getAttribute(name, "Builds"));
+        assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+        assertNotNull(server.getAttribute(name, "Counters"));
+        server.invoke(name, "reset", new Object[0], new String[0]);
+        assertEquals(0L, server.getAttribute(name, "Builds"));
+    }
+
+    @Test
+    void testCollectionIndexesAreDroppedFromCoordinates() {
+        Mother.forClass(Order.class).withCollectionSize(2).build();
+
+        Map<String, MatriarchMetrics.Timing> fields = MatriarchMetrics.snapshot().fields();
+        assertTrue(fields.keySet().stream().noneMatch(path -> path.matches(".*\\[\\d+].*")), fields.keySet().toString());
+    }
+}
@@ -0,0 +1,96 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.MemberAccessors;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the MethodHandle-based member accessors.
+ */
+class MemberAccessorsTest {
+
+    static class Target {
+        private String name;
+        private int count;
+        private final String constant = "fixed";
+
+        Target() {}
+
+        private Target(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        public Target setCount(int count) {
+            this.count = count;
+            return this;
+        }
+
+        static Target create() {
+            return new Target("created", 1);
+        }
+    }
+
+    @Test
+    void testFieldWriterAssignsPrivateFields() throws Exception {
+        Target target = new Target();
+
+        MemberAccessors.fieldWriter(Target.class.getDeclaredField("name")).orElseThrow().write(target, "written");
+        MemberAccessors.fieldWriter(Target.class.getDeclaredField("count")).orElseThrow().write(target, 7);
+
+        assertEquals("written", target.name);
+        assertEquals(7, target.count);
+    }
+
+    @Test
+    void testFinalFieldsHaveNoWriter() throws Exception {
+        assertTrue(MemberAccessors.fieldWriter(Target.class.getDeclaredField("constant")).isEmpty());
+    }
+
+    @Test
+    void testWriterRejectsNullForPrimitive() throws Exception {
+        var writer = MemberAccessors.fieldWriter(Target.class.getDeclaredField("count")).orElseThrow();
+
+        assertThrows(NullPointerException.class, () -> writer.write(new Target(), null));
+    }
+
+    @Test
+    void testPrimitiveFieldWriterAssignsWithoutBoxing() throws Exception {
+        Target target = new Target();
+        var writer = MemberAccessors.primitiveFieldWriter(Target.class.getDeclaredField("count")).orElseThrow();
+
+        writer.writeInt(target, 11);
+
+        assertEquals(int.class, writer.type());
+        assertEquals(11, target.count);
+        assertThrows(java.lang.invoke.WrongMethodTypeException.class, () -> writer.writeLong(target, 1L));
+    }
+
+    @Test
+    void testReferenceFieldsHaveNoPrimitiveWriter() throws Exception {
+        assertTrue(MemberAccessors.primitiveFieldWriter(Target.class.getDeclaredField("name")).isEmpty());
+    }
+
+    @Test
+    void testSetterWriterDiscardsReturnValue() throws Exception {
+        Target target = new Target();
+
+        MemberAccessors.setterWriter(Target.class.getMethod("setCount", int.class)).orElseThrow().write(target, 3);
+
+        assertEquals(3, target.count);
+    }
+
+    @Test
+    void testConstructorAndFactoryInvokers() throws Exception {
+        var constructor = Target.class.getDeclaredConstructor(String.class, int.class);
+        Target constructed = (Target) MemberAccessors.constructorInvoker(constructor).orElseThrow()
+                .invoke(new Object[]{"built", 2});
+        Target created = (Target) MemberAccessors.staticMethodInvoker(Target.class.getDeclaredMethod("create")).orElseThrow()
+                .invoke(new Object[0]);
+
+        assertEquals("built", constructed.name);
+        assertEquals(2, constructed.count);
+        assertEquals("created", created.name);
+    }
+}
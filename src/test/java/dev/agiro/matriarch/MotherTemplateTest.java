@@ -0,0 +1,81 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.domain.core.MotherTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for frozen builder templates.
+ */
+class MotherTemplateTest {
+
+    public static class Ticket {
+        public String status;
+        public String owner;
+        public List<String> tags;
+    }
+
+    @Test
+    @DisplayName("A template is not affected by later changes to its builder")
+    void templateIsIsolatedFromBuilder() {
+        Mother.Builder<Ticket> builder = Mother.forClass(Ticket.class).forField("status", "OPEN");
+        MotherTemplate<Ticket> template = builder.freeze();
+
+        builder.forField("status", "CLOSED");
+
+        assertEquals("OPEN", template.build().status);
+        assertEquals("CLOSED", builder.build().status);
+        assertEquals(Ticket.class, template.getTargetClass());
+    }
+
+    @Test
+    @DisplayName("Forked builders derive variants without changing the template")
+    void forkDerivesVariants() {
+        MotherTemplate<Ticket> template = Mother.forClass(Ticket.class)
+                .forField("status", "OPEN")
+                .withCollectionSize(2)
+                .template();
+
+        Ticket variant = template.fork().forField("owner", "alice").build();
+        Ticket original = template.build();
+
+        assertEquals("OPEN", variant.status);
+        assertEquals("alice", variant.owner);
+        assertEquals(2, variant.tags.size());
+        assertNotEquals("alice", original.owner);
+    }
+
+    @Test
+    @DisplayName("Seeded templates are reproducible across threads")
+    void templateIsSharedAcrossThreads() throws Exception {
+        MotherTemplate<Ticket> template = Mother.forClass(Ticket.class).withSeed(7L).freeze();
+        List<Ticket> expected = template.buildList(25);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Ticket>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> template.buildList(25)));
+            }
+            for (Future<List<Ticket>> future : futures) {
+                List<Ticket> tickets = future.get();
+                for (int i = 0; i < tickets.size(); i++) {
+                    assertEquals(expected.get(i).status, tickets.get(i).status);
+                    assertEquals(expected.get(i).owner, tickets.get(i).owner);
+                    assertEquals(expected.get(i).tags, tickets.get(i).tags);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.domain.model.OverrideNode;
+import dev.agiro.matriarch.domain.model.Overrider;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the override trie compiled from override coordinates.
+ */
+class OverrideNodeTest {
+
+    public static class Team {
+        public String name;
+        public List<Member> members;
+        public Map<String, Integer> scores;
+    }
+
+    public static class Member {
+        public String nickname;
+    }
+
+    @Test
+    void testCompilesFieldAndElementSegments() {
+        Map<String, Overrider> overrides = new LinkedHashMap<>();
+        overrides.put("name", Overrider.with("red"));
+        overrides.put("members[2].nickname", Overrider.with("ace"));
+        overrides.put("members[1]", Overrider.nullValue());
+        overrides.put("scores[a.b]", Overrider.with("3"));
+
+        OverrideNode root = OverrideNode.compile(overrides);
+
+        assertEquals("red", root.field("name").value().value());
+        assertEquals("ace", root.field("members").element(2).field("nickname").value().value());
+        assertEquals(2, root.field("members").indexedSize());
+        assertEquals(List.of("a.b"), root.field("scores").elementKeys());
+        assertSame(root.field("members").element(2), root.at("members[2]"));
+        assertSame(OverrideNode.EMPTY, root.field("missing").element(0).field("deeper"));
+    }
+
+    @Test
+    void testEmptyOverridesCompileToEmptyNode() {
+        assertSame(OverrideNode.EMPTY, OverrideNode.compile(Map.of()));
+        assertFalse(OverrideNode.EMPTY.hasValue());
+        assertEquals(0, OverrideNode.EMPTY.indexedSize());
+    }
+
+    @Test
+    void testNestedOverridesAreAppliedThroughTheTrie() {
+        Team team = Mother.forClass(Team.class)
+                .forField("name", "blue")
+                .forField("members[1].nickname", "second")
+                .forField("members[2]", Mother.forClass(Member.class).forField("nickname", "third").build())
+                .forField("scores[goals]", 4)
+                .build();
+
+        assertEquals("blue", team.name);
+        assertEquals(3, team.members.size());
+        assertEquals("second", team.members.get(1).nickname);
+        assertEquals("third", team.members.get(2).nickname);
+        assertEquals(Map.of("goals", 4), team.scores);
+    }
+}
@@ -0,0 +1,124 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.Mother;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for parallel generation of large collection fields.
+ */
+class ParallelCollectionsTest {
+
+    public static class Item {
+        static final Set<String> THREADS = ConcurrentHashMap.newKeySet();
+
+        public String sku;
+        public int quantity;
+
+        public Item() {
+            THREADS.add(Thread.currentThread().getName());
+        }
+    }
+
+    public static class Catalog {
+        public String name;
+        public List<Item> items;
+        public Set<String> tags;
+        public Map<String, Integer> stock;
+        public Item[] featured;
+    }
+
+    public static class Node {
+        public String name;
+        public List<Node> children;
+    }
+
+    private static Catalog seededCatalog() {
+        return Mother.forClass(Catalog.class)
+                .withSeed(42)
+                .withCollectionSize(2_000)
+                .withParallelCollections(100)
+                .build();
+    }
+
+    @Test
+    void testLargeCollectionsAreGeneratedCompletely() {
+        Catalog catalog = seededCatalog();
+
+        assertEquals(2_000, catalog.items.size());
+        assertEquals(2_000, catalog.featured.length);
+        assertFalse(catalog.tags.isEmpty());
+        assertFalse(catalog.stock.isEmpty());
+        assertTrue(catalog.items.stream().allMatch(item -> item != null && item.sku != null));
+        assertThrows(UnsupportedOperationException.class, () -> catalog.items.add(new Item()));
+    }
+
+    @Test
+    void testSeededParallelBuildsAreReproducible() {
+        Catalog first = seededCatalog();
+        Catalog second = seededCatalog();
+
+        assertEquals(first.name, second.name);
+        for (int i = 0; i < first.items.size(); i++) {
+            assertEquals(first.items.get(i).sku, second.items.get(i).sku);
+            assertEquals(first.items.get(i).quantity, second.items.get(i).quantity);
+            assertEquals(first.featured[i].sku, second.featured[i].sku);
+        }
+        assertEquals(first.tags, second.tags);
+        assertEquals(first.stock, second.stock);
+    }
+
+    @Test
+    void testElementsAreGeneratedOnSeveralThreads() {
+        Item.THREADS.clear();
+        Catalog catalog = Mother.forClass(Catalog.class)
+                .withCollectionSize(5_000)
+                .withParallelCollections(10)
+                .build();
+
+        assertEquals(5_000, catalog.items.size());
+        if (Runtime.getRuntime().availableProcessors() > 1) {
+            assertTrue(Item.THREADS.size() > 1, Item.THREADS.toString());
+        }
+    }
+
+    @Test
+    void testSmallCollectionsStaySequential() {
+        Item.THREADS.clear();
+        Mother.forClass(Catalog.class)
+                .withCollectionSize(5)
+                .withParallelCollections()
+                .build();
+
+        assertEquals(Set.of(Thread.currentThread().getName()), Item.THREADS);
+    }
+
+    @Test
+    void testCyclesAreDetectedInsideParallelElements() {
+        Node sequential = Mother.forClass(Node.class).withCollectionSize(200).build();
+        Node parallel = Mother.forClass(Node.class)
+                .withCollectionSize(200)
+                .withParallelCollections(50)
+                .build();
+
+        assertEquals(200, parallel.children.size());
+        assertEquals(shape(sequential.children), shape(parallel.children));
+    }
+
+    private static List<Boolean> shape(List<Node> nodes) {
+        return nodes.stream().map(node -> node == null).toList();
+    }
+
+    @Test
+    void testThresholdMustBePositive() {
+        Mother.Builder<Catalog> builder = Mother.forClass(Catalog.class);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.withParallelCollections(0));
+    }
+}
@@ -0,0 +1,30 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.generators.AbstractGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the background pre-initialization of patterns and converters.
+ */
+class PreinitializationTest {
+
+    public static class Contact {
+        public String email;
+    }
+
+    @Test
+    void testPreinitializationRunsOnceInTheBackground() throws Exception {
+        CompletableFuture<Void> first = Mother.preinitialize();
+
+        assertSame(first, Mother.preinitialize());
+        first.get(30, TimeUnit.SECONDS);
+        assertTrue(AbstractGenerator.preloadPatterns() > 0);
+        assertTrue(Mother.forClass(Contact.class).build().email.contains("@"));
+    }
+}
@@ -0,0 +1,90 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.GenerationSession;
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.domain.core.RandomSources;
+import dev.agiro.matriarch.generators.IntegerGenerator;
+import dev.agiro.matriarch.generators.PrimitiveGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the population of primitive fields through the primitive generator contracts.
+ */
+class PrimitiveFieldsTest {
+
+    public static class Tick {
+        public int quantity;
+        public long sequence;
+        public double price;
+        public float weight;
+        public boolean buy;
+        public char side;
+        public byte venue;
+        public short lot;
+        public Integer boxedQuantity;
+    }
+
+    public static class Address {
+        public String street;
+        public int zipCode;
+    }
+
+    @Test
+    void testAllPrimitiveFieldsAreGenerated() {
+        List<Tick> ticks = Mother.forClass(Tick.class).buildList(50);
+
+        assertTrue(ticks.stream().anyMatch(tick -> tick.sequence != 0));
+        assertTrue(ticks.stream().anyMatch(tick -> tick.price != 0));
+        assertTrue(ticks.stream().anyMatch(tick -> tick.weight != 0));
+        assertTrue(ticks.stream().anyMatch(tick -> tick.buy));
+        assertTrue(ticks.stream().allMatch(tick -> tick.quantity >= 0 && tick.lot >= 0));
+        assertTrue(ticks.stream().allMatch(tick -> tick.side >= 'a' && tick.side <= 'z'));
+        assertTrue(ticks.stream().allMatch(tick -> tick.boxedQuantity != null));
+    }
+
+    @Test
+    void testOverridesOfPrimitiveFieldsStillApply() {
+        Tick tick = Mother.forClass(Tick.class)
+                .forField("quantity", 12)
+                .forField("price", () -> 1.5)
+                .forType(long.class, () -> 99L)
+                .build();
+
+        assertEquals(12, tick.quantity);
+        assertEquals(1.5, tick.price);
+        assertEquals(99L, tick.sequence);
+    }
+
+    @Test
+    void testKnownPatternsOfPrimitiveFieldsStillApply() {
+        List<Address> addresses = Mother.forClass(Address.class).buildList(20);
+
+        assertTrue(addresses.stream().allMatch(address -> address.zipCode <= 99_999),
+                   "zipCode pattern applies");
+    }
+
+    @Test
+    void testSeededPrimitiveFieldsAreReproducible() {
+        Tick first = Mother.forClass(Tick.class).withSeed(7).build();
+        Tick second = Mother.forClass(Tick.class).withSeed(7).build();
+
+        assertEquals(first.quantity, second.quantity);
+        assertEquals(first.sequence, second.sequence);
+        assertEquals(first.price, second.price);
+        assertEquals(first.side, second.side);
+    }
+
+    @Test
+    void testBoxedAndPrimitiveContractsAgree() {
+        IntegerGenerator generator = new IntegerGenerator();
+        GenerationSession first = new GenerationSession(RandomSources.create(null, 3L), 1, 1, false, false);
+        GenerationSession second = new GenerationSession(RandomSources.create(null, 3L), 1, 1, false, false);
+
+        assertInstanceOf(PrimitiveGenerator.OfInt.class, generator);
+        assertEquals(generator.generateInt(first), generator.generateInt(second));
+    }
+}
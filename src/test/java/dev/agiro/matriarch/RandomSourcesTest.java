@@ -0,0 +1,76 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.GenerationContext;
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.domain.core.RandomSources;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the pluggable random generator.
+ */
+class RandomSourcesTest {
+
+    public static class Sample {
+        public String name;
+        public int count;
+        public List<Long> values;
+    }
+
+    @AfterEach
+    void clearProperty() {
+        System.clearProperty(RandomSources.ALGORITHM_PROPERTY);
+    }
+
+    @Test
+    void testDefaultAlgorithmIsNotSecureRandom() {
+        assertEquals(RandomSources.DEFAULT_ALGORITHM, RandomSources.defaultAlgorithm());
+        assertFalse(RandomSources.create() instanceof SecureRandom);
+        assertFalse(GenerationContext.getInstance().getRandomGenerator() instanceof SecureRandom);
+    }
+
+    @Test
+    void testSystemPropertySelectsAlgorithm() {
+        System.setProperty(RandomSources.ALGORITHM_PROPERTY, "Xoshiro256PlusPlus");
+
+        assertEquals("Xoshiro256PlusPlus", RandomSources.defaultAlgorithm());
+        assertEquals("Xoshiro256PlusPlus", RandomSources.create().getClass().getSimpleName());
+    }
+
+    @Test
+    void testSeededGeneratorsAreReproducible() {
+        RandomGenerator first = RandomSources.create("L64X128MixRandom", 42L);
+        RandomGenerator second = RandomSources.create("L64X128MixRandom", 42L);
+        RandomGenerator secureFirst = RandomSources.create(RandomSources.SECURE_RANDOM, 42L);
+        RandomGenerator secureSecond = RandomSources.create(RandomSources.SECURE_RANDOM, 42L);
+
+        assertEquals(first.nextLong(), second.nextLong());
+        assertEquals(secureFirst.nextLong(), secureSecond.nextLong());
+        assertInstanceOf(SecureRandom.class, secureFirst);
+    }
+
+    @Test
+    void testBuilderUsesSelectedAlgorithm() {
+        Sample first = Mother.forClass(Sample.class).withRandomAlgorithm("Xoshiro256PlusPlus").withSeed(9L).build();
+        Sample second = Mother.forClass(Sample.class).withRandomAlgorithm("Xoshiro256PlusPlus").withSeed(9L).build();
+        Sample secure = Mother.forClass(Sample.class).withSecureRandom().build();
+
+        assertEquals(first.name, second.name);
+        assertEquals(first.count, second.count);
+        assertEquals(first.values, second.values);
+        assertNotNull(secure.name);
+    }
+
+    @Test
+    void testUnknownAlgorithmIsRejected() {
+        Mother.Builder<Sample> builder = Mother.forClass(Sample.class);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.withRandomAlgorithm("NoSuchRandom"));
+    }
+}
@@ -4,9 +4,13 @@ import dev.agiro.matriarch.domain.core.ReflectionCache;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,6 +39,9 @@ class ReflectionCacheTest {
         }
     }
 
+    record Point(int x, int y) {
+    }
+
     @AfterEach
     void cleanup() {
         // Clean cache after each test
@@ -153,5 +160,57 @@ class ReflectionCacheTest {
         List<Field> fields2 = cache.getFields(Child.class);
         assertSame(fields, fields2);
     }
-}
 
+    @Test
+    void testMissingSettersAreCached() {
+        ReflectionCache cache = ReflectionCache.getInstance();
+
+        assertTrue(cache.getSetterMethod(TestClass.class, "field2").isEmpty());
+        assertTrue(cache.getSetterMethod(TestClass.class, "field2").isEmpty());
+        assertTrue(cache.getSetterMethod(TestClass.class, "field1").isPresent());
+
+        ReflectionCache.Footprint footprint = cache.footprint();
+        assertEquals(1, footprint.classes());
+        assertEquals(1, footprint.setters());
+        assertEquals(1, footprint.missingSetters());
+    }
+
+    @Test
+    void testRecordComponentsAndFootprint() {
+        ReflectionCache cache = ReflectionCache.getInstance();
+
+        List<RecordComponent> components = cache.getRecordComponents(Point.class);
+        cache.getFields(Point.class);
+        cache.getConstructors(TestClass.class);
+
+        assertEquals(List.of("x", "y"), components.stream().map(RecordComponent::getName).toList());
+        assertTrue(cache.getRecordComponents(TestClass.class).isEmpty());
+        assertTrue(cache.metadata(Point.class).isOpen());
+        assertEquals(new ReflectionCache.Footprint(2, 2, 2, 0, 2, 0, 0), cache.footprint());
+
+        cache.clearForClass(Point.class);
+        assertEquals(1, cache.footprint().classes());
+    }
+
+    @Test
+    void testClassesOfDiscardedClassLoadersAreNotPinned() throws Exception {
+        URL testClasses = TestClass.class.getProtectionDomain().getCodeSource().getLocation();
+        URLClassLoader loader = new URLClassLoader(new URL[]{testClasses}, ClassLoader.getPlatformClassLoader());
+        Class<?> isolated = loader.loadClass(TestClass.class.getName());
+        assertNotSame(TestClass.class, isolated);
+        assertEquals(2, ReflectionCache.getInstance().getFields(isolated).size());
+        assertTrue(ReflectionCache.getInstance().getSetterMethod(isolated, "field1").isPresent());
+
+        WeakReference<Class<?>> reference = new WeakReference<>(isolated);
+        isolated = null;
+        loader.close();
+        loader = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertNull(reference.get(), "The cache must not keep the class loaded");
+        assertEquals(0, ReflectionCache.getInstance().footprint().classes());
+    }
+}
@@ -4,6 +4,9 @@ import dev.agiro.matriarch.util.RegexGenerator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class RegexGeneratorTest {
@@ -71,11 +74,11 @@ class RegexGeneratorTest {
     @Test
     @DisplayName("Should generate word-like strings for \\w with quantifiers")
     void testWordGeneration() {
-        // Test \w{5,10} generates a word-like string
+        // Test \w{3,5} generates a word of three to five characters
         String result1 = RegexGenerator.generate("\\w{3,5}");
         assertNotNull(result1);
-        assertTrue(result1.length() >= 5 && result1.length() <= 10, "Generated: " + result1);
-        assertTrue(result1.matches("\\w{5,10}"), "Generated: " + result1);
+        assertTrue(result1.length() >= 3 && result1.length() <= 5, "Generated: " + result1);
+        assertTrue(result1.matches("\\w{3,5}"), "Generated: " + result1);
 
         // Test \w+ generates word-like string
         String result2 = RegexGenerator.generate("\\w+");
@@ -98,5 +101,35 @@ class RegexGeneratorTest {
         assertEquals(1, result.length(), "Generated: " + result);
         assertTrue(result.matches("\\w"), "Generated: " + result);
     }
-}
 
+    @Test
+    @DisplayName("Should reuse the compiled program of a pattern")
+    void testCompiledProgramIsCached() {
+        RegexGenerator.Program program = RegexGenerator.compile("[A-Z]{3}-\\d{4}");
+        assertSame(program, RegexGenerator.compile("[A-Z]{3}-\\d{4}"));
+        assertSame(RegexGenerator.compile(""), RegexGenerator.compile(null));
+    }
+
+    @Test
+    @DisplayName("Compiled program should append to a builder and match generate")
+    void testCompiledProgramGeneratesLikeGenerate() {
+        String regex = "(ab|cd){2,3}[x-z]+\\w{4}";
+        StringBuilder out = new StringBuilder("id:");
+        RegexGenerator.compile(regex).generate(new SplittableRandom(42), out);
+
+        assertEquals("id:" + RegexGenerator.generate(regex, new SplittableRandom(42)), out.toString());
+        assertTrue(out.substring(3).matches("((ab|cd){2,3})[x-z]+\\w{4}"), "Generated: " + out);
+    }
+
+    @Test
+    void testQuantifiersNegatedClassesAndClassEscapes() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 200; i++) {
+            for (String regex : List.of("\\w{4}", "\\w{1,3}", "[^a-z]{6}", "[\\w.-]{8}", "[\\d\\-]{5}", "\\W\\D\\S")) {
+                String generated = RegexGenerator.generate(regex, random);
+                assertTrue(generated.matches(regex), regex + " generated " + generated);
+            }
+        }
+        assertEquals(4, RegexGenerator.generate("\\w{4}", random).length());
+    }
+}
@@ -0,0 +1,153 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.domain.core.MotherTemplate;
+import dev.agiro.matriarch.domain.exception.MatriarchInstantiationException;
+import dev.agiro.matriarch.domain.model.Overrider;
+import dev.agiro.matriarch.util.RegexLanguage;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for ranked regex languages and unique regex overrides.
+ */
+class RegexLanguageTest {
+
+    public static class Order {
+        public String id;
+        public Long number;
+    }
+
+    @Test
+    void testIndexesMapToStringsAndBack() {
+        RegexLanguage ids = RegexLanguage.of("A\\d{10}");
+
+        assertEquals(10_000_000_000L, ids.size());
+        assertEquals("A0000000000", ids.generateAt(0));
+        assertEquals("A0000000042", ids.generateAt(42));
+        assertEquals("A9999999999", ids.generateAt(ids.size() - 1));
+        assertEquals(1_234_567_890L, ids.indexOf("A1234567890"));
+        assertEquals(-1, ids.indexOf("B1234567890"));
+        assertEquals(-1, ids.indexOf("A123"));
+        assertThrows(IndexOutOfBoundsException.class, () -> ids.generateAt(ids.size()));
+    }
+
+    @Test
+    void testStreamEnumeratesEveryMatchOnce() {
+        RegexLanguage codes = RegexLanguage.of("(ORD|INV)-[a-c]{1,2}");
+        List<String> all = codes.stream().toList();
+
+        assertEquals(24, codes.size());
+        assertEquals(24, new HashSet<>(all).size());
+        assertEquals("ORD-a", all.get(0));
+        assertEquals("INV-cc", all.get(23));
+        for (int i = 0; i < all.size(); i++) {
+            assertTrue(all.get(i).matches("(ORD|INV)-[a-c]{1,2}"), all.get(i));
+            assertEquals(i, codes.indexOf(all.get(i)));
+        }
+    }
+
+    @Test
+    void testVariableLengthPartsFollowedByOtherCharacters() {
+        RegexLanguage emails = RegexLanguage.of("[a-z]{2,4}@[a-z]{2}\\.com");
+        RegexLanguage codes = RegexLanguage.of("[A-Z]{1,2}\\d{1,3}");
+
+        String email = emails.generateAt(123_456);
+        assertTrue(email.matches("[a-z]{2,4}@[a-z]{2}\\.com"), email);
+        assertEquals(123_456, emails.indexOf(email));
+        assertEquals(codes.size() - 1, codes.indexOf("ZZ999"));
+    }
+
+    @Test
+    void testUnboundedOrAmbiguousPatternsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> RegexLanguage.of("\\d+"));
+        assertThrows(IllegalArgumentException.class, () -> RegexLanguage.of("[a-z]{3,}"));
+        assertThrows(IllegalArgumentException.class, () -> RegexLanguage.of("a?a?"));
+        assertThrows(IllegalArgumentException.class, () -> RegexLanguage.of("(a|[ab])"));
+    }
+
+    @Test
+    void testHugeLanguagesAreIndexedUpToLongMaxValue() {
+        RegexLanguage tokens = RegexLanguage.of("[a-zA-Z0-9]{5,15}");
+
+        assertEquals(Long.MAX_VALUE, tokens.size());
+        String last = tokens.generateAt(Long.MAX_VALUE - 1);
+        assertTrue(last.matches("[a-zA-Z0-9]{5,15}"), last);
+        assertEquals(987_654_321L, tokens.indexOf(tokens.generateAt(987_654_321L)));
+    }
+
+    @Test
+    void testUniqueGoesThroughTheWholeLanguageWithoutRepeating() {
+        RegexLanguage.Unique values = RegexLanguage.of("[a-f]\\d{3}").unique(7);
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 6000; i++) {
+            assertTrue(seen.add(values.next()));
+        }
+        assertEquals(0, values.remaining());
+        assertThrows(IllegalStateException.class, values::next);
+    }
+
+    @Test
+    void testUniqueOrderDependsOnTheSeed() {
+        RegexLanguage language = RegexLanguage.of("\\d{6}");
+        RegexLanguage.Unique first = language.unique(1);
+        RegexLanguage.Unique same = language.unique(1);
+        RegexLanguage.Unique other = language.unique(2);
+
+        List<String> values = List.of(first.next(), first.next(), first.next());
+        assertEquals(values, List.of(same.next(), same.next(), same.next()));
+        assertNotEquals(values, List.of(other.next(), other.next(), other.next()));
+    }
+
+    @Test
+    void testUniqueRegexOverrideNeverRepeatsAcrossBuilds() {
+        MotherTemplate<Order> orders = Mother.forClass(Order.class)
+                .forField("id", Overrider.regex("A\\d{3}").unique())
+                .forField("number", Overrider.regex("\\d{3}").unique(42L))
+                .freeze();
+
+        List<Order> built = orders.buildList(1000);
+
+        assertEquals(1000, built.stream().map(o -> o.id).collect(Collectors.toSet()).size());
+        assertEquals(1000, built.stream().map(o -> o.number).collect(Collectors.toSet()).size());
+        assertTrue(built.stream().allMatch(o -> o.id.matches("A\\d{3}")));
+        assertNull(orders.build().id);
+    }
+
+    @Test
+    void testExhaustedUniqueRegexOverrideFailsInStrictMode() {
+        Mother.Builder<Order> orders = Mother.forClass(Order.class)
+                .forField("id", Overrider.regex("[ab]").unique())
+                .strict();
+
+        orders.build();
+        orders.build();
+        assertThrows(MatriarchInstantiationException.class, orders::build);
+    }
+
+    @Test
+    void testRandomAndUniqueRegexOverridesAgreeOnLength() {
+        List<Order> random = Mother.forClass(Order.class)
+                .forField("id", Overrider.regex("\\w{3}"))
+                .buildList(50);
+        List<Order> unique = Mother.forClass(Order.class)
+                .forField("id", Overrider.regex("\\w{3}").unique())
+                .buildList(50);
+
+        assertTrue(random.stream().allMatch(o -> o.id.length() == 3 && o.id.matches("\\w{3}")));
+        assertTrue(unique.stream().allMatch(o -> o.id.length() == 3 && o.id.matches("\\w{3}")));
+        assertEquals(3, RegexLanguage.of("\\w{3}").generateAt(0).length());
+    }
+
+    @Test
+    void testOnlyBoundedRegexOverridesCanBeUnique() {
+        assertThrows(IllegalStateException.class, () -> Overrider.with("A1").unique());
+        assertThrows(IllegalArgumentException.class, () -> Overrider.regex("A\\d+").unique());
+    }
+}
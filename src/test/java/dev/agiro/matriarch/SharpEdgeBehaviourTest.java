@@ -67,8 +67,6 @@ class SharpEdgeBehaviourTest {
         public String[] tags;
     }
 
-    @Disabled("Sharp edge: ARRAY entry in ClazzGenerators is commented out, "
-            + "so array fields are populated as null instead of being generated.")
     @Test
     @DisplayName("[GAP] String[] fields should be populated, not left as null")
     void arraysShouldBePopulated() {
@@ -0,0 +1,70 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.util.SubstringMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the multi-keyword substring matcher used to index known patterns.
+ */
+class SubstringMatcherTest {
+
+    public static class Ticket {
+        public Integer luckyNumber;
+    }
+
+    @Test
+    void testFindsEveryContainedKeyword() {
+        SubstringMatcher matcher = new SubstringMatcher(List.of("he", "she", "his", "hers"));
+
+        assertArrayEquals(new int[]{0, 1, 3}, matcher.matches("ushers"));
+        assertArrayEquals(new int[]{2}, matcher.matches("this"));
+        assertArrayEquals(new int[0], matcher.matches("xyz"));
+    }
+
+    @Test
+    void testMatchingIsCaseInsensitive() {
+        SubstringMatcher matcher = new SubstringMatcher(List.of("phoneNumber", "id"));
+
+        assertArrayEquals(new int[]{0, 1}, matcher.matches("customer.PHONENUMBER.id"));
+        assertTrue(matcher.containsAny("user.Identifier"));
+        assertFalse(matcher.containsAny("user.name"));
+    }
+
+    @Test
+    void testOverlappingKeywordsThroughFailureLinks() {
+        SubstringMatcher matcher = new SubstringMatcher(List.of("plantId", "id", "tid"));
+
+        assertArrayEquals(new int[]{0, 1, 2}, matcher.matches("factory.plantId"));
+        assertArrayEquals(new int[]{1}, matcher.matches("items[0].idx"));
+    }
+
+    @Test
+    void testEmptyKeywordMatchesEverything() {
+        SubstringMatcher matcher = new SubstringMatcher(List.of("", "zip"));
+
+        assertArrayEquals(new int[]{0}, matcher.matches("street"));
+        assertTrue(matcher.containsAny(""));
+    }
+
+    @Test
+    void testNoKeywords() {
+        SubstringMatcher matcher = new SubstringMatcher(List.of());
+
+        assertFalse(matcher.containsAny("anything"));
+        assertEquals(0, matcher.matches("anything").length);
+    }
+
+    @Test
+    void testRandomPatternValuesThatDoNotConvertAreOnlySkippedForTheDraw() {
+        // The test pattern "luckyNumber" is "(\\d{2}|xx)": about half of its values are not numbers.
+        List<Ticket> tickets = Mother.forClass(Ticket.class).buildList(200);
+
+        assertTrue(tickets.subList(100, 200).stream().anyMatch(ticket -> ticket.luckyNumber < 100),
+                   "the pattern must still be used after values that did not convert");
+    }
+}
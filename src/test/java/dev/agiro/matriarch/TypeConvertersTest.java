@@ -0,0 +1,164 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.domain.core.Regex;
+import dev.agiro.matriarch.generators.TypeConverters;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the conversion of override and pattern values to field types.
+ */
+class TypeConvertersTest {
+
+    public enum Status {OPEN, CLOSED}
+
+    public record Celsius(double degrees) {
+    }
+
+    public static class Reading {
+        public int count;
+        public Long total;
+        public BigDecimal amount;
+        public LocalDate day;
+        public Status status;
+        public Celsius temperature;
+        public List<String> labels;
+    }
+
+    /**
+     * Builds and converts values in a class loader without Jackson, see
+     * {@link #testCoreWorksWithoutJackson()}.
+     */
+    public static class WithoutJackson implements Supplier<String> {
+        @Override
+        public String get() {
+            Reading reading = Mother.forClass(Reading.class)
+                    .forField("count", "1e3")
+                    .forField("day", "2024-02-29")
+                    .forField("status", 1)
+                    .build();
+            try {
+                TypeConverters.convert(Map.of("degrees", 21.5), Celsius.class);
+                return "converted without Jackson";
+            } catch (IllegalArgumentException e) {
+                return reading.count + " " + reading.day + " " + reading.status + " " + e.getMessage();
+            }
+        }
+    }
+
+    @Test
+    void testStringsToScalarAndTimeTypes() {
+        assertEquals(30, TypeConverters.convert("30", int.class));
+        assertEquals(30L, TypeConverters.convert(" 30 ", Long.class));
+        assertEquals(new BigDecimal("12.50"), TypeConverters.convert("12.50", BigDecimal.class));
+        assertEquals(true, TypeConverters.convert("TRUE", boolean.class));
+        assertEquals('x', TypeConverters.convert("x", char.class));
+        assertEquals(LocalDate.of(2024, 2, 29), TypeConverters.convert("2024-02-29", LocalDate.class));
+        assertEquals(Duration.ofMinutes(5), TypeConverters.convert("PT5M", Duration.class));
+        assertEquals(Status.CLOSED, TypeConverters.convert("CLOSED", Status.class));
+        UUID uuid = UUID.randomUUID();
+        assertEquals(uuid, TypeConverters.convert(uuid.toString(), UUID.class));
+    }
+
+    @Test
+    void testNumbersBetweenNumericTypes() {
+        assertEquals(7L, TypeConverters.convert(7, long.class));
+        assertEquals(7, TypeConverters.convert(7L, Integer.class));
+        assertEquals(2.5f, TypeConverters.convert(2.5d, float.class));
+        assertEquals("42", TypeConverters.convert(42, String.class));
+        assertEquals(new BigDecimal("0.5"), TypeConverters.convert(0.5d, BigDecimal.class));
+    }
+
+    @Test
+    void testLenientScalarConversions() {
+        assertEquals(1, TypeConverters.convert("1.0", int.class));
+        assertEquals(1000L, TypeConverters.convert("1e3", long.class));
+        assertEquals((short) 3, TypeConverters.convert(3.0d, short.class));
+        assertEquals(true, TypeConverters.convert(1, boolean.class));
+        assertEquals(false, TypeConverters.convert(0L, Boolean.class));
+        assertEquals(Status.CLOSED, TypeConverters.convert(1, Status.class));
+    }
+
+    @Test
+    void testInstancesOfTheTargetAreReturnedAsTheyAre() {
+        List<String> labels = List.of("a");
+
+        assertSame(labels, TypeConverters.convert(labels, List.class));
+        assertNull(TypeConverters.convert(null, String.class));
+    }
+
+    @Test
+    void testUnconvertibleValuesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> TypeConverters.convert("abc", Integer.class));
+        assertThrows(IllegalArgumentException.class, () -> TypeConverters.convert(Long.MAX_VALUE, Integer.class));
+    }
+
+    @Test
+    void testRegisteredConverters() {
+        TypeConverters.register(String.class, Celsius.class, text -> new Celsius(Double.parseDouble(text.replace("C", ""))));
+
+        Reading reading = Mother.forClass(Reading.class).forField("temperature", "21.5C").build();
+
+        assertEquals(new Celsius(21.5), reading.temperature);
+    }
+
+    @Test
+    void testStringOverridesAreConvertedOncePerBuilder() {
+        Mother.Builder<Reading> builder = Mother.forClass(Reading.class)
+                .forField("count", "30")
+                .forField("total", "9000000000")
+                .forField("amount", "12.50")
+                .forField("day", "2024-02-29")
+                .forField("status", "OPEN");
+
+        Reading first = builder.build();
+        Reading second = builder.build();
+
+        assertEquals(30, first.count);
+        assertEquals(9_000_000_000L, first.total);
+        assertEquals(LocalDate.of(2024, 2, 29), first.day);
+        assertEquals(Status.OPEN, first.status);
+        assertSame(first.amount, second.amount);
+    }
+
+    @Test
+    void testRegexOverridesOnNumericFields() {
+        Reading reading = Mother.forClass(Reading.class)
+                .forField("count", new Regex("[1-9][0-9]{2}"))
+                .build();
+
+        assertTrue(reading.count >= 100 && reading.count <= 999);
+    }
+
+    @Test
+    void testCoreWorksWithoutJackson() throws Exception {
+        URL[] classPath = {
+                Mother.class.getProtectionDomain().getCodeSource().getLocation(),
+                TypeConvertersTest.class.getProtectionDomain().getCodeSource().getLocation(),
+                Yaml.class.getProtectionDomain().getCodeSource().getLocation()};
+        try (URLClassLoader loader = new URLClassLoader(classPath, ClassLoader.getPlatformClassLoader())) {
+            assertThrows(ClassNotFoundException.class, () -> loader.loadClass("com.fasterxml.jackson.databind.ObjectMapper"));
+
+            @SuppressWarnings("unchecked")
+            Supplier<String> withoutJackson = (Supplier<String>) loader.loadClass(WithoutJackson.class.getName())
+                    .getConstructor().newInstance();
+            String result = withoutJackson.get();
+
+            assertTrue(result.startsWith("1000 2024-02-29 CLOSED Cannot convert "), result);
+            assertTrue(result.contains("jackson-databind"), result);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package dev.agiro.matriarch;
+
+import dev.agiro.matriarch.domain.core.Mother;
+import dev.agiro.matriarch.domain.exception.MatriarchInstantiationException;
+import dev.agiro.matriarch.generators.ClassPlan;
+import org.junit.jupiter.api.Test;
+
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the instantiation and field write strategies remembered per class.
+ */
+class WriteStrategyTest {
+
+    public static class Legacy {
+        static final AtomicInteger factoryCalls = new AtomicInteger();
+
+        public String name;
+
+        public Legacy() {
+        }
+
+        public static Legacy create() {
+            factoryCalls.incrementAndGet();
+            throw new IllegalStateException("not configured");
+        }
+    }
+
+    /**
+     * The inherited fields of {@link Writer} are in a package that is not open, and have no setter.
+     */
+    public static class Sink extends Writer {
+        public String name;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Test
+    void testFailedStaticFactoryIsNotInvokedAgain() {
+        List<Legacy> built = Mother.forClass(Legacy.class).buildList(100);
+
+        assertEquals(100, built.size());
+        assertTrue(built.stream().allMatch(legacy -> legacy.name != null));
+        assertEquals(1, Legacy.factoryCalls.get());
+        assertTrue(ClassPlan.of(Legacy.class).noArgFactoryFailed());
+    }
+
+    @Test
+    void testStrategiesAreRememberedPerField() {
+        List<Sink> built = Mother.forClass(Sink.class).buildList(10);
+
+        assertTrue(built.stream().allMatch(sink -> sink.name != null));
+        for (ClassPlan.FieldSlot slot : ClassPlan.of(Sink.class).fields()) {
+            ClassPlan.WriteStrategy expected = slot.name().equals("name") ? ClassPlan.WriteStrategy.FIELD : ClassPlan.WriteStrategy.NONE;
+            if (slot.writable()) {
+                assertEquals(expected, slot.writeStrategy(), slot.name());
+            }
+        }
+        assertTrue(ClassPlan.of(Sink.class).fields().stream()
+                           .anyMatch(slot -> slot.writeStrategy() == ClassPlan.WriteStrategy.NONE));
+    }
+
+    @Test
+    void testSkippedFieldsStillFailInStrictMode() {
+        Mother.forClass(Sink.class).build();
+
+        assertThrows(MatriarchInstantiationException.class, () -> Mother.forClass(Sink.class).strict().build());
+    }
+}